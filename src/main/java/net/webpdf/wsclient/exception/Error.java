@@ -1,8 +1,11 @@
 package net.webpdf.wsclient.exception;
 
 import net.webpdf.wsclient.session.Session;
+import net.webpdf.wsclient.session.auth.material.token.SessionToken;
+import net.webpdf.wsclient.session.auth.store.SessionTokenStore;
 import net.webpdf.wsclient.session.connection.SessionContext;
 import net.webpdf.wsclient.session.connection.https.TLSContext;
+import net.webpdf.wsclient.session.pool.SessionPool;
 import net.webpdf.wsclient.session.rest.RestSession;
 import net.webpdf.wsclient.session.soap.SoapSession;
 import net.webpdf.wsclient.session.soap.documents.SoapDocument;
@@ -105,6 +108,35 @@ public enum Error {
      * The data handlers of a {@link SoapDocument} failed to close.
      */
     FAILED_TO_CLOSE_DATA_SOURCE(-13, "The data handlers of a {@link SoapDocument} failed to close."),
+    /**
+     * The digest of a downloaded document does not match the expected digest. The document may have been corrupted
+     * during the transfer and should be downloaded again.
+     */
+    INVALID_DOCUMENT_DIGEST(-14, "The digest of the downloaded document does not match the expected digest."),
+    /**
+     * A document has not been uploaded, because it would exceed the maximum number of files or the upload limit, that
+     * the webPDF server defines for the user of the session.
+     */
+    UPLOAD_LIMIT_EXCEEDED(-15, "The document exceeds the upload limits of the user."),
+    /**
+     * Reading or writing a {@link SessionToken} in a {@link SessionTokenStore} has failed. Please check whether the
+     * storage location is accessible.
+     */
+    TOKEN_STORE_FAILURE(-16, "Accessing the session token store failed."),
+    /**
+     * No {@link RestSession} of a {@link SessionPool} became available within the lease timeout. Please check whether
+     * all leases are closed, or consider raising the maximum number of pooled sessions.
+     */
+    SESSION_POOL_EXHAUSTED(-17, "No session could be leased from the session pool in time."),
+    /**
+     * A {@link RestSession} has been requested from a {@link SessionPool}, that has been closed already.
+     */
+    SESSION_POOL_CLOSED(-18, "The session pool has been closed."),
+    /**
+     * A {@link SessionPool} has been configured to establish {@link RestSession}s, that can not be pooled, such as
+     * {@link RestSession}s sharing a {@link SessionTokenStore}.
+     */
+    INVALID_SESSION_POOL_CONFIGURATION(-19, "The session pool configuration is invalid."),
 
     /**
      * <p>
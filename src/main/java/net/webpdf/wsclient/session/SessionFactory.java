@@ -1,15 +1,23 @@
 package net.webpdf.wsclient.session;
 
 import net.webpdf.wsclient.exception.ClientResultException;
+import net.webpdf.wsclient.session.auth.AbstractAuthenticationProvider;
 import net.webpdf.wsclient.session.auth.AnonymousAuthProvider;
 import net.webpdf.wsclient.session.auth.AuthProvider;
 import net.webpdf.wsclient.session.connection.SessionContext;
 import net.webpdf.wsclient.exception.Error;
 import net.webpdf.wsclient.exception.ResultException;
+import net.webpdf.wsclient.session.pool.AuthProviderSupplier;
+import net.webpdf.wsclient.session.pool.SessionPool;
+import net.webpdf.wsclient.session.pool.SessionPoolConfiguration;
+import net.webpdf.wsclient.session.rest.RestSession;
 import net.webpdf.wsclient.session.rest.RestWebServiceSession;
 import net.webpdf.wsclient.session.soap.SoapWebServiceSession;
+import net.webpdf.wsclient.webservice.WebServiceProtocol;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * <p>
  * The {@link SessionFactory} provides the means to create a {@link Session} of a matching type, establishing and
@@ -95,4 +103,51 @@ public final class SessionFactory {
         }
     }
 
+    /**
+     * <p>
+     * Creates a {@link SessionPool}, that keeps authenticated {@link RestSession}s with a webPDF server warm and grants
+     * exclusive access to them via leases.
+     * </p>
+     * <p>
+     * The {@link SessionPool} establishes each {@link RestSession} via {@link #createInstance(SessionContext,
+     * AuthProvider)}, using a {@link SessionContext} and an {@link AuthProvider} created by the given suppliers.
+     * </p>
+     * <p>
+     * <b>Be Aware:</b> Neither {@link SessionContext}, nor {@link AuthProvider} are required to serve multiple
+     * {@link Session}s at a time. The given suppliers are therefore expected to create a new {@link SessionContext}
+     * and {@link AuthProvider} each time they are called.
+     * </p>
+     * <p>
+     * <b>Be Aware:</b> The pooled {@link RestSession}s must not share a session token store, as they would resume the
+     * same session on the webPDF server and would delete each other´s documents, when they are returned. An
+     * {@link AuthProvider} using a session token store is therefore rejected.
+     * </p>
+     *
+     * @param sessionContextSupplier The supplier creating the {@link SessionContext} of each pooled {@link RestSession}.
+     * @param authProviderSupplier   The {@link AuthProviderSupplier} creating the {@link AuthProvider} of each pooled
+     *                               {@link RestSession}.
+     * @param configuration          The {@link SessionPoolConfiguration} defining size and lifecycle of the pool.
+     * @return The {@link SessionPool} managing the pooled {@link RestSession}s.
+     * @throws ResultException Shall be thrown in case establishing the initial {@link RestSession}s failed, or should
+     *                         an {@link AuthProvider} using a session token store be supplied.
+     */
+    public static <T_SESSION extends RestSession<?>> @NotNull SessionPool<T_SESSION> createPool(
+            @NotNull Supplier<SessionContext> sessionContextSupplier,
+            @NotNull AuthProviderSupplier authProviderSupplier,
+            @NotNull SessionPoolConfiguration configuration) throws ResultException {
+        return new SessionPool<>(() -> {
+            SessionContext sessionContext = sessionContextSupplier.get();
+            if (sessionContext.getWebServiceProtocol() != WebServiceProtocol.REST) {
+                throw new ClientResultException(Error.UNKNOWN_SESSION_TYPE);
+            }
+            AuthProvider authProvider = authProviderSupplier.createAuthProvider();
+            if (authProvider instanceof AbstractAuthenticationProvider &&
+                    ((AbstractAuthenticationProvider) authProvider).getSessionTokenStore() != null) {
+                throw new ClientResultException(Error.INVALID_SESSION_POOL_CONFIGURATION)
+                        .appendMessage("Pooled sessions must not share a session token store.");
+            }
+            return createInstance(sessionContext, authProvider);
+        }, configuration);
+    }
+
 }
\ No newline at end of file
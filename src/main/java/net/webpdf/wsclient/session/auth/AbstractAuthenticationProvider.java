@@ -5,23 +5,28 @@ import net.webpdf.wsclient.exception.ClientResultException;
 import net.webpdf.wsclient.exception.Error;
 import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.openapi.AuthLoginOptions;
-import net.webpdf.wsclient.session.DataFormat;
 import net.webpdf.wsclient.session.Session;
 import net.webpdf.wsclient.session.auth.material.AuthMaterial;
+import net.webpdf.wsclient.session.auth.material.AuthenticationMaterial;
 import net.webpdf.wsclient.session.auth.material.token.SessionToken;
+import net.webpdf.wsclient.session.auth.store.FileSessionTokenStore;
+import net.webpdf.wsclient.session.auth.store.SessionTokenStore;
 import net.webpdf.wsclient.session.connection.http.HttpMethod;
 import net.webpdf.wsclient.session.connection.http.HttpRestRequest;
+import net.webpdf.wsclient.session.connection.http.JsonHttpEntity;
 import net.webpdf.wsclient.session.rest.RestSession;
-import net.webpdf.wsclient.tools.SerializeHelper;
-import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
-import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.charset.StandardCharsets;
-import java.nio.charset.UnsupportedCharsetException;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -41,6 +46,16 @@ import java.util.concurrent.atomic.AtomicReference;
  * {@link Session}s at a time. It is expected to create a new {@link AuthProvider} for each existing
  * {@link Session}.
  * </p>
+ * <p>
+ * Logins and refreshes are executed single-flight: Only one request is sent to the webPDF server at a time, all other
+ * threads requiring fresh {@link AuthMaterial} in the meantime wait for and share the result of that request. Should
+ * background refreshes be activated via {@link #setBackgroundRefresh(boolean)}, the {@link SessionToken} is refreshed
+ * ahead of it´s expiry, so that requests do not have to wait for a refresh at all.
+ * </p>
+ * <p>
+ * Should a {@link SessionTokenStore} be set via {@link #setSessionTokenStore(SessionTokenStore)}, the
+ * {@link SessionToken}s are persisted and are resumed by subsequent {@link Session}s, instead of logging in again.
+ * </p>
  */
 public abstract class AbstractAuthenticationProvider implements AuthProvider {
 
@@ -48,8 +63,13 @@ public abstract class AbstractAuthenticationProvider implements AuthProvider {
     private static final @NotNull String REFRESH_PATH = "authentication/user/refresh/";
     private final @NotNull AuthMaterial initialAuthMaterial;
     private final @NotNull AtomicReference<AuthMaterial> authMaterial = new AtomicReference<>();
-    private final @NotNull AtomicBoolean updating = new AtomicBoolean(false);
     private final @NotNull AtomicReference<Session> session = new AtomicReference<>();
+    private static final @NotNull ScheduledThreadPoolExecutor REFRESH_SCHEDULER = createRefreshScheduler();
+    private final @NotNull Object updateLock = new Object();
+    private @Nullable CompletableFuture<AuthMaterial> update;
+    private @Nullable ScheduledFuture<?> scheduledRefresh;
+    private volatile boolean backgroundRefresh = false;
+    private volatile @Nullable SessionTokenStore sessionTokenStore;
 
     /**
      * <p>
@@ -131,7 +151,110 @@ public abstract class AbstractAuthenticationProvider implements AuthProvider {
     }
 
     /**
+     * Returns {@code true}, if the {@link SessionToken} shall be refreshed in the background, ahead of it´s expiry.
+     *
+     * @return {@code true}, if the {@link SessionToken} shall be refreshed in the background.
+     */
+    public boolean isBackgroundRefresh() {
+        return this.backgroundRefresh;
+    }
+
+    /**
+     * <p>
+     * Activates or deactivates the background refresh of the {@link SessionToken}. When activated, the
+     * {@link SessionToken} shall be refreshed shortly before it would be considered expired, according to it´s
+     * expiry time and the skew time of the {@link Session}, so that requests do not have to wait for a refresh.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The background refresh is scheduled, whenever a {@link SessionToken} has been provided by a
+     * login or refresh. Should the background refresh fail, the {@link SessionToken} will be refreshed on demand by
+     * the next request, as usual.
+     * </p>
+     *
+     * @param backgroundRefresh {@code true}, if the {@link SessionToken} shall be refreshed in the background.
+     * @return This {@link AbstractAuthenticationProvider} instance.
+     */
+    public @NotNull AbstractAuthenticationProvider setBackgroundRefresh(boolean backgroundRefresh) {
+        this.backgroundRefresh = backgroundRefresh;
+        if (!backgroundRefresh) {
+            cancelBackgroundRefresh();
+        } else {
+            Session session = getSession();
+            AuthMaterial authMaterial = getAuthMaterial();
+            if (session != null && authMaterial instanceof SessionToken) {
+                scheduleBackgroundRefresh(session, (SessionToken) authMaterial);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the {@link SessionTokenStore} persisting the {@link SessionToken}s of this {@link AuthProvider}, or
+     * {@code null}, if the {@link SessionToken}s are not persisted.
+     *
+     * @return The {@link SessionTokenStore}, or {@code null}.
+     */
+    public @Nullable SessionTokenStore getSessionTokenStore() {
+        return this.sessionTokenStore;
+    }
+
+    /**
+     * <p>
+     * Sets the {@link SessionTokenStore} persisting the {@link SessionToken}s of this {@link AuthProvider}, such as a
+     * {@link FileSessionTokenStore}. The {@link SessionToken}s are stored per webPDF server and user.
+     * </p>
+     * <p>
+     * Instead of logging in, a stored {@link SessionToken} is resumed, if it is still valid, or is refreshed, if it has
+     * expired. Should the refresh fail as well, a regular login is performed. Before refreshing a
+     * {@link SessionToken}, a newer {@link SessionToken} stored by another {@link Session} or process is adopted
+     * instead.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> A {@link RestSession} using a {@link SessionTokenStore} shall not log out when it is closed, so
+     * that it´s {@link SessionToken} remains valid for subsequent {@link Session}s. The {@link SessionToken} expires
+     * on the webPDF server as usual, if it is not resumed.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Failures of the {@link SessionTokenStore} do not cause the authentication to fail. The
+     * {@link SessionToken} is simply not resumed or not persisted in that case.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> All {@link Session}s of the same webPDF server and user resume the same {@link SessionToken}
+     * and therefore share their documents on the webPDF server. A {@link SessionTokenStore} can not be used for the
+     * {@link Session}s of a {@link net.webpdf.wsclient.session.pool.SessionPool}.
+     * </p>
+     *
+     * @param sessionTokenStore The {@link SessionTokenStore} to use, or {@code null}, if the {@link SessionToken}s
+     *                          shall not be persisted.
+     * @return This {@link AbstractAuthenticationProvider} instance.
+     */
+    public @NotNull AbstractAuthenticationProvider setSessionTokenStore(
+            @Nullable SessionTokenStore sessionTokenStore) {
+        this.sessionTokenStore = sessionTokenStore;
+        return this;
+    }
+
+    /**
+     * Cancels a scheduled background refresh of the {@link SessionToken}. Shall be called, when the {@link Session}
+     * is closed.
+     */
+    public void cancelBackgroundRefresh() {
+        synchronized (this.updateLock) {
+            if (this.scheduledRefresh != null) {
+                this.scheduledRefresh.cancel(false);
+                this.scheduledRefresh = null;
+            }
+        }
+    }
+
+    /**
+     * <p>
      * Refresh authorization {@link SessionToken} for an active {@link Session}.
+     * </p>
+     * <p>
+     * Should a login or refresh already be in progress, this shall wait for and return it´s result, instead of
+     * sending another request.
+     * </p>
      *
      * @param session The session to refresh the authorization for.
      * @return The {@link AuthMaterial} refreshed by this {@link AuthProvider}.
@@ -139,80 +262,334 @@ public abstract class AbstractAuthenticationProvider implements AuthProvider {
      */
     @Override
     public @NotNull AuthMaterial refresh(Session session) throws AuthResultException {
-        if (updating.get() || !(session instanceof RestSession)) {
+        if (!(session instanceof RestSession)) {
             return this.getAuthMaterial();
         }
 
-        if (!(getAuthMaterial() instanceof SessionToken)) {
+        AuthMaterial authMaterial = getAuthMaterial();
+        if (!(authMaterial instanceof SessionToken)) {
             return this.provide(session);
         }
 
+        return update(session, authMaterial);
+    }
+
+    /**
+     * <p>
+     * Login and provide authorization {@link SessionToken} for a {@link Session}.
+     * </p>
+     * <p>
+     * Should a login or refresh already be in progress, this shall wait for and return it´s result, instead of
+     * sending another request.
+     * </p>
+     *
+     * @param session The session to provide the authorization for.
+     * @return The {@link AuthMaterial} provided by this {@link AuthProvider}.
+     * @throws AuthResultException Shall be thrown, should the authentication/authorization fail for some reason.
+     */
+    protected @NotNull AuthMaterial login(@NotNull Session session) throws AuthResultException {
+        AuthMaterial authMaterial = getAuthMaterial();
+        if (!(session instanceof RestSession) || authMaterial instanceof SessionToken) {
+            return authMaterial;
+        }
+
+        return update(session, authMaterial);
+    }
+
+    /**
+     * <p>
+     * Replaces the given outdated {@link AuthMaterial} by requesting a {@link SessionToken} from the webPDF server.
+     * Shall refresh a {@link SessionToken} and shall login otherwise, or should the refresh be rejected.
+     * </p>
+     * <p>
+     * Only one request is sent at a time: Should an update already be in progress, the calling thread shall wait for
+     * it´s result. Should the given {@link AuthMaterial} already have been replaced by a completed update, the
+     * current {@link AuthMaterial} is returned without sending another request.
+     * </p>
+     *
+     * @param session              The session to update the authorization for.
+     * @param outdatedAuthMaterial The {@link AuthMaterial} the caller found to be outdated.
+     * @return The updated {@link AuthMaterial}.
+     * @throws AuthResultException Shall be thrown, should the authentication/authorization fail for some reason.
+     */
+    private @NotNull AuthMaterial update(@NotNull Session session, @NotNull AuthMaterial outdatedAuthMaterial)
+            throws AuthResultException {
+        CompletableFuture<AuthMaterial> update;
+        boolean updating = false;
+        synchronized (this.updateLock) {
+            if (this.update == null) {
+                if (getAuthMaterial() != outdatedAuthMaterial) {
+                    return getAuthMaterial();
+                }
+                this.update = new CompletableFuture<>();
+                updating = true;
+            }
+            update = this.update;
+        }
+
+        if (!updating) {
+            try {
+                return update.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof AuthResultException) {
+                    throw (AuthResultException) ex.getCause();
+                }
+                throw new AuthResultException(ex);
+            }
+        }
+
         try {
-            updating.set(true);
             this.session.set(session);
-            RestSession<?> restSession = (RestSession<?>) session;
+            // a newer session token may have been stored by another session or process.
+            AuthMaterial authMaterial = resumeStoredToken((RestSession<?>) session, outdatedAuthMaterial);
+            if (authMaterial == null && outdatedAuthMaterial instanceof SessionToken) {
+                try {
+                    authMaterial = requestRefresh((RestSession<?>) session, (SessionToken) outdatedAuthMaterial);
+                } catch (AuthResultException ex) {
+                    // the refresh token may have been revoked as well - a fresh login is attempted instead.
+                    authMaterial = requestLogin((RestSession<?>) session);
+                }
+            } else if (authMaterial == null) {
+                authMaterial = requestLogin((RestSession<?>) session);
+            }
+            setAuthMaterial(authMaterial);
+            if (authMaterial instanceof SessionToken) {
+                storeToken(session, (SessionToken) authMaterial);
+                scheduleBackgroundRefresh(session, (SessionToken) authMaterial);
+            }
+            update.complete(authMaterial);
+            return authMaterial;
+        } catch (AuthResultException | RuntimeException ex) {
+            update.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            synchronized (this.updateLock) {
+                this.update = null;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the {@link SessionToken} stored in the {@link SessionTokenStore} for the given {@link Session}, should it
+     * replace the given outdated {@link AuthMaterial}.
+     * </p>
+     * <p>
+     * A stored {@link SessionToken}, that is still valid, is returned, unless it is the outdated {@link AuthMaterial}
+     * itself. An expired stored {@link SessionToken} is refreshed, if a login would have to be performed otherwise.
+     * </p>
+     *
+     * @param session              The session to update the authorization for.
+     * @param outdatedAuthMaterial The {@link AuthMaterial} the caller found to be outdated.
+     * @return The {@link SessionToken} replacing the outdated {@link AuthMaterial}, or {@code null}, should no suitable
+     * {@link SessionToken} have been stored.
+     */
+    private @Nullable AuthMaterial resumeStoredToken(@NotNull RestSession<?> session,
+            @NotNull AuthMaterial outdatedAuthMaterial) {
+        SessionTokenStore tokenStore = this.sessionTokenStore;
+        if (tokenStore == null) {
+            return null;
+        }
+        SessionToken storedToken;
+        try {
+            storedToken = tokenStore.load(getSessionTokenKey(session));
+        } catch (ResultException ex) {
+            // an inaccessible store shall not prevent the authentication.
+            return null;
+        }
+        if (storedToken == null || (outdatedAuthMaterial instanceof SessionToken &&
+                storedToken.getToken().equals(((SessionToken) outdatedAuthMaterial).getToken()))) {
+            return null;
+        }
+        if (!storedToken.isExpired(session.getSessionContext().getSkewTime())) {
+            return storedToken;
+        }
+        if (outdatedAuthMaterial instanceof SessionToken) {
+            return null;
+        }
+        try {
+            return requestRefresh(session, storedToken);
+        } catch (AuthResultException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given {@link SessionToken} in the {@link SessionTokenStore}, if any.
+     *
+     * @param session      The session the {@link SessionToken} has been provided for.
+     * @param sessionToken The {@link SessionToken} to store.
+     */
+    private void storeToken(@NotNull Session session, @NotNull SessionToken sessionToken) {
+        SessionTokenStore tokenStore = this.sessionTokenStore;
+        if (tokenStore == null) {
+            return;
+        }
+        try {
+            tokenStore.store(getSessionTokenKey(session), sessionToken);
+        } catch (ResultException ex) {
+            // an inaccessible store shall not prevent the authentication.
+        }
+    }
 
-            ((SessionToken) this.getAuthMaterial()).refresh();
+    /**
+     * Returns the key identifying the {@link SessionToken}s of the given {@link Session} in the
+     * {@link SessionTokenStore}, which is composed of the URL of the webPDF server and the name of the user.
+     *
+     * @param session The session to identify the {@link SessionToken}s for.
+     * @return The key identifying the {@link SessionToken}s of the given {@link Session}.
+     * @throws ResultException Shall be thrown, should the URL of the webPDF server be invalid.
+     */
+    protected @NotNull String getSessionTokenKey(@NotNull Session session) throws ResultException {
+        AuthMaterial initialAuthMaterial = getInitialAuthMaterial();
+        String userName = initialAuthMaterial instanceof AuthenticationMaterial ?
+                ((AuthenticationMaterial) initialAuthMaterial).getUserName() : "";
+        return session.getURI("") + "#" + userName;
+    }
 
+    /**
+     * Requests a fresh {@link SessionToken} from the webPDF server´s login endpoint, using the initial
+     * {@link AuthMaterial}.
+     *
+     * @param session The session to provide the authorization for.
+     * @return The {@link SessionToken} provided by the webPDF server.
+     * @throws AuthResultException Shall be thrown, should the authentication/authorization fail for some reason.
+     */
+    private @NotNull AuthMaterial requestLogin(@NotNull RestSession<?> session) throws AuthResultException {
+        try {
             AuthLoginOptions loginOptions = new AuthLoginOptions();
             loginOptions.setCreateRefreshToken(true);
 
-            AuthMaterial authMaterial = HttpRestRequest.createRequest(restSession)
-                    .buildRequest(HttpMethod.POST, REFRESH_PATH, prepareHttpEntity(loginOptions))
+            AuthMaterial authMaterial = HttpRestRequest.createRequest(session)
+                    .buildRequest(HttpMethod.POST, LOGIN_PATH, prepareHttpEntity(loginOptions), getInitialAuthMaterial())
                     .executeRequest(SessionToken.class);
 
             if (authMaterial == null) {
                 throw new ClientResultException(Error.AUTHENTICATION_FAILURE);
             }
 
-            setAuthMaterial(authMaterial);
+            return authMaterial;
         } catch (ResultException ex) {
             throw new AuthResultException(ex);
-        } finally {
-            this.updating.set(false);
         }
-
-        return this.getAuthMaterial();
     }
 
     /**
-     * Login and provide authorization {@link SessionToken} for a {@link Session}.
+     * Requests a fresh {@link SessionToken} from the webPDF server´s refresh endpoint, using the refresh token of the
+     * given {@link SessionToken}. The given {@link SessionToken} is not altered, so that concurrent requests may
+     * still use it, while the refresh is in progress.
      *
-     * @param session The session to provide the authorization for.
-     * @return The {@link AuthMaterial} provided by this {@link AuthProvider}.
+     * @param session      The session to refresh the authorization for.
+     * @param sessionToken The {@link SessionToken} to refresh.
+     * @return The {@link SessionToken} provided by the webPDF server.
      * @throws AuthResultException Shall be thrown, should the authentication/authorization fail for some reason.
      */
-    protected @NotNull AuthMaterial login(@NotNull Session session) throws AuthResultException {
-        if (updating.get() || !(session instanceof RestSession) || getAuthMaterial() instanceof SessionToken) {
-            return this.getAuthMaterial();
-        }
-
+    private @NotNull AuthMaterial requestRefresh(@NotNull RestSession<?> session, @NotNull SessionToken sessionToken)
+            throws AuthResultException {
         try {
-            updating.set(true);
-            this.session.set(session);
-            RestSession<?> restSession = (RestSession<?>) session;
+            SessionToken refreshToken =
+                    new SessionToken(sessionToken.getRefreshToken(), sessionToken.getRefreshToken(), 0);
 
             AuthLoginOptions loginOptions = new AuthLoginOptions();
             loginOptions.setCreateRefreshToken(true);
 
-            AuthMaterial authMaterial = HttpRestRequest.createRequest(restSession)
-                    .buildRequest(HttpMethod.POST, LOGIN_PATH, prepareHttpEntity(loginOptions), getInitialAuthMaterial())
+            AuthMaterial authMaterial = HttpRestRequest.createRequest(session)
+                    .buildRequest(HttpMethod.POST, REFRESH_PATH, prepareHttpEntity(loginOptions), refreshToken)
                     .executeRequest(SessionToken.class);
 
             if (authMaterial == null) {
                 throw new ClientResultException(Error.AUTHENTICATION_FAILURE);
             }
 
-            setAuthMaterial(authMaterial);
+            return authMaterial;
         } catch (ResultException ex) {
             throw new AuthResultException(ex);
-        } finally {
-            this.updating.set(false);
         }
+    }
 
-        return this.getAuthMaterial();
+    /**
+     * <p>
+     * Schedules the background refresh of the given {@link SessionToken}, should background refreshes be active.
+     * </p>
+     * <p>
+     * The refresh is scheduled before the {@link SessionToken} would be considered expired according to the skew
+     * time of the {@link Session}, leaving a tenth of it´s lifetime as a margin. To avoid refreshing continuously, it
+     * is not scheduled before half of it´s lifetime has passed.
+     * </p>
+     *
+     * @param session      The session to refresh the authorization for.
+     * @param sessionToken The {@link SessionToken} to refresh.
+     */
+    private void scheduleBackgroundRefresh(@NotNull Session session, @NotNull SessionToken sessionToken) {
+        if (!this.backgroundRefresh) {
+            return;
+        }
+        long lifetime = Math.max(0, Duration.between(Instant.now(), sessionToken.getExpiration()).toMillis());
+        long skewTime = TimeUnit.SECONDS.toMillis(session.getSessionContext().getSkewTime());
+        long delay = Math.max(lifetime / 2, lifetime - skewTime - lifetime / 10);
+        synchronized (this.updateLock) {
+            if (this.scheduledRefresh != null) {
+                this.scheduledRefresh.cancel(false);
+            }
+            this.scheduledRefresh = REFRESH_SCHEDULER.schedule(
+                    () -> executeBackgroundRefresh(session, sessionToken), delay, TimeUnit.MILLISECONDS);
+        }
     }
 
+    /**
+     * Executes the background refresh of the given {@link SessionToken} via the executor of the {@link RestSession},
+     * as the refresh blocks until the server has responded and must therefore neither occupy the shared scheduler
+     * thread, nor the common pool. Should the executor reject the refresh, as the {@link RestSession} has been closed,
+     * the refresh is skipped.
+     *
+     * @param session      The session to refresh the authorization for.
+     * @param sessionToken The {@link SessionToken} to refresh.
+     */
+    private void executeBackgroundRefresh(@NotNull Session session, @NotNull SessionToken sessionToken) {
+        if (!(session instanceof RestSession)) {
+            return;
+        }
+        try {
+            ((RestSession<?>) session).getExecutor().execute(() -> refreshInBackground(session, sessionToken));
+        } catch (RejectedExecutionException ignored) {
+            // the session has been closed meanwhile.
+        }
+    }
+
+    /**
+     * Refreshes the given {@link SessionToken} in the background, unless it has already been replaced, or the
+     * {@link Session} has been replaced by a new master. A failed refresh is ignored, as the {@link SessionToken}
+     * will be refreshed on demand by the next request.
+     *
+     * @param session      The session to refresh the authorization for.
+     * @param sessionToken The {@link SessionToken} to refresh.
+     */
+    private void refreshInBackground(@NotNull Session session, @NotNull SessionToken sessionToken) {
+        if (!this.backgroundRefresh || getSession() != session || getAuthMaterial() != sessionToken) {
+            return;
+        }
+        try {
+            update(session, sessionToken);
+        } catch (AuthResultException | RuntimeException ignored) {
+            // the next request will refresh or login on demand.
+        }
+    }
+
+    /**
+     * Creates the {@link ScheduledThreadPoolExecutor} shared by all {@link AbstractAuthenticationProvider}s to
+     * schedule background refreshes. It´s thread is a daemon thread, that shall not prevent the JVM from exiting.
+     *
+     * @return The {@link ScheduledThreadPoolExecutor} scheduling background refreshes.
+     */
+    private static @NotNull ScheduledThreadPoolExecutor createRefreshScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "webpdf-wsclient-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
 
     /**
      * <p>
@@ -234,21 +611,21 @@ public abstract class AbstractAuthenticationProvider implements AuthProvider {
      */
     @Override
     public @NotNull AuthMaterial provide(@NotNull Session session) throws AuthResultException {
-        if (updating.get() || !(session instanceof RestSession)) {
+        if (!(session instanceof RestSession)) {
             return getAuthMaterial();
         }
 
-        if (!(getAuthMaterial() instanceof SessionToken)) {
-            this.login(session);
+        AuthMaterial authMaterial = getAuthMaterial();
+        if (!(authMaterial instanceof SessionToken)) {
+            authMaterial = this.login(session);
         }
 
-        if (getAuthMaterial() instanceof SessionToken && (
-                ((SessionToken) getAuthMaterial()).isExpired(session.getSessionContext().getSkewTime())
-        )) {
-            this.refresh(session);
+        if (authMaterial instanceof SessionToken &&
+                ((SessionToken) authMaterial).isExpired(session.getSessionContext().getSkewTime())) {
+            authMaterial = update(session, authMaterial);
         }
 
-        return this.getAuthMaterial();
+        return authMaterial;
     }
 
     /**
@@ -260,11 +637,6 @@ public abstract class AbstractAuthenticationProvider implements AuthProvider {
      * @throws ResultException Shall be thrown, should the {@link HttpEntity} creation fail.
      */
     private <T> @NotNull HttpEntity prepareHttpEntity(@NotNull T parameter) throws ResultException {
-        try {
-            return new StringEntity(SerializeHelper.toJSON(parameter),
-                    ContentType.create(DataFormat.JSON.getMimeType(), StandardCharsets.UTF_8));
-        } catch (UnsupportedCharsetException ex) {
-            throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
-        }
+        return new JsonHttpEntity(parameter, true);
     }
 }
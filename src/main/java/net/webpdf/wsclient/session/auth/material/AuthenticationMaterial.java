@@ -34,6 +34,15 @@ public class AuthenticationMaterial implements AuthMaterial {
         this.password = password;
     }
 
+    /**
+     * Returns the name of the user to authenticate.
+     *
+     * @return The name of the user to authenticate.
+     */
+    public @NotNull String getUserName() {
+        return userName;
+    }
+
     /**
      * Returns the user´s {@link UsernamePasswordCredentials}.
      *
@@ -60,6 +60,15 @@ public class SessionToken implements Serializable, JWTToken {
         return token;
     }
 
+    /**
+     * Returns the refresh token {@code String} value. Shall return an empty String for an uninitialized session.
+     *
+     * @return The refresh token {@code String} value.
+     */
+    public @NotNull String getRefreshToken() {
+        return refreshToken;
+    }
+
     /**
      * <p>
      * Replaces the access token with the refresh token.
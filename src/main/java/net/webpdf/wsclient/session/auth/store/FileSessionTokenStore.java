@@ -0,0 +1,237 @@
+package net.webpdf.wsclient.session.auth.store;
+
+import net.webpdf.wsclient.exception.ClientResultException;
+import net.webpdf.wsclient.exception.Error;
+import net.webpdf.wsclient.exception.ResultException;
+import net.webpdf.wsclient.session.auth.material.token.SessionToken;
+import net.webpdf.wsclient.tools.SerializeHelper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * An instance of {@link FileSessionTokenStore} persists {@link SessionToken}s as files in a directory, so that they
+ * may be resumed by subsequent processes.
+ * </p>
+ * <p>
+ * Each key is stored in a separate file, that is named by the SHA-256 digest of the key. The file is replaced
+ * atomically, so that a reader never encounters a partially written {@link SessionToken}. Access to a file is
+ * serialized by a lock file, which is locked via {@link FileLock} to coordinate separate processes and via an
+ * in-process lock to coordinate the threads of this process.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> The stored files contain valid access and refresh tokens. The directory should therefore only be
+ * accessible by the user running the processes, that shall share the {@link SessionToken}s. Where POSIX file
+ * permissions are supported, the token files and lock files are created with owner-only permissions, as is the
+ * directory, should it not exist yet. An existing directory is left untouched.
+ * </p>
+ */
+public class FileSessionTokenStore implements SessionTokenStore {
+
+    private static final @NotNull String TOKEN_SUFFIX = ".token";
+    private static final @NotNull String LOCK_SUFFIX = ".lock";
+    private static final @NotNull String TEMP_SUFFIX = ".tmp";
+    private static final @NotNull String OWNER_ONLY_FILE = "rw-------";
+    private static final @NotNull String OWNER_ONLY_DIRECTORY = "rwx------";
+    private final @NotNull Path directory;
+    private final boolean posix;
+    private final @NotNull Map<String, Object> fileLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@link FileSessionTokenStore} persisting the {@link SessionToken}s in the given directory. The
+     * directory is created with owner-only permissions, if it does not exist yet.
+     *
+     * @param directory The directory to persist the {@link SessionToken}s in.
+     * @throws ResultException Shall be thrown, should the directory not be creatable.
+     */
+    public FileSessionTokenStore(@NotNull Path directory) throws ResultException {
+        this.directory = directory;
+        this.posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+        try {
+            Files.createDirectories(directory, getPermissions(OWNER_ONLY_DIRECTORY));
+        } catch (IOException ex) {
+            throw new ClientResultException(Error.TOKEN_STORE_FAILURE, ex).appendMessage(directory.toString());
+        }
+    }
+
+    /**
+     * Returns the directory the {@link SessionToken}s are persisted in.
+     *
+     * @return The directory the {@link SessionToken}s are persisted in.
+     */
+    public @NotNull Path getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Returns the {@link SessionToken} stored for the given key, or {@code null}, if no {@link SessionToken} has been
+     * stored. The returned {@link SessionToken} may have expired already, but it´s refresh token may still be valid.
+     *
+     * @param key The key identifying the webPDF server and user.
+     * @return The stored {@link SessionToken}, or {@code null}.
+     * @throws ResultException Shall be thrown, should reading the token file fail.
+     */
+    @Override
+    public @Nullable SessionToken load(@NotNull String key) throws ResultException {
+        String fileName = getFileName(key);
+        Path tokenFile = this.directory.resolve(fileName + TOKEN_SUFFIX);
+        return withLock(fileName, () -> {
+            if (!Files.exists(tokenFile)) {
+                return null;
+            }
+            StoredSessionToken storedToken;
+            try (InputStream inputStream = Files.newInputStream(tokenFile)) {
+                storedToken = SerializeHelper.fromJSON(inputStream, StandardCharsets.UTF_8,
+                        StoredSessionToken.class);
+            }
+            // the digest of the key might collide - such a token belongs to another server or user.
+            return key.equals(storedToken.getKey()) ? storedToken.toSessionToken() : null;
+        });
+    }
+
+    /**
+     * Stores the given {@link SessionToken} for the given key, replacing a previously stored {@link SessionToken}.
+     * The token file is written to a temporary file first and is moved to it´s target atomically. The temporary file
+     * is created with owner-only permissions, so that the token is never readable by other users.
+     *
+     * @param key          The key identifying the webPDF server and user.
+     * @param sessionToken The {@link SessionToken} to store.
+     * @throws ResultException Shall be thrown, should writing the token file fail.
+     */
+    @Override
+    public void store(@NotNull String key, @NotNull SessionToken sessionToken) throws ResultException {
+        String fileName = getFileName(key);
+        Path tokenFile = this.directory.resolve(fileName + TOKEN_SUFFIX);
+        Path tempFile = this.directory.resolve(fileName + TEMP_SUFFIX);
+        byte[] content = SerializeHelper.toJSONBytes(new StoredSessionToken(key, sessionToken));
+        withLock(fileName, () -> {
+            // a temporary file left behind by a crashed process might have been created with other permissions.
+            Files.deleteIfExists(tempFile);
+            try (OutputStream outputStream = Channels.newOutputStream(Files.newByteChannel(tempFile,
+                    EnumSet.of(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE),
+                    getPermissions(OWNER_ONLY_FILE)))) {
+                outputStream.write(content);
+            }
+            try {
+                Files.move(tempFile, tokenFile, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, tokenFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Removes the {@link SessionToken} stored for the given key, if any.
+     *
+     * @param key The key identifying the webPDF server and user.
+     * @throws ResultException Shall be thrown, should deleting the token file fail.
+     */
+    @Override
+    public void remove(@NotNull String key) throws ResultException {
+        String fileName = getFileName(key);
+        Path tokenFile = this.directory.resolve(fileName + TOKEN_SUFFIX);
+        withLock(fileName, () -> Files.deleteIfExists(tokenFile));
+    }
+
+    /**
+     * Executes the given {@link TokenFileAction}, while holding the in-process lock and the {@link FileLock} of the
+     * token file with the given name.
+     *
+     * @param fileName The name of the token file to lock.
+     * @param action   The {@link TokenFileAction} to execute.
+     * @param <T>      The result type of the {@link TokenFileAction}.
+     * @return The result of the {@link TokenFileAction}.
+     * @throws ResultException Shall be thrown, should locking the token file or executing the action fail.
+     */
+    private <T> @Nullable T withLock(@NotNull String fileName, @NotNull TokenFileAction<T> action)
+            throws ResultException {
+        Path lockFile = this.directory.resolve(fileName + LOCK_SUFFIX);
+        // a FileLock is held by the whole process - threads of the same process must be coordinated separately.
+        synchronized (this.fileLocks.computeIfAbsent(fileName, name -> new Object())) {
+            try (FileChannel lockChannel = FileChannel.open(lockFile,
+                    EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE), getPermissions(OWNER_ONLY_FILE));
+                 FileLock ignored = lockChannel.lock()) {
+                return action.execute();
+            } catch (IOException ex) {
+                throw new ClientResultException(Error.TOKEN_STORE_FAILURE, ex).appendMessage(lockFile.toString());
+            }
+        }
+    }
+
+    /**
+     * Returns the {@link FileAttribute}s granting the given POSIX permissions, or no {@link FileAttribute}s, should the
+     * file system not support POSIX permissions. The permissions only apply to newly created files.
+     *
+     * @param permissions The POSIX permissions, such as {@code rw-------}.
+     * @return The {@link FileAttribute}s granting the given permissions.
+     */
+    private @NotNull FileAttribute<?>[] getPermissions(@NotNull String permissions) {
+        if (!this.posix) {
+            return new FileAttribute<?>[0];
+        }
+        return new FileAttribute<?>[]{
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions))};
+    }
+
+    /**
+     * Returns the name of the token file for the given key, which is the hexadecimal SHA-256 digest of the key.
+     *
+     * @param key The key identifying the webPDF server and user.
+     * @return The name of the token file for the given key.
+     */
+    private static @NotNull String getFileName(@NotNull String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder fileName = new StringBuilder(digest.length * 2);
+            for (byte value : digest) {
+                fileName.append(Character.forDigit((value >> 4) & 0xF, 16))
+                        .append(Character.forDigit(value & 0xF, 16));
+            }
+            return fileName.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            // every Java platform is required to support SHA-256.
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * An action accessing a token file, while it is locked.
+     *
+     * @param <T> The result type of the action.
+     */
+    private interface TokenFileAction<T> {
+
+        /**
+         * Executes the action.
+         *
+         * @return The result of the action.
+         * @throws IOException     Shall be thrown, should accessing the token file fail.
+         * @throws ResultException Shall be thrown, should the content of the token file be invalid.
+         */
+        @Nullable T execute() throws IOException, ResultException;
+
+    }
+
+}
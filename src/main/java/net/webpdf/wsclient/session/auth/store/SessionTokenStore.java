@@ -0,0 +1,55 @@
+package net.webpdf.wsclient.session.auth.store;
+
+import net.webpdf.wsclient.exception.ResultException;
+import net.webpdf.wsclient.session.Session;
+import net.webpdf.wsclient.session.auth.AbstractAuthenticationProvider;
+import net.webpdf.wsclient.session.auth.material.token.SessionToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * A class implementing {@link SessionTokenStore} persists the {@link SessionToken}s of {@link Session}s, so that
+ * subsequent {@link Session}s - possibly created by other processes - may resume them, instead of logging in again.
+ * </p>
+ * <p>
+ * The {@link SessionToken}s are identified by a key, that an {@link AbstractAuthenticationProvider} derives from the
+ * URL of the webPDF server and the name of the user.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> An implementation of {@link SessionTokenStore} shall be thread safe, as it may be shared by
+ * multiple {@link Session}s.
+ * </p>
+ *
+ * @see FileSessionTokenStore
+ */
+public interface SessionTokenStore {
+
+    /**
+     * Returns the {@link SessionToken} stored for the given key, or {@code null}, if no {@link SessionToken} has been
+     * stored. The returned {@link SessionToken} may have expired already, but it´s refresh token may still be valid.
+     *
+     * @param key The key identifying the webPDF server and user.
+     * @return The stored {@link SessionToken}, or {@code null}.
+     * @throws ResultException Shall be thrown, should reading the {@link SessionTokenStore} fail.
+     */
+    @Nullable SessionToken load(@NotNull String key) throws ResultException;
+
+    /**
+     * Stores the given {@link SessionToken} for the given key, replacing a previously stored {@link SessionToken}.
+     *
+     * @param key          The key identifying the webPDF server and user.
+     * @param sessionToken The {@link SessionToken} to store.
+     * @throws ResultException Shall be thrown, should writing the {@link SessionTokenStore} fail.
+     */
+    void store(@NotNull String key, @NotNull SessionToken sessionToken) throws ResultException;
+
+    /**
+     * Removes the {@link SessionToken} stored for the given key, if any.
+     *
+     * @param key The key identifying the webPDF server and user.
+     * @throws ResultException Shall be thrown, should writing the {@link SessionTokenStore} fail.
+     */
+    void remove(@NotNull String key) throws ResultException;
+
+}
@@ -0,0 +1,82 @@
+package net.webpdf.wsclient.session.auth.store;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import net.webpdf.wsclient.session.auth.material.token.SessionToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * <p>
+ * An instance of {@link StoredSessionToken} is the persisted form of a {@link SessionToken} in a
+ * {@link FileSessionTokenStore}.
+ * </p>
+ * <p>
+ * Unlike the {@link SessionToken} itself, it persists the absolute expiration time, as the remaining lifetime of the
+ * {@link SessionToken} is unknown, when it is read again.
+ * </p>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+class StoredSessionToken {
+
+    @JsonProperty("key")
+    private final @NotNull String key;
+    @JsonProperty("token")
+    private final @NotNull String token;
+    @JsonProperty("refreshToken")
+    private final @NotNull String refreshToken;
+    @JsonProperty("expiration")
+    private final long expiration;
+
+    /**
+     * Creates a {@link StoredSessionToken} from the given values.
+     *
+     * @param key          The key identifying the webPDF server and user.
+     * @param token        The access token {@code String} value.
+     * @param refreshToken The refresh token {@code String} value.
+     * @param expiration   The expiration time of the access token in milliseconds since the epoch.
+     */
+    @JsonCreator
+    StoredSessionToken(@JsonProperty("key") @NotNull String key, @JsonProperty("token") @NotNull String token,
+            @JsonProperty("refreshToken") @NotNull String refreshToken,
+            @JsonProperty("expiration") long expiration) {
+        this.key = key;
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiration = expiration;
+    }
+
+    /**
+     * Creates a {@link StoredSessionToken} for the given {@link SessionToken}.
+     *
+     * @param key          The key identifying the webPDF server and user.
+     * @param sessionToken The {@link SessionToken} to store.
+     */
+    StoredSessionToken(@NotNull String key, @NotNull SessionToken sessionToken) {
+        this(key, sessionToken.getToken(), sessionToken.getRefreshToken(),
+                sessionToken.getExpiration().toEpochMilli());
+    }
+
+    /**
+     * Returns the key identifying the webPDF server and user.
+     *
+     * @return The key identifying the webPDF server and user.
+     */
+    @NotNull String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Recreates the stored {@link SessionToken}, expiring at the stored expiration time.
+     *
+     * @return The stored {@link SessionToken}.
+     */
+    @NotNull SessionToken toSessionToken() {
+        long expiresIn = Duration.between(Instant.now(), Instant.ofEpochMilli(this.expiration)).getSeconds();
+        return new SessionToken(this.token, this.refreshToken, expiresIn);
+    }
+
+}
@@ -4,12 +4,14 @@ import net.webpdf.wsclient.session.Session;
 import net.webpdf.wsclient.session.SessionFactory;
 import net.webpdf.wsclient.session.auth.AuthProvider;
 import net.webpdf.wsclient.session.connection.https.TLSContext;
+import net.webpdf.wsclient.session.connection.pool.ConnectionPoolConfiguration;
 import net.webpdf.wsclient.session.connection.proxy.ProxyConfiguration;
 import net.webpdf.wsclient.webservice.WebServiceProtocol;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.net.URL;
+import java.util.concurrent.Executor;
 
 /**
  * <p>
@@ -33,7 +35,9 @@ public class SessionContext {
     private final @NotNull URL url;
     private @Nullable TLSContext tlsContext;
     private @Nullable ProxyConfiguration proxyConfiguration;
+    private @NotNull ConnectionPoolConfiguration connectionPoolConfiguration = new ConnectionPoolConfiguration();
     private int skewTime = 0;
+    private @Nullable Executor executor;
 
     /**
      * <p>
@@ -128,6 +132,36 @@ public class SessionContext {
         return proxyConfiguration;
     }
 
+    /**
+     * <p>
+     * Sets the {@link ConnectionPoolConfiguration} for {@link Session}s.<br>
+     * A {@link ConnectionPoolConfiguration} defines the size and the connection lifecycle of the HTTP connection pool
+     * used for requests to the server. Setting {@code null} shall restore the default configuration.
+     * </p>
+     *
+     * @param connectionPoolConfiguration The {@link ConnectionPoolConfiguration}, that shall be used.
+     * @return This {@link SessionContext} itself.
+     */
+    public @NotNull SessionContext setConnectionPool(
+            @Nullable ConnectionPoolConfiguration connectionPoolConfiguration) {
+        this.connectionPoolConfiguration = connectionPoolConfiguration != null ?
+                connectionPoolConfiguration : new ConnectionPoolConfiguration();
+        return this;
+    }
+
+    /**
+     * <p>
+     * Returns the {@link ConnectionPoolConfiguration} for {@link Session}s.<br>
+     * A {@link ConnectionPoolConfiguration} defines the size and the connection lifecycle of the HTTP connection pool
+     * used for requests to the server.
+     * </p>
+     *
+     * @return The {@link ConnectionPoolConfiguration}, that shall be used.
+     */
+    public @NotNull ConnectionPoolConfiguration getConnectionPool() {
+        return connectionPoolConfiguration;
+    }
+
     /**
      * <p>
      * Sets a skew time for the token refresh of {@link Session}s.<br>
@@ -160,4 +194,37 @@ public class SessionContext {
         return skewTime;
     }
 
+    /**
+     * <p>
+     * Sets the {@link Executor} for {@link Session}s.<br>
+     * The {@link Executor} executes the blocking follow-up work of asynchronous operations, such as synchronizing the
+     * result documents of an asynchronous upload or webservice call. Setting {@code null} shall let each
+     * {@link Session} create a bounded executor of it´s own, that is shut down, when the {@link Session} is closed.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> A given {@link Executor} is neither shut down by the {@link Session}, nor should it be the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}, as the executed tasks block on network I/O.
+     * </p>
+     *
+     * @param executor The {@link Executor}, that shall be used.
+     * @return This {@link SessionContext} itself.
+     */
+    public @NotNull SessionContext setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * <p>
+     * Returns the {@link Executor} for {@link Session}s.<br>
+     * The {@link Executor} executes the blocking follow-up work of asynchronous operations. Should it be {@code null},
+     * each {@link Session} shall create a bounded executor of it´s own.
+     * </p>
+     *
+     * @return The {@link Executor}, that shall be used.
+     */
+    public @Nullable Executor getExecutor() {
+        return executor;
+    }
+
 }
@@ -4,12 +4,14 @@ package net.webpdf.wsclient.session.connection;
 import net.webpdf.wsclient.session.Session;
 import net.webpdf.wsclient.session.auth.AuthProvider;
 import net.webpdf.wsclient.session.connection.https.TLSContext;
+import net.webpdf.wsclient.session.connection.pool.ConnectionPoolConfiguration;
 import net.webpdf.wsclient.session.connection.proxy.ProxyConfiguration;
 import net.webpdf.wsclient.webservice.WebServiceProtocol;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.net.URL;
+import java.util.concurrent.Executor;
 
 /**
  * <p>
@@ -30,7 +32,9 @@ public class SessionContextSettings {
     private final @NotNull URL url;
     private final @Nullable TLSContext tlsContext;
     private final @Nullable ProxyConfiguration proxyConfiguration;
+    private final @NotNull ConnectionPoolConfiguration connectionPoolConfiguration;
     private final int skewTime;
+    private final @Nullable Executor executor;
 
     /**
      * Creates a new {@link SessionContextSettings} from the provided {@link SessionContext}.
@@ -46,7 +50,9 @@ public class SessionContextSettings {
         this.url = contextConfiguration.getUrl();
         this.tlsContext = contextConfiguration.getTlsContext();
         this.proxyConfiguration = contextConfiguration.getProxy();
+        this.connectionPoolConfiguration = contextConfiguration.getConnectionPool();
         this.skewTime = contextConfiguration.getSkewTime();
+        this.executor = contextConfiguration.getExecutor();
     }
 
     /**
@@ -91,6 +97,19 @@ public class SessionContextSettings {
         return proxyConfiguration;
     }
 
+    /**
+     * <p>
+     * Returns the {@link ConnectionPoolConfiguration} for {@link Session}s.<br>
+     * A {@link ConnectionPoolConfiguration} defines the size and the connection lifecycle of the HTTP connection pool
+     * used for requests to the server.
+     * </p>
+     *
+     * @return The {@link ConnectionPoolConfiguration}, that shall be used.
+     */
+    public @NotNull ConnectionPoolConfiguration getConnectionPool() {
+        return connectionPoolConfiguration;
+    }
+
     /**
      * <p>
      * Returns a skew time for the token refresh of {@link Session}s.<br>
@@ -106,4 +125,17 @@ public class SessionContextSettings {
         return skewTime;
     }
 
+    /**
+     * <p>
+     * Returns the {@link Executor} for {@link Session}s.<br>
+     * The {@link Executor} executes the blocking follow-up work of asynchronous operations. Should it be {@code null},
+     * each {@link Session} shall create a bounded executor of it´s own.
+     * </p>
+     *
+     * @return The {@link Executor}, that shall be used.
+     */
+    public @Nullable Executor getExecutor() {
+        return executor;
+    }
+
 }
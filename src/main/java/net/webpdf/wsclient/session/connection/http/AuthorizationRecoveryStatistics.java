@@ -0,0 +1,93 @@
+package net.webpdf.wsclient.session.connection.http;
+
+import net.webpdf.wsclient.session.Session;
+
+/**
+ * An instance of {@link AuthorizationRecoveryStatistics} is a snapshot of the recoveries from rejected authorizations
+ * performed by the {@link HttpAuthorizationHandler} of a {@link Session}.
+ */
+public class AuthorizationRecoveryStatistics {
+
+    private final long unauthorizedCount;
+    private final long reauthorizationCount;
+    private final long replayCount;
+    private final long notRepeatableCount;
+    private final long failureCount;
+
+    /**
+     * Creates a {@link AuthorizationRecoveryStatistics} snapshot.
+     *
+     * @param unauthorizedCount    The number of requests, that have been rejected as unauthorized.
+     * @param reauthorizationCount The number of times the authorization has been refreshed or renewed.
+     * @param replayCount          The number of requests, that have been replayed with a renewed authorization.
+     * @param notRepeatableCount   The number of requests, that could not be replayed, as their content is not
+     *                             repeatable.
+     * @param failureCount         The number of times refreshing or renewing the authorization has failed.
+     */
+    public AuthorizationRecoveryStatistics(long unauthorizedCount, long reauthorizationCount, long replayCount,
+            long notRepeatableCount, long failureCount) {
+        this.unauthorizedCount = unauthorizedCount;
+        this.reauthorizationCount = reauthorizationCount;
+        this.replayCount = replayCount;
+        this.notRepeatableCount = notRepeatableCount;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * Returns the number of requests, that have been rejected as unauthorized.
+     *
+     * @return The number of requests, that have been rejected as unauthorized.
+     */
+    public long getUnauthorizedCount() {
+        return this.unauthorizedCount;
+    }
+
+    /**
+     * Returns the number of times the authorization has been refreshed or renewed, after a request has been rejected.
+     *
+     * @return The number of times the authorization has been refreshed or renewed.
+     */
+    public long getReauthorizationCount() {
+        return this.reauthorizationCount;
+    }
+
+    /**
+     * Returns the number of requests, that have been replayed with a renewed authorization.
+     *
+     * @return The number of requests, that have been replayed with a renewed authorization.
+     */
+    public long getReplayCount() {
+        return this.replayCount;
+    }
+
+    /**
+     * Returns the number of requests, that could not be replayed, as their content is not repeatable.
+     *
+     * @return The number of requests, that could not be replayed, as their content is not repeatable.
+     */
+    public long getNotRepeatableCount() {
+        return this.notRepeatableCount;
+    }
+
+    /**
+     * Returns the number of times refreshing or renewing the authorization has failed.
+     *
+     * @return The number of times refreshing or renewing the authorization has failed.
+     */
+    public long getFailureCount() {
+        return this.failureCount;
+    }
+
+    /**
+     * Returns a textual representation of this {@link AuthorizationRecoveryStatistics}.
+     *
+     * @return A textual representation of this {@link AuthorizationRecoveryStatistics}.
+     */
+    @Override
+    public String toString() {
+        return "[unauthorized: " + this.unauthorizedCount + "; reauthorized: " + this.reauthorizationCount +
+                "; replayed: " + this.replayCount + "; not repeatable: " + this.notRepeatableCount +
+                "; failed: " + this.failureCount + "]";
+    }
+
+}
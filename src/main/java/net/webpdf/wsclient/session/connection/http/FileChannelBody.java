@@ -0,0 +1,76 @@
+package net.webpdf.wsclient.session.connection.http;
+
+import net.webpdf.wsclient.tools.FileTransferHelper;
+import org.apache.hc.client5.http.entity.mime.AbstractContentBody;
+import org.apache.hc.client5.http.entity.mime.ContentBody;
+import org.apache.hc.core5.http.ContentType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * <p>
+ * An instance of {@link FileChannelBody} provides a local file as a multipart {@link ContentBody}, that is
+ * transferred via a {@link FileChannel}, when the request is sent.
+ * </p>
+ * <p>
+ * The size of the file is known in advance, which allows to announce the size of the request via the Content-Length
+ * header.
+ * </p>
+ */
+public class FileChannelBody extends AbstractContentBody {
+
+    private final @NotNull Path path;
+    private final @Nullable String fileName;
+
+    /**
+     * Creates a {@link FileChannelBody} for the file at the given {@link Path}.
+     *
+     * @param path        The {@link Path} of the file to transfer.
+     * @param contentType The {@link ContentType} of the file.
+     * @param fileName    The file name, that shall be announced for the file.
+     */
+    public FileChannelBody(@NotNull Path path, @NotNull ContentType contentType, @Nullable String fileName) {
+        super(contentType);
+        this.path = path;
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns the file name, that shall be announced for the file.
+     *
+     * @return The file name, that shall be announced for the file.
+     */
+    @Override
+    public @Nullable String getFilename() {
+        return this.fileName;
+    }
+
+    /**
+     * Returns the size of the file, or -1, should the size not be accessible.
+     *
+     * @return The size of the file, or -1, should the size not be accessible.
+     */
+    @Override
+    public long getContentLength() {
+        File file = this.path.toFile();
+        return file.isFile() ? file.length() : -1;
+    }
+
+    /**
+     * Transfers the content of the file to the given {@link OutputStream}.
+     *
+     * @param outputStream The {@link OutputStream} to write the content of the file to.
+     * @throws IOException Shall be thrown, should reading the file or writing the content fail.
+     */
+    @Override
+    public void writeTo(@NotNull OutputStream outputStream) throws IOException {
+        FileTransferHelper.transferTo(this.path, outputStream);
+    }
+
+}
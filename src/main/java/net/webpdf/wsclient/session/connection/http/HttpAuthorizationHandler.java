@@ -2,22 +2,45 @@ package net.webpdf.wsclient.session.connection.http;
 
 import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.session.Session;
+import net.webpdf.wsclient.session.auth.AuthProvider;
+import net.webpdf.wsclient.session.auth.material.AuthMaterial;
 import org.apache.hc.client5.http.classic.ExecChain;
 import org.apache.hc.client5.http.classic.ExecChainHandler;
 import org.apache.hc.core5.http.*;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
  * An instance of {@link HttpAuthorizationHandler} may be used for a {@link ClassicHttpRequest} as a
  * {@link ExecChainHandler} to provide authorization in the context of the {@link ExecChain}.
  * </p>
+ * <p>
+ * Should a request, that is authorized by the {@link AuthProvider} of the {@link Session}, be rejected with
+ * {@link HttpStatus#SC_UNAUTHORIZED}, the {@link HttpAuthorizationHandler} shall refresh the authorization once via
+ * the {@link AuthProvider} and shall replay the request with the refreshed authorization, if it´s content is
+ * repeatable. Requests executed with their own {@link AuthMaterial} (such as the login and refresh requests
+ * themselves) are never replayed.
+ * </p>
  */
 public class HttpAuthorizationHandler implements HttpExecChainHandler {
 
+    /**
+     * The name of the context attribute marking a request, that is authorized by the {@link AuthProvider} of the
+     * {@link Session} and therefore may be replayed with a refreshed authorization.
+     */
+    public static final @NotNull String PROVIDED_AUTHORIZATION = "net.webpdf.wsclient.provided-authorization";
     private final @NotNull Session session;
+    private final @NotNull AtomicLong unauthorizedCount = new AtomicLong();
+    private final @NotNull AtomicLong reauthorizationCount = new AtomicLong();
+    private final @NotNull AtomicLong replayCount = new AtomicLong();
+    private final @NotNull AtomicLong notRepeatableCount = new AtomicLong();
+    private final @NotNull AtomicLong failureCount = new AtomicLong();
 
     /**
      * Instantiates a new {@link HttpAuthorizationHandler} for a given {@link Session}.
@@ -35,6 +58,14 @@ public class HttpAuthorizationHandler implements HttpExecChainHandler {
      * {@link HttpHeaders#AUTHORIZATION} {@link Header} and in case it is missing it shall provide such a {@link Header}
      * according to the provided and active {@link Session}.
      * </p>
+     * <p>
+     * Should the request be rejected with {@link HttpStatus#SC_UNAUTHORIZED} and should it´s authorization have been
+     * provided by the {@link AuthProvider} of the {@link Session}, the authorization shall be refreshed and the
+     * request shall be replayed once. Concurrent rejections are coordinated by the {@link AuthProvider}, so that
+     * only one refresh is requested. Should the authorization have already been refreshed since the request has been
+     * sent, the request is replayed with the current authorization right away. The rejecting response is buffered
+     * and released before the authorization is refreshed, so that the refresh does not wait for it´s connection.
+     * </p>
      *
      * @param classicHttpRequest the actual request.
      * @param scope              the execution scope.
@@ -43,18 +74,123 @@ public class HttpAuthorizationHandler implements HttpExecChainHandler {
     @Override
     public ClassicHttpResponse execute(@NotNull ClassicHttpRequest classicHttpRequest, @NotNull ExecChain.Scope scope,
             @NotNull ExecChain execChain) throws IOException, HttpException {
+        boolean providedAuthorization =
+                Boolean.TRUE.equals(scope.clientContext.getAttribute(PROVIDED_AUTHORIZATION));
         Header authorizationHeader;
         try {
             if (!classicHttpRequest.containsHeader(HttpHeaders.AUTHORIZATION) &&
                     (authorizationHeader = session.getAuthProvider().provide(session).getAuthHeader()) != null) {
                 classicHttpRequest.addHeader(authorizationHeader);
+                providedAuthorization = true;
             }
         } catch (ResultException ex) {
             throw new IOException(ex);
         }
+
+        ClassicHttpResponse response = execChain.proceed(classicHttpRequest, scope);
+        if (response.getCode() != HttpStatus.SC_UNAUTHORIZED || !providedAuthorization) {
+            return response;
+        }
+
+        // the rejection is buffered and it´s connection is released first, as refreshing the authorization requires a
+        // connection itself - concurrent rejections would exhaust the connection pool otherwise.
+        HttpEntity rejectedEntity = response.getEntity();
+        if (rejectedEntity != null) {
+            ContentType contentType = ContentType.parseLenient(rejectedEntity.getContentType());
+            byte[] rejectedContent = EntityUtils.toByteArray(rejectedEntity);
+            response.setEntity(new ByteArrayEntity(rejectedContent, contentType));
+        }
+        response.close();
+
+        HttpEntity entity = classicHttpRequest.getEntity();
+        Header refreshedHeader = recover(classicHttpRequest, entity == null || entity.isRepeatable());
+        if (refreshedHeader == null) {
+            return response;
+        }
+
+        classicHttpRequest.setHeader(refreshedHeader);
         return execChain.proceed(classicHttpRequest, scope);
     }
 
+    /**
+     * <p>
+     * Handles the given request, that has been authorized by the {@link AuthProvider} of the {@link Session}, but has
+     * been rejected with {@link HttpStatus#SC_UNAUTHORIZED}. The authorization is refreshed via
+     * {@link #reauthorize(Header)} and the refreshed {@link HttpHeaders#AUTHORIZATION} {@link Header} is returned,
+     * should the request be replayable.
+     * </p>
+     * <p>
+     * This is used for requests executed by the {@link ExecChain} and for requests executed by the asynchronous HTTP
+     * client, which do not pass this {@link ExecChainHandler}, so that both are counted by the same
+     * {@link AuthorizationRecoveryStatistics}. The caller is expected to replay the request once with the returned
+     * {@link Header}.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Refreshing the authorization may block on network I/O and must therefore not be executed by
+     * the I/O threads of the asynchronous HTTP client.
+     * </p>
+     *
+     * @param request    The rejected request.
+     * @param repeatable {@code true}, if the content of the request may be sent again.
+     * @return The refreshed {@link HttpHeaders#AUTHORIZATION} {@link Header} to replay the request with, or
+     * {@code null}, should the request not be replayable.
+     */
+    public @Nullable Header recover(@NotNull HttpRequest request, boolean repeatable) {
+        this.unauthorizedCount.incrementAndGet();
+
+        Header refreshedHeader = reauthorize(request.getFirstHeader(HttpHeaders.AUTHORIZATION));
+        if (refreshedHeader == null) {
+            return null;
+        }
+        if (!repeatable) {
+            this.notRepeatableCount.incrementAndGet();
+            return null;
+        }
+
+        this.replayCount.incrementAndGet();
+        return refreshedHeader;
+    }
+
+    /**
+     * Refreshes the authorization via the {@link AuthProvider} of the {@link Session}, should the rejected
+     * authorization still be the current one. Otherwise the current authorization is returned.
+     *
+     * @param rejectedHeader The {@link HttpHeaders#AUTHORIZATION} {@link Header} rejected by the webPDF server.
+     * @return The refreshed {@link HttpHeaders#AUTHORIZATION} {@link Header}, or {@code null}, should refreshing the
+     * authorization have failed.
+     */
+    private @Nullable Header reauthorize(@Nullable Header rejectedHeader) {
+        try {
+            AuthProvider authProvider = session.getAuthProvider();
+            Header currentHeader = authProvider.provide(session).getAuthHeader();
+            if (currentHeader == null || rejectedHeader == null ||
+                    currentHeader.getValue().equals(rejectedHeader.getValue())) {
+                currentHeader = authProvider.refresh(session).getAuthHeader();
+                this.reauthorizationCount.incrementAndGet();
+            }
+            if (currentHeader == null ||
+                    (rejectedHeader != null && currentHeader.getValue().equals(rejectedHeader.getValue()))) {
+                this.failureCount.incrementAndGet();
+                return null;
+            }
+            return currentHeader;
+        } catch (ResultException ex) {
+            this.failureCount.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the current {@link AuthorizationRecoveryStatistics} of this
+     * {@link HttpAuthorizationHandler}.
+     *
+     * @return The current {@link AuthorizationRecoveryStatistics}.
+     */
+    public @NotNull AuthorizationRecoveryStatistics getStatistics() {
+        return new AuthorizationRecoveryStatistics(this.unauthorizedCount.get(), this.reauthorizationCount.get(),
+                this.replayCount.get(), this.notRepeatableCount.get(), this.failureCount.get());
+    }
+
     /**
      * Provides a name for the {@link HttpAuthorizationHandler} in the context of a {@link ExecChain}.
      *
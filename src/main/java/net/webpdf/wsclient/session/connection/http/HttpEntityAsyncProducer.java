@@ -0,0 +1,202 @@
+package net.webpdf.wsclient.session.connection.http;
+
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+/**
+ * <p>
+ * An instance of {@link HttpEntityAsyncProducer} adapts a classic {@link HttpEntity} to an {@link AsyncEntityProducer},
+ * which allows to send the same data transfer objects via the asynchronous HTTP client of a session.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> The content of the {@link HttpEntity} is read in fixed size chunks, whenever the connection is
+ * ready to accept further data. {@link HttpEntity}s, that are not able to provide their content as an
+ * {@link InputStream}, shall be buffered in memory before they are sent.
+ * </p>
+ */
+class HttpEntityAsyncProducer implements AsyncEntityProducer {
+
+    private static final int BUFFER_SIZE = 8192;
+    private final @NotNull HttpEntity httpEntity;
+    private final @NotNull ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private @Nullable InputStream content;
+    private boolean endOfContent = false;
+    private boolean endOfStream = false;
+
+    /**
+     * Creates a new {@link HttpEntityAsyncProducer} for the given {@link HttpEntity}.
+     *
+     * @param httpEntity The {@link HttpEntity} to send asynchronously.
+     */
+    HttpEntityAsyncProducer(@NotNull HttpEntity httpEntity) {
+        this.httpEntity = httpEntity;
+        this.buffer.limit(0);
+    }
+
+    /**
+     * Returns {@code true}, if the wrapped {@link HttpEntity} may be sent repeatedly.
+     *
+     * @return {@code true}, if the wrapped {@link HttpEntity} may be sent repeatedly.
+     */
+    @Override
+    public boolean isRepeatable() {
+        return this.httpEntity.isRepeatable();
+    }
+
+    /**
+     * Returns the content length of the wrapped {@link HttpEntity}.
+     *
+     * @return The content length of the wrapped {@link HttpEntity}, or a negative number, if it is unknown.
+     */
+    @Override
+    public long getContentLength() {
+        return this.httpEntity.getContentLength();
+    }
+
+    /**
+     * Returns the content type of the wrapped {@link HttpEntity}.
+     *
+     * @return The content type of the wrapped {@link HttpEntity}.
+     */
+    @Override
+    public @Nullable String getContentType() {
+        return this.httpEntity.getContentType();
+    }
+
+    /**
+     * Returns the content encoding of the wrapped {@link HttpEntity}.
+     *
+     * @return The content encoding of the wrapped {@link HttpEntity}.
+     */
+    @Override
+    public @Nullable String getContentEncoding() {
+        return this.httpEntity.getContentEncoding();
+    }
+
+    /**
+     * Returns {@code true}, if the wrapped {@link HttpEntity} shall be sent using chunked encoding.
+     *
+     * @return {@code true}, if the wrapped {@link HttpEntity} shall be sent using chunked encoding.
+     */
+    @Override
+    public boolean isChunked() {
+        return this.httpEntity.isChunked();
+    }
+
+    /**
+     * Returns the names of the trailers of the wrapped {@link HttpEntity}.
+     *
+     * @return The names of the trailers of the wrapped {@link HttpEntity}.
+     */
+    @Override
+    public @Nullable Set<String> getTrailerNames() {
+        return this.httpEntity.getTrailerNames();
+    }
+
+    /**
+     * Returns the number of bytes, that may be produced without blocking.
+     *
+     * @return The number of bytes, that may be produced without blocking.
+     */
+    @Override
+    public int available() {
+        return this.endOfStream ? 0 : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Writes the next chunks of the wrapped {@link HttpEntity} to the given {@link DataStreamChannel}, until the
+     * channel stops accepting data or the end of the content has been reached.
+     *
+     * @param channel The {@link DataStreamChannel} to write the content to.
+     * @throws IOException Shall be thrown, if reading the content of the {@link HttpEntity} failed.
+     */
+    @Override
+    public void produce(@NotNull DataStreamChannel channel) throws IOException {
+        if (this.endOfStream) {
+            return;
+        }
+        if (this.content == null) {
+            this.content = openContent();
+        }
+        while (true) {
+            if (!this.buffer.hasRemaining()) {
+                if (this.endOfContent) {
+                    this.endOfStream = true;
+                    channel.endStream();
+                    return;
+                }
+                this.buffer.clear();
+                int read = this.content.read(this.buffer.array(), 0, this.buffer.capacity());
+                if (read == -1) {
+                    this.endOfContent = true;
+                    this.buffer.limit(0);
+                    continue;
+                }
+                this.buffer.limit(read);
+            }
+            channel.write(this.buffer);
+            if (this.buffer.hasRemaining()) {
+                // the channel is saturated - wait for the next output event.
+                return;
+            }
+        }
+    }
+
+    /**
+     * Releases the resources of this producer, after sending the entity failed.
+     *
+     * @param cause The cause of the failure.
+     */
+    @Override
+    public void failed(@NotNull Exception cause) {
+        releaseResources();
+    }
+
+    /**
+     * Releases the resources of this producer and resets it, so that the entity may be sent again, if it is
+     * repeatable.
+     */
+    @Override
+    public void releaseResources() {
+        if (this.content != null) {
+            try {
+                this.content.close();
+            } catch (IOException ignore) {
+                // the content has been read already or is not required anymore.
+            }
+            this.content = null;
+        }
+        this.buffer.clear();
+        this.buffer.limit(0);
+        this.endOfContent = false;
+        this.endOfStream = false;
+    }
+
+    /**
+     * Opens the content of the wrapped {@link HttpEntity}. Should the {@link HttpEntity} not be able to provide its
+     * content as an {@link InputStream}, the content shall be buffered in memory.
+     *
+     * @return The content of the wrapped {@link HttpEntity}.
+     * @throws IOException Shall be thrown, if reading the content of the {@link HttpEntity} failed.
+     */
+    private @NotNull InputStream openContent() throws IOException {
+        try {
+            return this.httpEntity.getContent();
+        } catch (UnsupportedOperationException | IOException ex) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            this.httpEntity.writeTo(outputStream);
+            return new ByteArrayInputStream(outputStream.toByteArray());
+        }
+    }
+
+}
@@ -6,26 +6,46 @@ import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.exception.ServerResultException;
 import net.webpdf.wsclient.openapi.WebserviceException;
 import net.webpdf.wsclient.session.DataFormat;
+import net.webpdf.wsclient.session.auth.AuthProvider;
 import net.webpdf.wsclient.session.auth.material.AuthMaterial;
 import net.webpdf.wsclient.session.rest.RestSession;
+import net.webpdf.wsclient.tools.FileTransferHelper;
+import net.webpdf.wsclient.tools.FileTransferHelper.TransferListener;
 import net.webpdf.wsclient.tools.SerializeHelper;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
 import org.apache.hc.client5.http.classic.methods.*;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.*;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.StringReader;
+import java.io.PushbackInputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * An instance of {@link HttpRestRequest} monitors and executes a webPDF wsclient request executed within a
@@ -38,6 +58,7 @@ public class HttpRestRequest {
     private @Nullable String acceptHeader = DataFormat.JSON.getMimeType();
     private @Nullable HttpUriRequest httpUriRequest;
     private final @NotNull Map<String, String> headers = new HashMap<>();
+    private boolean providedAuthorization = false;
 
     /**
      * Creates a {@link HttpRestRequest} preparing and executing a request for a given {@link RestSession} to provide
@@ -206,6 +227,7 @@ public class HttpRestRequest {
         }
 
         httpUriRequest.addHeader(HttpHeaders.ACCEPT, this.acceptHeader);
+        this.providedAuthorization = authMaterial == null;
         Header authorizationHeader = authMaterial != null ?
                 authMaterial.getAuthHeader() : session.getAuthProvider().provide(session).getAuthHeader();
         if (authorizationHeader != null) {
@@ -267,6 +289,21 @@ public class HttpRestRequest {
                 code + " " + httpResponse.getReasonPhrase() + "\n" + exceptionMessage);
     }
 
+    /**
+     * Creates the {@link HttpClientContext} to execute this {@link HttpRestRequest} in. Should the request be
+     * authorized by the {@link AuthProvider} of the {@link RestSession}, it is marked as such, so that the
+     * {@link HttpAuthorizationHandler} may replay it with a refreshed authorization, should it be rejected.
+     *
+     * @return The {@link HttpClientContext} to execute this {@link HttpRestRequest} in.
+     */
+    private @NotNull HttpClientContext createContext() {
+        HttpClientContext context = HttpClientContext.create();
+        if (this.providedAuthorization) {
+            context.setAttribute(HttpAuthorizationHandler.PROVIDED_AUTHORIZATION, Boolean.TRUE);
+        }
+        return context;
+    }
+
     /**
      * Executes this {@link HttpRestRequest} and shall write the contained data transfer object {@link HttpEntity} to
      * the given {@link OutputStream}.
@@ -276,7 +313,7 @@ public class HttpRestRequest {
      */
     public void executeRequest(@NotNull OutputStream outputStream) throws ResultException {
         try {
-            this.httpClient.execute(httpUriRequest, response -> {
+            this.httpClient.execute(httpUriRequest, createContext(), response -> {
                 try {
                     checkResponse(response);
                 } catch (ResultException ex) {
@@ -296,6 +333,84 @@ public class HttpRestRequest {
         }
     }
 
+    /**
+     * Executes this {@link HttpRestRequest} and shall write the contained data transfer object {@link HttpEntity} to
+     * the file at the given {@link Path}, using a {@link FileChannel}. An existing file shall be overwritten.
+     *
+     * @param target The {@link Path} of the file to write the data transfer object {@link HttpEntity} to.
+     * @throws ResultException Shall be thrown, if writing to the file failed.
+     */
+    public void executeRequest(@NotNull Path target) throws ResultException {
+        try {
+            this.httpClient.execute(httpUriRequest, createContext(), response -> {
+                try {
+                    checkResponse(response);
+                } catch (ResultException ex) {
+                    throw new IOException(ex);
+                }
+                HttpEntity entity = response.getEntity();
+                try (InputStream content = entity != null ? entity.getContent() : InputStream.nullInputStream()) {
+                    FileTransferHelper.transferFrom(content, target);
+                }
+                return null;
+            });
+        } catch (IOException ex) {
+            if (ex.getCause() instanceof ResultException) {
+                throw (ResultException) ex.getCause();
+            }
+            throw new ClientResultException(Error.HTTP_IO_ERROR, ex);
+        }
+    }
+
+    /**
+     * <p>
+     * Executes this {@link HttpRestRequest} and shall write the contained data transfer object {@link HttpEntity} to
+     * the given {@link FileChannel}, continuing at the given position. The given {@link TransferListener} shall be
+     * notified about the reached position of the {@link FileChannel} after each transferred chunk.
+     * </p>
+     * <p>
+     * Should a {@link HttpHeaders#RANGE} header have been set for this {@link HttpRestRequest} and should the webPDF
+     * server answer with {@link HttpStatus#SC_PARTIAL_CONTENT}, the content shall be written starting at the given
+     * position. Otherwise the complete content shall be written starting at the beginning of the
+     * {@link FileChannel}. Any content, that has been written beyond the starting position before, shall be
+     * truncated.
+     * </p>
+     *
+     * @param target           The {@link FileChannel} to write the data transfer object {@link HttpEntity} to.
+     * @param position         The position of the {@link FileChannel} to continue writing at.
+     * @param transferListener The {@link TransferListener} to notify about the progress.
+     * @return The position of the {@link FileChannel}, up to which the content has been written.
+     * @throws ResultException Shall be thrown, if writing to the {@link FileChannel} failed.
+     */
+    public long executeRequest(@NotNull FileChannel target, long position, @NotNull TransferListener transferListener)
+            throws ResultException {
+        boolean partial = this.httpUriRequest != null && this.httpUriRequest.containsHeader(HttpHeaders.RANGE);
+        try {
+            return this.httpClient.execute(httpUriRequest, createContext(), response -> {
+                try {
+                    checkResponse(response);
+                } catch (ResultException ex) {
+                    throw new IOException(ex);
+                }
+                long start = partial && response.getCode() == HttpStatus.SC_PARTIAL_CONTENT ? position : 0;
+                target.truncate(start);
+                HttpEntity entity = response.getEntity();
+                if (entity == null) {
+                    return start;
+                }
+                try (InputStream content = entity.getContent()) {
+                    return start + FileTransferHelper.transferFrom(
+                            Channels.newChannel(content), target, start, transferListener);
+                }
+            });
+        } catch (IOException ex) {
+            if (ex.getCause() instanceof ResultException) {
+                throw (ResultException) ex.getCause();
+            }
+            throw new ClientResultException(Error.HTTP_IO_ERROR, ex);
+        }
+    }
+
     /**
      * Executes this {@link HttpRestRequest}.
      *
@@ -304,7 +419,7 @@ public class HttpRestRequest {
      */
     public ClassicHttpResponse executeRequest() throws ResultException {
         try {
-            return this.httpClient.execute(httpUriRequest, response -> {
+            return this.httpClient.execute(httpUriRequest, createContext(), response -> {
                 try {
                     checkResponse(response);
                 } catch (ResultException ex) {
@@ -337,57 +452,493 @@ public class HttpRestRequest {
      */
     public <T> @Nullable T executeRequest(@NotNull Class<T> type) throws ResultException {
         try {
-            return this.httpClient.execute(httpUriRequest, response -> {
+            return this.httpClient.execute(httpUriRequest, createContext(), response -> {
                 try {
                     checkResponse(response);
                 } catch (ResultException ex) {
                     throw new IOException(ex);
                 }
 
-                HttpEntity httpEntity = response.getEntity();
-                if (httpEntity == null) {
-                    return null;
+                return readEntity(response.getEntity(), type);
+            });
+        } catch (IOException ex) {
+            if (ex.getCause() instanceof ResultException) {
+                throw (ResultException) ex.getCause();
+            }
+            throw new ClientResultException(Error.HTTP_IO_ERROR, ex);
+        }
+    }
+
+    /**
+     * <p>
+     * Executes this {@link HttpRestRequest} via the asynchronous HTTP client of the {@link RestSession} and shall
+     * attempt to translate the response´s data transfer object ({@link HttpEntity}) to an instance of the given type.
+     * </p>
+     * <p>
+     * The calling thread is not blocked while the request is processed by the webPDF server. The returned
+     * {@link CompletableFuture} is completed by the I/O threads of the asynchronous HTTP client, as soon as the
+     * response has been received and checked via {@link #checkResponse(ClassicHttpResponse)}.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Should the request fail, the returned {@link CompletableFuture} shall be completed
+     * exceptionally with a {@link ResultException}.
+     * </p>
+     *
+     * @param type The type to translate the data transfer object {@link HttpEntity} to.
+     * @param <T>  The type to translate the data transfer object {@link HttpEntity} to.
+     * @return A {@link CompletableFuture} providing the resulting data transfer object {@link HttpEntity} translated to
+     * an instance of the given type.
+     */
+    public <T> @NotNull CompletableFuture<T> executeRequestAsync(@NotNull Class<T> type) {
+        return executeRequestAsync(SimpleResponseConsumer::create, response -> {
+            BasicClassicHttpResponse classicResponse =
+                    new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+            byte[] body = response.getBodyBytes();
+            if (body != null) {
+                classicResponse.setEntity(new ByteArrayEntity(body, response.getContentType()));
+            }
+            checkResponse(classicResponse);
+            try {
+                return readEntity(classicResponse.getEntity(), type);
+            } catch (IOException ex) {
+                if (ex.getCause() instanceof ResultException) {
+                    throw (ResultException) ex.getCause();
                 }
+                throw new ClientResultException(Error.HTTP_IO_ERROR, ex);
+            }
+        });
+    }
 
-                ContentType contentType = ContentType.DEFAULT_TEXT;
-                String responseContentType = httpEntity.getContentType();
+    /**
+     * <p>
+     * Executes this {@link HttpRestRequest} via the asynchronous HTTP client of the {@link RestSession} and shall
+     * write the contained data transfer object {@link HttpEntity} to the given {@link OutputStream}.
+     * </p>
+     * <p>
+     * The calling thread is not blocked while the request is processed by the webPDF server. The response content is
+     * written to the {@link OutputStream} in chunks, as soon as it is received by the I/O threads of the asynchronous
+     * HTTP client.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The given {@link OutputStream} must not be closed, before the returned
+     * {@link CompletableFuture} is completed. Should the request fail, the returned {@link CompletableFuture} shall be
+     * completed exceptionally with a {@link ResultException}.
+     * </p>
+     *
+     * @param outputStream The {@link OutputStream} to write the data transfer object {@link HttpEntity} to.
+     * @return A {@link CompletableFuture}, that is completed, when the data transfer object {@link HttpEntity} has been
+     * written to the {@link OutputStream}.
+     */
+    public @NotNull CompletableFuture<Void> executeRequestAsync(@NotNull OutputStream outputStream) {
+        OutputStreamResponseConsumer responseConsumer = new OutputStreamResponseConsumer(outputStream);
+        return executeRequestAsync(() -> responseConsumer, response -> {
+            checkResponse(response);
+            return null;
+        });
+    }
 
-                if (responseContentType != null) {
-                    int mimetypeIndex = responseContentType.indexOf(';');
-                    if (mimetypeIndex != -1) {
-                        responseContentType = responseContentType.substring(0, mimetypeIndex);
-                    }
+    /**
+     * <p>
+     * Executes this {@link HttpRestRequest} via the asynchronous HTTP client of the {@link RestSession} and shall
+     * write the contained data transfer object {@link HttpEntity} to the given {@link FileChannel}, starting at the
+     * given position.
+     * </p>
+     * <p>
+     * The response content is written using positional writes, which neither depend on nor change the position of the
+     * {@link FileChannel}. Multiple requests may therefore write disjoint sections of the same {@link FileChannel}
+     * concurrently.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Should a {@link HttpHeaders#RANGE} header have been set for this {@link HttpRestRequest}, the
+     * webPDF server must answer with {@link HttpStatus#SC_PARTIAL_CONTENT}. A complete response is treated as a
+     * failure in that case, as it´s content would not match the requested byte range. The given {@link FileChannel}
+     * must not be closed, before the returned {@link CompletableFuture} is completed. Should the request fail, the
+     * returned {@link CompletableFuture} shall be completed exceptionally with a {@link ResultException}.
+     * </p>
+     *
+     * @param target   The {@link FileChannel} to write the data transfer object {@link HttpEntity} to.
+     * @param position The position of the {@link FileChannel} to start writing at.
+     * @return A {@link CompletableFuture} providing the number of bytes written to the {@link FileChannel}.
+     */
+    public @NotNull CompletableFuture<Long> executeRequestAsync(@NotNull FileChannel target, long position) {
+        boolean partial = this.httpUriRequest != null && this.httpUriRequest.containsHeader(HttpHeaders.RANGE);
+        FileChannelResponseConsumer responseConsumer = new FileChannelResponseConsumer(target, position, partial);
+        return executeRequestAsync(() -> responseConsumer, response -> {
+            if (partial && response.getCode() == HttpStatus.SC_OK) {
+                throw new ClientResultException(Error.HTTP_CUSTOM_ERROR).appendMessage(
+                        "The requested byte range has not been honoured by the server.");
+            }
+            checkResponse(response);
+            return responseConsumer.getWritten();
+        });
+    }
 
-                    contentType = ContentType.create(responseContentType, StandardCharsets.UTF_8);
+    /**
+     * <p>
+     * Executes this {@link HttpRestRequest} via the asynchronous HTTP client of the {@link RestSession}, consumes the
+     * response via an {@link AsyncResponseConsumer} of the given {@link Supplier} and translates the consumed response
+     * using the given {@link ResponseHandler}.
+     * </p>
+     * <p>
+     * The asynchronous HTTP client does not pass the {@link HttpAuthorizationHandler}. Should the request be authorized
+     * by the {@link AuthProvider} of the {@link RestSession} and be rejected with {@link HttpStatus#SC_UNAUTHORIZED},
+     * it is therefore recovered via {@link HttpAuthorizationHandler#recover(HttpRequest, boolean)} and replayed once
+     * with the refreshed authorization, if it´s content is repeatable.
+     * </p>
+     *
+     * @param responseConsumers The {@link Supplier} providing the {@link AsyncResponseConsumer} for each attempt.
+     * @param responseHandler   The {@link ResponseHandler} translating the consumed response.
+     * @param <R>               The type of the consumed response.
+     * @param <T>               The type of the translated response.
+     * @return A {@link CompletableFuture} providing the translated response.
+     */
+    private <R extends HttpResponse, T> @NotNull CompletableFuture<T> executeRequestAsync(
+            @NotNull Supplier<AsyncResponseConsumer<R>> responseConsumers,
+            @NotNull ResponseHandler<R, T> responseHandler) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (this.httpUriRequest == null) {
+            result.completeExceptionally(new ClientResultException(Error.UNKNOWN_HTTP_METHOD));
+            return result;
+        }
+        executeRequestAsync(this.httpUriRequest, responseConsumers, responseHandler, result,
+                this.providedAuthorization);
+        return result;
+    }
+
+    /**
+     * Sends the given request via the asynchronous HTTP client of the {@link RestSession} and completes the given
+     * {@link CompletableFuture} with the translated response, or replays the request, should it have been rejected
+     * as unauthorized.
+     *
+     * @param request           The request to send.
+     * @param responseConsumers The {@link Supplier} providing the {@link AsyncResponseConsumer} for each attempt.
+     * @param responseHandler   The {@link ResponseHandler} translating the consumed response.
+     * @param result            The {@link CompletableFuture} to complete.
+     * @param replayable        {@code true}, if the request may be replayed with a refreshed authorization.
+     * @param <R>               The type of the consumed response.
+     * @param <T>               The type of the translated response.
+     */
+    private <R extends HttpResponse, T> void executeRequestAsync(@NotNull HttpUriRequest request,
+            @NotNull Supplier<AsyncResponseConsumer<R>> responseConsumers,
+            @NotNull ResponseHandler<R, T> responseHandler, @NotNull CompletableFuture<T> result,
+            boolean replayable) {
+        try {
+            HttpEntity httpEntity = request.getEntity();
+            Future<R> future = this.session.getHttpAsyncClient().execute(
+                    new BasicRequestProducer(request,
+                            httpEntity != null ? new HttpEntityAsyncProducer(httpEntity) : null),
+                    responseConsumers.get(),
+                    new FutureCallback<R>() {
+                        @Override
+                        public void completed(R response) {
+                            if (!replayable || response.getCode() != HttpStatus.SC_UNAUTHORIZED) {
+                                handleResponse(response, responseHandler, result);
+                                return;
+                            }
+                            // refreshing the authorization blocks and must therefore not occupy an I/O thread.
+                            try {
+                                session.getExecutor().execute(() -> replayRequest(request, response,
+                                        responseConsumers, responseHandler, result));
+                            } catch (RejectedExecutionException ex) {
+                                handleResponse(response, responseHandler, result);
+                            }
+                        }
+
+                        @Override
+                        public void failed(Exception ex) {
+                            result.completeExceptionally(new ClientResultException(Error.HTTP_IO_ERROR, ex));
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            result.cancel(false);
+                        }
+                    });
+            result.whenComplete((value, ex) -> {
+                if (result.isCancelled()) {
+                    future.cancel(true);
                 }
+            });
+        } catch (ResultException ex) {
+            result.completeExceptionally(ex);
+        }
+    }
 
-                String mimeType = contentType.getMimeType();
-                Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+    /**
+     * Refreshes the authorization of the given request, that has been rejected as unauthorized, and replays it once.
+     * Should the request not be replayable, the given rejecting response is translated instead. The rejecting
+     * response has been consumed completely and it´s connection has been released, before this is called, so that
+     * the refresh does not wait for it.
+     *
+     * @param request           The rejected request.
+     * @param response          The rejecting response.
+     * @param responseConsumers The {@link Supplier} providing the {@link AsyncResponseConsumer} for each attempt.
+     * @param responseHandler   The {@link ResponseHandler} translating the consumed response.
+     * @param result            The {@link CompletableFuture} to complete.
+     * @param <R>               The type of the consumed response.
+     * @param <T>               The type of the translated response.
+     */
+    private <R extends HttpResponse, T> void replayRequest(@NotNull HttpUriRequest request, @NotNull R response,
+            @NotNull Supplier<AsyncResponseConsumer<R>> responseConsumers,
+            @NotNull ResponseHandler<R, T> responseHandler, @NotNull CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        HttpEntity httpEntity = request.getEntity();
+        Header refreshedHeader = this.session.getAuthorizationHandler()
+                .recover(request, httpEntity == null || httpEntity.isRepeatable());
+        if (refreshedHeader == null) {
+            handleResponse(response, responseHandler, result);
+            return;
+        }
+        request.setHeader(refreshedHeader);
+        executeRequestAsync(request, responseConsumers, responseHandler, result, false);
+    }
 
-                String value = EntityUtils.toString(httpEntity, charset);
-                if (StringUtils.isEmpty(value)) {
-                    return null;
-                }
+    /**
+     * Translates the given consumed response using the given {@link ResponseHandler} and completes the given
+     * {@link CompletableFuture} with the result.
+     *
+     * @param response        The consumed response.
+     * @param responseHandler The {@link ResponseHandler} translating the consumed response.
+     * @param result          The {@link CompletableFuture} to complete.
+     * @param <R>             The type of the consumed response.
+     * @param <T>             The type of the translated response.
+     */
+    private static <R, T> void handleResponse(@NotNull R response, @NotNull ResponseHandler<R, T> responseHandler,
+            @NotNull CompletableFuture<T> result) {
+        try {
+            result.complete(responseHandler.handle(response));
+        } catch (ResultException ex) {
+            result.completeExceptionally(ex);
+        } catch (RuntimeException ex) {
+            // the future must complete, even should the response content be unmappable.
+            result.completeExceptionally(new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT, ex));
+        }
+    }
 
-                if (type.isInstance(value)) {
-                    return type.cast(value);
-                }
-                if (!DataFormat.JSON.matches(mimeType)) {
-                    return null;
-                }
-                try (StringReader stringReader = new StringReader(value)) {
-                    StreamSource streamSource = new StreamSource(stringReader);
-                    return SerializeHelper.fromJSON(streamSource, type);
-                } catch (ResultException ex) {
-                    throw new IOException(ex);
-                }
-            });
-        } catch (IOException ex) {
-            if (ex.getCause() instanceof ResultException) {
-                throw (ResultException) ex.getCause();
+    /**
+     * Attempts to translate the given data transfer object ({@link HttpEntity}) to an instance of the given type.
+     *
+     * @param httpEntity The data transfer object {@link HttpEntity} to translate.
+     * @param type       The type to translate the data transfer object {@link HttpEntity} to.
+     * @param <T>        The type to translate the data transfer object {@link HttpEntity} to.
+     * @return The data transfer object {@link HttpEntity} translated to an instance of the given type.
+     * @throws IOException Shall be thrown, should reading or translating the {@link HttpEntity} fail.
+     */
+    private <T> @Nullable T readEntity(@Nullable HttpEntity httpEntity, @NotNull Class<T> type) throws IOException {
+        if (httpEntity == null) {
+            return null;
+        }
+
+        String responseContentType = httpEntity.getContentType();
+        ContentType contentType = responseContentType != null ? ContentType.parseLenient(responseContentType) : null;
+        String mimeType = contentType != null ? contentType.getMimeType() : ContentType.TEXT_PLAIN.getMimeType();
+        Charset charset = contentType != null && contentType.getCharset() != null ?
+                contentType.getCharset() : StandardCharsets.UTF_8;
+
+        // only a String result requires the content to be buffered - all other results are parsed from the stream.
+        if (type.isAssignableFrom(String.class)) {
+            String value;
+            try {
+                value = EntityUtils.toString(httpEntity, charset);
+            } catch (ParseException ex) {
+                throw new IOException(ex);
             }
-            throw new ClientResultException(Error.HTTP_IO_ERROR, ex);
+            return StringUtils.isEmpty(value) ? null : type.cast(value);
+        }
+        if (!DataFormat.JSON.matches(mimeType)) {
+            return null;
         }
+        try (PushbackInputStream inputStream = new PushbackInputStream(httpEntity.getContent())) {
+            int firstByte = inputStream.read();
+            if (firstByte == -1) {
+                return null;
+            }
+            inputStream.unread(firstByte);
+            return SerializeHelper.fromJSON(inputStream, charset, type);
+        } catch (ResultException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * A {@link ResponseHandler} translates a response, that has been consumed by an {@link AsyncResponseConsumer}.
+     *
+     * @param <R> The type of the consumed response.
+     * @param <T> The type of the translated response.
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<R, T> {
+
+        /**
+         * Translates the given consumed response.
+         *
+         * @param response The consumed response.
+         * @return The translated response.
+         * @throws ResultException Shall be thrown, should the response represent a failure state.
+         */
+        @Nullable T handle(@NotNull R response) throws ResultException;
+
+    }
+
+    /**
+     * <p>
+     * A {@link FileChannelResponseConsumer} writes the content of a successful response to a {@link FileChannel} as
+     * soon as it is received, using positional writes starting at a given position.
+     * </p>
+     * <p>
+     * The content of a failure response is buffered instead, so that it may be checked via
+     * {@link #checkResponse(ClassicHttpResponse)}. A complete response to a byte range request is discarded.
+     * </p>
+     */
+    private static class FileChannelResponseConsumer extends AbstractBinResponseConsumer<ClassicHttpResponse> {
+
+        private final @NotNull FileChannel fileChannel;
+        private final long position;
+        private final boolean partial;
+        private volatile long written;
+        private boolean ignored;
+        private @Nullable BasicClassicHttpResponse response;
+        private @Nullable ContentType contentType;
+        private @Nullable ByteArrayOutputStream failureContent;
+
+        /**
+         * Creates a {@link FileChannelResponseConsumer} writing the response content to the given {@link FileChannel},
+         * starting at the given position.
+         *
+         * @param fileChannel The {@link FileChannel} to write the response content to.
+         * @param position    The position of the {@link FileChannel} to start writing at.
+         * @param partial     {@code true}, if only a {@link HttpStatus#SC_PARTIAL_CONTENT} response shall be written.
+         */
+        private FileChannelResponseConsumer(@NotNull FileChannel fileChannel, long position, boolean partial) {
+            this.fileChannel = fileChannel;
+            this.position = position;
+            this.partial = partial;
+        }
+
+        /**
+         * Returns the number of bytes written to the {@link FileChannel}.
+         *
+         * @return The number of bytes written to the {@link FileChannel}.
+         */
+        private long getWritten() {
+            return this.written;
+        }
+
+        @Override
+        protected void start(@NotNull HttpResponse response, @Nullable ContentType contentType) {
+            this.response = new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+            this.contentType = contentType;
+            this.written = 0;
+            int code = response.getCode();
+            this.ignored = this.partial && code == HttpStatus.SC_OK;
+            this.failureContent = code == HttpStatus.SC_OK || code == HttpStatus.SC_PARTIAL_CONTENT ?
+                    null : new ByteArrayOutputStream();
+        }
+
+        @Override
+        protected int capacityIncrement() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        protected void data(@NotNull ByteBuffer src, boolean endOfStream) throws IOException {
+            if (this.ignored) {
+                src.position(src.limit());
+                return;
+            }
+            if (this.failureContent != null) {
+                byte[] bytes = new byte[src.remaining()];
+                src.get(bytes);
+                this.failureContent.write(bytes);
+                return;
+            }
+            while (src.hasRemaining()) {
+                this.written += this.fileChannel.write(src, this.position + this.written);
+            }
+        }
+
+        @Override
+        protected @Nullable ClassicHttpResponse buildResult() {
+            if (this.response != null && this.failureContent != null) {
+                this.response.setEntity(new ByteArrayEntity(this.failureContent.toByteArray(), this.contentType));
+            }
+            return this.response;
+        }
+
+        @Override
+        public void releaseResources() {
+        }
+
+    }
+
+    /**
+     * <p>
+     * An {@link OutputStreamResponseConsumer} streams the content of a successful response to an {@link OutputStream}
+     * as soon as it is received.
+     * </p>
+     * <p>
+     * The content of a failure response is buffered instead, so that it may be checked via
+     * {@link #checkResponse(ClassicHttpResponse)}.
+     * </p>
+     */
+    private static class OutputStreamResponseConsumer extends AbstractBinResponseConsumer<ClassicHttpResponse> {
+
+        private final @NotNull OutputStream outputStream;
+        private @Nullable BasicClassicHttpResponse response;
+        private @Nullable ContentType contentType;
+        private @Nullable ByteArrayOutputStream failureContent;
+
+        /**
+         * Creates a {@link OutputStreamResponseConsumer} writing the response content to the given
+         * {@link OutputStream}.
+         *
+         * @param outputStream The {@link OutputStream} to write the response content to.
+         */
+        private OutputStreamResponseConsumer(@NotNull OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        protected void start(@NotNull HttpResponse response, @Nullable ContentType contentType) {
+            this.response = new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+            this.contentType = contentType;
+            // the consumer is reused, should the request be replayed with a refreshed authorization.
+            this.failureContent = response.getCode() == HttpStatus.SC_OK ||
+                    response.getCode() == HttpStatus.SC_PARTIAL_CONTENT ? null : new ByteArrayOutputStream();
+        }
+
+        @Override
+        protected int capacityIncrement() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        protected void data(@NotNull ByteBuffer src, boolean endOfStream) throws IOException {
+            OutputStream target = this.failureContent != null ? this.failureContent : this.outputStream;
+            if (src.hasArray()) {
+                target.write(src.array(), src.arrayOffset() + src.position(), src.remaining());
+                src.position(src.limit());
+            } else {
+                byte[] bytes = new byte[src.remaining()];
+                src.get(bytes);
+                target.write(bytes);
+            }
+        }
+
+        @Override
+        protected @Nullable ClassicHttpResponse buildResult() {
+            if (this.response != null && this.failureContent != null) {
+                this.response.setEntity(new ByteArrayEntity(this.failureContent.toByteArray(), this.contentType));
+            }
+            return this.response;
+        }
+
+        @Override
+        public void releaseResources() {
+        }
+
     }
 
 }
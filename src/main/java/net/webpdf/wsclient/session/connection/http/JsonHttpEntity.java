@@ -0,0 +1,196 @@
+package net.webpdf.wsclient.session.connection.http;
+
+import net.webpdf.wsclient.exception.ResultException;
+import net.webpdf.wsclient.session.DataFormat;
+import net.webpdf.wsclient.tools.SerializeHelper;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * An instance of {@link JsonHttpEntity} provides a data transfer object (bean) as a {@link DataFormat#JSON}
+ * {@link HttpEntity}.
+ * </p>
+ * <p>
+ * A streaming {@link JsonHttpEntity} serializes the bean directly to the request´s {@link OutputStream}, whenever it
+ * is sent, without holding the serialized content in memory. The content length is unknown in that case, which is
+ * why the content is transferred using chunked encoding.
+ * </p>
+ * <p>
+ * A cached {@link JsonHttpEntity} serializes the bean once, when it is created. The serialized bytes are sent with a
+ * known content length and are reused, should the request be repeated.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> Both variants are repeatable, but a streaming {@link JsonHttpEntity} reflects the current state of
+ * the bean each time it is sent. The bean should therefore not be modified, while a request is in progress.
+ * </p>
+ */
+public class JsonHttpEntity implements HttpEntity {
+
+    private static final @NotNull ContentType CONTENT_TYPE =
+            ContentType.create(DataFormat.JSON.getMimeType(), StandardCharsets.UTF_8);
+    private final @Nullable Object bean;
+    private final byte @Nullable [] content;
+
+    /**
+     * Creates a streaming {@link JsonHttpEntity} for the given data transfer object (bean).
+     *
+     * @param bean The data transfer object (bean), that shall be serialized.
+     */
+    public JsonHttpEntity(@Nullable Object bean) {
+        this.bean = bean;
+        this.content = null;
+    }
+
+    /**
+     * Creates a {@link JsonHttpEntity} for the given data transfer object (bean). Should cached be {@code true}, the
+     * bean shall be serialized immediately and the serialized bytes shall be reused for all transmissions.
+     *
+     * @param bean   The data transfer object (bean), that shall be serialized.
+     * @param cached {@code true}, if the bean shall be serialized once and the serialized bytes shall be cached.
+     * @throws ResultException Shall be thrown, should the serialization of the bean fail.
+     */
+    public JsonHttpEntity(@Nullable Object bean, boolean cached) throws ResultException {
+        this.bean = bean;
+        this.content = cached ? SerializeHelper.toJSONBytes(bean) : null;
+    }
+
+    /**
+     * Returns {@code true}, as the bean may be serialized repeatedly.
+     *
+     * @return {@code true}, as the bean may be serialized repeatedly.
+     */
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * Returns the length of the serialized bean, or -1, if this {@link JsonHttpEntity} is streaming.
+     *
+     * @return The length of the serialized bean, or -1, if this {@link JsonHttpEntity} is streaming.
+     */
+    @Override
+    public long getContentLength() {
+        return this.content != null ? this.content.length : -1;
+    }
+
+    /**
+     * Returns the {@link DataFormat#JSON} content type.
+     *
+     * @return The {@link DataFormat#JSON} content type.
+     */
+    @Override
+    public @NotNull String getContentType() {
+        return CONTENT_TYPE.toString();
+    }
+
+    /**
+     * Returns {@code null}, as the content is not encoded.
+     *
+     * @return {@code null}, as the content is not encoded.
+     */
+    @Override
+    public @Nullable String getContentEncoding() {
+        return null;
+    }
+
+    /**
+     * Returns {@code true}, if this {@link JsonHttpEntity} is streaming and shall be sent using chunked encoding.
+     *
+     * @return {@code true}, if this {@link JsonHttpEntity} is streaming and shall be sent using chunked encoding.
+     */
+    @Override
+    public boolean isChunked() {
+        return this.content == null;
+    }
+
+    /**
+     * Returns an empty set, as this {@link JsonHttpEntity} does not provide trailers.
+     *
+     * @return An empty set, as this {@link JsonHttpEntity} does not provide trailers.
+     */
+    @Override
+    public @NotNull Set<String> getTrailerNames() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns {@code null}, as this {@link JsonHttpEntity} does not provide trailers.
+     *
+     * @return {@code null}, as this {@link JsonHttpEntity} does not provide trailers.
+     */
+    @Override
+    public @Nullable Supplier<List<? extends Header>> getTrailers() {
+        return null;
+    }
+
+    /**
+     * Returns the serialized bean as an {@link InputStream}.<br>
+     * A streaming {@link JsonHttpEntity} must serialize the bean to memory for this.
+     *
+     * @return The serialized bean as an {@link InputStream}.
+     * @throws IOException Shall be thrown, should the serialization of the bean fail.
+     */
+    @Override
+    public @NotNull InputStream getContent() throws IOException {
+        try {
+            return new ByteArrayInputStream(this.content != null ?
+                    this.content : SerializeHelper.toJSONBytes(this.bean));
+        } catch (ResultException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Writes the serialized bean to the given {@link OutputStream}. A streaming {@link JsonHttpEntity} serializes the
+     * bean directly to the {@link OutputStream}.
+     *
+     * @param outputStream The {@link OutputStream} to write the serialized bean to.
+     * @throws IOException Shall be thrown, should the serialization of the bean or writing it fail.
+     */
+    @Override
+    public void writeTo(@NotNull OutputStream outputStream) throws IOException {
+        if (this.content != null) {
+            outputStream.write(this.content);
+            outputStream.flush();
+            return;
+        }
+        try {
+            SerializeHelper.toJSON(this.bean, outputStream);
+        } catch (ResultException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Returns {@code false}, as this {@link JsonHttpEntity} does not depend on an underlying stream.
+     *
+     * @return {@code false}, as this {@link JsonHttpEntity} does not depend on an underlying stream.
+     */
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Closes this {@link JsonHttpEntity}, which does not hold any resources.
+     */
+    @Override
+    public void close() {
+    }
+
+}
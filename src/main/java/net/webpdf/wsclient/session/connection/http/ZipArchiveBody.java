@@ -0,0 +1,96 @@
+package net.webpdf.wsclient.session.connection.http;
+
+import net.webpdf.wsclient.tools.FileTransferHelper;
+import org.apache.hc.client5.http.entity.mime.AbstractContentBody;
+import org.apache.hc.client5.http.entity.mime.ContentBody;
+import org.apache.hc.core5.http.ContentType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * <p>
+ * An instance of {@link ZipArchiveBody} provides a set of local files as a ZIP archive multipart {@link ContentBody}.
+ * </p>
+ * <p>
+ * The archive is not created in advance, but is written directly to the request´s {@link OutputStream}, whenever the
+ * request is sent. The size of the archive is therefore unknown and the content is transferred using chunked
+ * encoding.
+ * </p>
+ */
+public class ZipArchiveBody extends AbstractContentBody {
+
+    private static final @NotNull ContentType CONTENT_TYPE = ContentType.create("application/zip");
+    private final @NotNull Map<String, Path> entries;
+    private final @Nullable String fileName;
+
+    /**
+     * Creates a {@link ZipArchiveBody} for the given archive entries.
+     *
+     * @param entries  The {@link Path}s of the files to archive, mapped to the names of their archive entries.
+     * @param fileName The file name, that shall be announced for the archive.
+     */
+    public ZipArchiveBody(@NotNull Map<String, Path> entries, @Nullable String fileName) {
+        super(CONTENT_TYPE);
+        this.entries = Collections.unmodifiableMap(new LinkedHashMap<>(entries));
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns the file name, that shall be announced for the archive.
+     *
+     * @return The file name, that shall be announced for the archive.
+     */
+    @Override
+    public @Nullable String getFilename() {
+        return this.fileName;
+    }
+
+    /**
+     * Returns -1, as the size of the archive is not known in advance.
+     *
+     * @return -1, as the size of the archive is not known in advance.
+     */
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * Writes the archive entries to the given {@link OutputStream}. The {@link OutputStream} shall not be closed.
+     *
+     * @param outputStream The {@link OutputStream} to write the archive to.
+     * @throws IOException Shall be thrown, should reading a file or writing the archive fail.
+     */
+    @Override
+    public void writeTo(@NotNull OutputStream outputStream) throws IOException {
+        // the archive must be finished, but the underlying stream is owned by the multipart entity.
+        ZipOutputStream zipOutputStream = new ZipOutputStream(new FilterOutputStream(outputStream) {
+            @Override
+            public void write(byte @NotNull [] buffer, int offset, int length) throws IOException {
+                this.out.write(buffer, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        });
+        for (Map.Entry<String, Path> entry : this.entries.entrySet()) {
+            zipOutputStream.putNextEntry(new ZipEntry(entry.getKey()));
+            FileTransferHelper.transferTo(entry.getValue(), zipOutputStream);
+            zipOutputStream.closeEntry();
+        }
+        zipOutputStream.close();
+    }
+
+}
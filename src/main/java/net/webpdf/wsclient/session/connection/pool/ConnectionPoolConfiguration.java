@@ -0,0 +1,167 @@
+package net.webpdf.wsclient.session.connection.pool;
+
+import net.webpdf.wsclient.session.Session;
+import net.webpdf.wsclient.session.connection.SessionContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * An instance of {@link ConnectionPoolConfiguration} defines the size and connection lifecycle of the HTTP connection
+ * pool a {@link Session} shall use for its requests to the webPDF server.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> A {@link Session} is communicating with a single webPDF server, which is why the number of
+ * connections per route effectively limits the number of requests, that may be executed in parallel by that
+ * {@link Session}.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> A REST session uses separate connection pools for it´s synchronous and asynchronous requests, that
+ * are both limited by this {@link ConnectionPoolConfiguration}. A session executing asynchronous requests may
+ * therefore open up to twice the configured number of connections.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> A {@link ConnectionPoolConfiguration} is not required to serve multiple {@link Session}s at a
+ * time. It is expected to create a new {@link ConnectionPoolConfiguration} for each {@link SessionContext}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public class ConnectionPoolConfiguration {
+
+    /**
+     * The default maximum number of pooled connections.
+     */
+    public static final int DEFAULT_MAX_TOTAL = 20;
+    /**
+     * The default maximum number of pooled connections per route.
+     */
+    public static final int DEFAULT_MAX_PER_ROUTE = 20;
+    /**
+     * The default time (in milliseconds) after which an inactive connection shall be revalidated before reuse.
+     */
+    public static final long DEFAULT_VALIDATE_AFTER_INACTIVITY = 2000;
+
+    private int maxTotal = DEFAULT_MAX_TOTAL;
+    private int maxPerRoute = DEFAULT_MAX_PER_ROUTE;
+    private long connectionTimeToLive = -1;
+    private long validateAfterInactivity = DEFAULT_VALIDATE_AFTER_INACTIVITY;
+    private long idleEvictionInterval = -1;
+
+    /**
+     * Prepares a {@link ConnectionPoolConfiguration} using the default settings.
+     */
+    public ConnectionPoolConfiguration() {
+    }
+
+    /**
+     * Sets the maximum number of connections, that shall be pooled in total.<br>
+     * Values lower than 1 shall be treated as 1.
+     *
+     * @param maxTotal The maximum number of connections, that shall be pooled in total.
+     * @return This {@link ConnectionPoolConfiguration} itself.
+     */
+    public @NotNull ConnectionPoolConfiguration setMaxTotal(int maxTotal) {
+        this.maxTotal = Math.max(1, maxTotal);
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of connections, that shall be pooled in total.
+     *
+     * @return The maximum number of connections, that shall be pooled in total.
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * Sets the maximum number of connections, that shall be pooled per route.<br>
+     * Values lower than 1 shall be treated as 1.
+     *
+     * @param maxPerRoute The maximum number of connections, that shall be pooled per route.
+     * @return This {@link ConnectionPoolConfiguration} itself.
+     */
+    public @NotNull ConnectionPoolConfiguration setMaxPerRoute(int maxPerRoute) {
+        this.maxPerRoute = Math.max(1, maxPerRoute);
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of connections, that shall be pooled per route.
+     *
+     * @return The maximum number of connections, that shall be pooled per route.
+     */
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    /**
+     * Sets the total time (in milliseconds) a pooled connection may be kept alive, before it must be closed.<br>
+     * A value lower than 1 shall not limit the lifetime of pooled connections.
+     *
+     * @param connectionTimeToLive The time to live of pooled connections in milliseconds.
+     * @return This {@link ConnectionPoolConfiguration} itself.
+     */
+    public @NotNull ConnectionPoolConfiguration setConnectionTimeToLive(long connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+        return this;
+    }
+
+    /**
+     * Returns the total time (in milliseconds) a pooled connection may be kept alive, before it must be closed.<br>
+     * A value lower than 1 shall not limit the lifetime of pooled connections.
+     *
+     * @return The time to live of pooled connections in milliseconds.
+     */
+    public long getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    /**
+     * Sets the period of inactivity (in milliseconds) after which a pooled connection shall be revalidated, before it
+     * is leased again.<br>
+     * A value lower than 0 shall disable the revalidation of pooled connections.
+     *
+     * @param validateAfterInactivity The period of inactivity in milliseconds.
+     * @return This {@link ConnectionPoolConfiguration} itself.
+     */
+    public @NotNull ConnectionPoolConfiguration setValidateAfterInactivity(long validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+        return this;
+    }
+
+    /**
+     * Returns the period of inactivity (in milliseconds) after which a pooled connection shall be revalidated, before
+     * it is leased again.<br>
+     * A value lower than 0 shall disable the revalidation of pooled connections.
+     *
+     * @return The period of inactivity in milliseconds.
+     */
+    public long getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    /**
+     * Sets the interval (in milliseconds) in which expired and idle connections shall be evicted from the pool by a
+     * background thread. Connections, that have been idle for longer than this interval, shall be closed.<br>
+     * A value lower than 1 shall disable the background eviction.
+     *
+     * @param idleEvictionInterval The eviction interval in milliseconds.
+     * @return This {@link ConnectionPoolConfiguration} itself.
+     */
+    public @NotNull ConnectionPoolConfiguration setIdleEvictionInterval(long idleEvictionInterval) {
+        this.idleEvictionInterval = idleEvictionInterval;
+        return this;
+    }
+
+    /**
+     * Returns the interval (in milliseconds) in which expired and idle connections shall be evicted from the pool by a
+     * background thread.<br>
+     * A value lower than 1 shall disable the background eviction.
+     *
+     * @return The eviction interval in milliseconds.
+     */
+    public long getIdleEvictionInterval() {
+        return idleEvictionInterval;
+    }
+
+}
@@ -0,0 +1,23 @@
+package net.webpdf.wsclient.session.pool;
+
+import net.webpdf.wsclient.exception.ResultException;
+import net.webpdf.wsclient.session.Session;
+import net.webpdf.wsclient.session.auth.AuthProvider;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An {@link AuthProviderSupplier} creates a new {@link AuthProvider} for each {@link Session} established by a
+ * {@link SessionPool}, as an {@link AuthProvider} is not required to serve multiple {@link Session}s at a time.
+ */
+@FunctionalInterface
+public interface AuthProviderSupplier {
+
+    /**
+     * Creates a new {@link AuthProvider}.
+     *
+     * @return The created {@link AuthProvider}.
+     * @throws ResultException Shall be thrown, should the {@link AuthProvider} not be creatable.
+     */
+    @NotNull AuthProvider createAuthProvider() throws ResultException;
+
+}
@@ -0,0 +1,76 @@
+package net.webpdf.wsclient.session.pool;
+
+import net.webpdf.wsclient.session.rest.RestSession;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * A {@link SessionLease} grants exclusive access to a {@link RestSession} of a {@link SessionPool}, until it is
+ * closed. Closing the {@link SessionLease} returns the {@link RestSession} to the {@link SessionPool}.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> The leased {@link RestSession} must neither be closed, nor be used after the {@link SessionLease}
+ * has been closed. Should the {@link RestSession} have become unusable, the {@link SessionLease} should be
+ * invalidated via {@link #invalidate()}, so that the {@link RestSession} is discarded instead of being reused.
+ * </p>
+ *
+ * @param <T_SESSION> The leased {@link RestSession} type.
+ */
+public class SessionLease<T_SESSION extends RestSession<?>> implements AutoCloseable {
+
+    private final @NotNull SessionPool<T_SESSION> sessionPool;
+    private final @NotNull T_SESSION session;
+    private final @NotNull AtomicBoolean closed = new AtomicBoolean(false);
+    private volatile boolean valid = true;
+
+    /**
+     * Creates a {@link SessionLease} for the given {@link RestSession} of the given {@link SessionPool}.
+     *
+     * @param sessionPool The {@link SessionPool} the {@link RestSession} has been leased from.
+     * @param session     The leased {@link RestSession}.
+     */
+    SessionLease(@NotNull SessionPool<T_SESSION> sessionPool, @NotNull T_SESSION session) {
+        this.sessionPool = sessionPool;
+        this.session = session;
+    }
+
+    /**
+     * Returns the leased {@link RestSession}.
+     *
+     * @return The leased {@link RestSession}.
+     */
+    public @NotNull T_SESSION getSession() {
+        return this.session;
+    }
+
+    /**
+     * Marks the leased {@link RestSession} as unusable, so that it is discarded, when this {@link SessionLease} is
+     * closed.
+     */
+    public void invalidate() {
+        this.valid = false;
+    }
+
+    /**
+     * Returns {@code true}, if the leased {@link RestSession} shall be returned to the {@link SessionPool} for reuse.
+     *
+     * @return {@code true}, if the leased {@link RestSession} shall be reused.
+     */
+    public boolean isValid() {
+        return this.valid;
+    }
+
+    /**
+     * Returns the leased {@link RestSession} to the {@link SessionPool}. Closing a {@link SessionLease} repeatedly
+     * has no further effect.
+     */
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.sessionPool.release(this.session, this.valid);
+        }
+    }
+
+}
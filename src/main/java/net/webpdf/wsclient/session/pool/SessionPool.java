@@ -0,0 +1,566 @@
+package net.webpdf.wsclient.session.pool;
+
+import net.webpdf.wsclient.exception.ClientResultException;
+import net.webpdf.wsclient.exception.Error;
+import net.webpdf.wsclient.exception.ResultException;
+import net.webpdf.wsclient.openapi.DocumentFile;
+import net.webpdf.wsclient.session.SessionFactory;
+import net.webpdf.wsclient.session.connection.http.HttpMethod;
+import net.webpdf.wsclient.session.connection.http.HttpRestRequest;
+import net.webpdf.wsclient.session.rest.RestSession;
+import net.webpdf.wsclient.session.rest.documents.DocumentLifecyclePolicy;
+import net.webpdf.wsclient.session.rest.documents.DocumentManager;
+import net.webpdf.wsclient.session.rest.documents.RestDocument;
+import net.webpdf.wsclient.session.rest.documents.SynchronizationMode;
+import net.webpdf.wsclient.session.rest.documents.registry.ConcurrentDocumentRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * A {@link SessionPool} keeps a number of authenticated {@link RestSession}s warm and grants exclusive access to them
+ * via {@link SessionLease}s. Leasing a pooled {@link RestSession} avoids the connection handshake and login, that
+ * establishing a new {@link RestSession} for each job would cost.
+ * </p>
+ * <p>
+ * A leased {@link RestSession} is returned to the {@link SessionPool} by closing it´s {@link SessionLease}. Should
+ * {@link SessionPoolConfiguration#isCleanupOnReturn()} be active, the documents of the returned {@link RestSession} are
+ * deleted on the webPDF server, before it is leased again. Idle {@link RestSession}s are validated and their
+ * authorization is refreshed in the background in the {@link SessionPoolConfiguration#getValidationInterval()}.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> A {@link RestSession} is stateful and must never be used by multiple jobs at a time. A pooled
+ * {@link RestSession} must not be closed by the job leasing it - it shall be closed by the {@link SessionPool}, when
+ * it is discarded, or when the {@link SessionPool} is closed.
+ * </p>
+ *
+ * @param <T_SESSION> The pooled {@link RestSession} type.
+ * @see SessionFactory#createPool
+ */
+public class SessionPool<T_SESSION extends RestSession<?>> implements AutoCloseable {
+
+    private final @NotNull SessionSupplier<T_SESSION> sessionSupplier;
+    private final @NotNull SessionPoolConfiguration configuration;
+    private final @NotNull ReentrantLock lock = new ReentrantLock();
+    private final @NotNull Condition available = this.lock.newCondition();
+    private final @NotNull Deque<IdleSession<T_SESSION>> idleSessions = new ArrayDeque<>();
+    private final @NotNull AtomicLong leaseCount = new AtomicLong();
+    private final @NotNull AtomicLong timeoutCount = new AtomicLong();
+    private final @NotNull AtomicLong createdCount = new AtomicLong();
+    private final @NotNull AtomicLong discardedCount = new AtomicLong();
+    private final @Nullable ScheduledThreadPoolExecutor maintenanceScheduler;
+    private final @NotNull ExecutorService cleanupExecutor = createCleanupExecutor();
+    private int total;
+    private int leased;
+    private boolean closed;
+
+    /**
+     * <p>
+     * Creates a {@link SessionPool}, that establishes it´s {@link RestSession}s via the given {@link SessionSupplier}.
+     * The {@link SessionPoolConfiguration#getMinIdle()} {@link RestSession}s are established immediately, so that
+     * invalid connection settings or credentials are reported by the constructor already.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The {@link SessionPoolConfiguration} is read, whenever it is required. Changing it´s size
+     * settings, after the {@link SessionPool} has been created, shall have an effect on subsequent leases.
+     * </p>
+     *
+     * @param sessionSupplier The {@link SessionSupplier} establishing the pooled {@link RestSession}s.
+     * @param configuration   The {@link SessionPoolConfiguration} defining size and lifecycle of the pool.
+     * @throws ResultException Shall be thrown, should establishing the initial {@link RestSession}s fail.
+     */
+    public SessionPool(@NotNull SessionSupplier<T_SESSION> sessionSupplier,
+            @NotNull SessionPoolConfiguration configuration) throws ResultException {
+        this.sessionSupplier = sessionSupplier;
+        this.configuration = configuration;
+        this.maintenanceScheduler = configuration.getValidationInterval() > 0 ? createMaintenanceScheduler() : null;
+        try {
+            for (int index = 0; index < configuration.getMinIdle(); index++) {
+                addIdleSession();
+            }
+        } catch (ResultException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+        if (this.maintenanceScheduler != null) {
+            long validationInterval = configuration.getValidationInterval();
+            this.maintenanceScheduler.scheduleWithFixedDelay(this::maintain, validationInterval,
+                    validationInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the {@link SessionPoolConfiguration} defining size and lifecycle of this {@link SessionPool}.
+     *
+     * @return The {@link SessionPoolConfiguration} of this {@link SessionPool}.
+     */
+    public @NotNull SessionPoolConfiguration getConfiguration() {
+        return this.configuration;
+    }
+
+    /**
+     * <p>
+     * Leases a {@link RestSession} of this {@link SessionPool}. The most recently returned idle {@link RestSession} is
+     * preferred. Should no idle {@link RestSession} exist, a new {@link RestSession} is established, as long as the
+     * {@link SessionPoolConfiguration#getMaxTotal()} has not been reached. Otherwise, the lease waits for the
+     * {@link SessionPoolConfiguration#getLeaseTimeout()} for a {@link RestSession} to be returned.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The returned {@link SessionLease} must be closed, when the job is done, otherwise the leased
+     * {@link RestSession} is lost for the {@link SessionPool}.
+     * </p>
+     *
+     * @return The {@link SessionLease} granting exclusive access to a {@link RestSession}.
+     * @throws ResultException Shall be thrown, should no {@link RestSession} become available in time, should the
+     *                         {@link SessionPool} have been closed, or should establishing a {@link RestSession} fail.
+     */
+    public @NotNull SessionLease<T_SESSION> lease() throws ResultException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(this.configuration.getLeaseTimeout());
+        this.lock.lock();
+        try {
+            while (true) {
+                if (this.closed) {
+                    throw new ClientResultException(Error.SESSION_POOL_CLOSED);
+                }
+                IdleSession<T_SESSION> idleSession = this.idleSessions.pollLast();
+                if (idleSession != null) {
+                    this.leased++;
+                    this.leaseCount.incrementAndGet();
+                    return new SessionLease<>(this, idleSession.getSession());
+                }
+                if (this.total < this.configuration.getMaxTotal()) {
+                    this.total++;
+                    this.leased++;
+                    break;
+                }
+                if (remaining <= 0) {
+                    this.timeoutCount.incrementAndGet();
+                    throw new ClientResultException(Error.SESSION_POOL_EXHAUSTED)
+                            .appendMessage("All " + this.total + " sessions are in use.");
+                }
+                remaining = this.available.awaitNanos(remaining);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ClientResultException(Error.SESSION_POOL_EXHAUSTED, ex);
+        } finally {
+            this.lock.unlock();
+        }
+
+        // the session is established outside the lock, so that returns and leases of idle sessions are not blocked.
+        T_SESSION session;
+        try {
+            session = this.sessionSupplier.createSession();
+        } catch (ResultException | RuntimeException ex) {
+            this.lock.lock();
+            try {
+                this.total--;
+                this.leased--;
+                this.available.signal();
+            } finally {
+                this.lock.unlock();
+            }
+            throw ex;
+        }
+        this.createdCount.incrementAndGet();
+        this.leaseCount.incrementAndGet();
+        return new SessionLease<>(this, session);
+    }
+
+    /**
+     * Returns a {@link SessionPoolStatistics} snapshot of the state and utilization of this {@link SessionPool}.
+     *
+     * @return The {@link SessionPoolStatistics} of this {@link SessionPool}.
+     */
+    public @NotNull SessionPoolStatistics getStatistics() {
+        this.lock.lock();
+        try {
+            return new SessionPoolStatistics(this.idleSessions.size(), this.leased, this.total,
+                    this.configuration.getMaxTotal(), this.leaseCount.get(), this.timeoutCount.get(),
+                    this.createdCount.get(), this.discardedCount.get());
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns {@code true}, if this {@link SessionPool} has been closed.
+     *
+     * @return {@code true}, if this {@link SessionPool} has been closed.
+     */
+    public boolean isClosed() {
+        this.lock.lock();
+        try {
+            return this.closed;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Closes this {@link SessionPool}, stops the background validation and closes all idle {@link RestSession}s.
+     * Pending leases fail and subsequent leases are rejected.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Currently leased {@link RestSession}s are not interrupted - they are closed, when their
+     * {@link SessionLease}s are closed.
+     * </p>
+     */
+    @Override
+    public void close() {
+        List<IdleSession<T_SESSION>> discarded;
+        this.lock.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            discarded = new ArrayList<>(this.idleSessions);
+            this.idleSessions.clear();
+            this.available.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        if (this.maintenanceScheduler != null) {
+            this.maintenanceScheduler.shutdownNow();
+        }
+        // running cleanups are completed - their sessions are discarded, as the pool has been closed.
+        this.cleanupExecutor.shutdown();
+        for (IdleSession<T_SESSION> idleSession : discarded) {
+            discard(idleSession.getSession());
+        }
+    }
+
+    /**
+     * Returns the given leased {@link RestSession} to this {@link SessionPool}. Invalid {@link RestSession}s are
+     * discarded, valid {@link RestSession}s are cleaned up asynchronously, before they become available again.
+     *
+     * @param session The {@link RestSession} to return.
+     * @param valid   {@code true}, if the {@link RestSession} may be reused.
+     */
+    void release(@NotNull T_SESSION session, boolean valid) {
+        boolean discard;
+        this.lock.lock();
+        try {
+            this.leased--;
+            discard = this.closed || !valid;
+        } finally {
+            this.lock.unlock();
+        }
+        if (discard) {
+            discard(session);
+        } else if (this.configuration.isCleanupOnReturn()) {
+            try {
+                this.cleanupExecutor.execute(() -> recycle(session));
+            } catch (RejectedExecutionException ex) {
+                // the pool has been closed meanwhile.
+                discard(session);
+            }
+        } else {
+            restore(session);
+        }
+    }
+
+    /**
+     * Deletes all documents of the given returned {@link RestSession} on the webPDF server and makes it available
+     * again. Should a document remain, the {@link RestSession} is discarded, so that the next job can never access
+     * the documents of a previous job.
+     * <p>
+     * The documents to delete are determined by listing the documents stored on the webPDF server, as the
+     * {@link DocumentManager} neither knows the documents created by webservice calls of the job, nor those evicted
+     * from a bounded registry. This is executed by the cleanup executor of this {@link SessionPool}.
+     * </p>
+     * <p>
+     * The {@link DocumentManager} settings and the cached user information of the {@link RestSession} are reset as
+     * well, so that the behaviour of the next lease does not depend on the job, that has leased it before.
+     * </p>
+     *
+     * @param session The returned {@link RestSession} to clean up.
+     */
+    private void recycle(@NotNull T_SESSION session) {
+        try {
+            DocumentManager<?> documentManager = session.getDocumentManager();
+            // deletions scheduled by the job must not run, after the session has been leased again.
+            documentManager.cleanup().join();
+            DocumentFile[] documentFiles = HttpRestRequest.createRequest(session)
+                    .buildRequest(HttpMethod.GET, "documents/list")
+                    .executeRequest(DocumentFile[].class);
+            if (documentFiles == null) {
+                discard(session);
+                return;
+            }
+            for (DocumentFile documentFile : documentFiles) {
+                if (documentFile.getDocumentId() != null) {
+                    HttpRestRequest.createRequest(session)
+                            .buildRequest(HttpMethod.DELETE, "documents/" + documentFile.getDocumentId())
+                            .executeRequest(Object.class);
+                }
+            }
+            // synchronizing the manager with the emptied server listing also verifies, that no document remains.
+            if (!documentManager.synchronize().isEmpty() || documentManager.getPendingDeletionCount() > 0) {
+                discard(session);
+                return;
+            }
+            resetDocumentManager(documentManager);
+            session.invalidateUserInformation();
+        } catch (ResultException | RuntimeException ex) {
+            discard(session);
+            return;
+        }
+        restore(session);
+    }
+
+    /**
+     * Restores the default settings of the given {@link DocumentManager} of a returned {@link RestSession}: The
+     * document history is deactivated, the {@link SynchronizationMode#FULL} and a default
+     * {@link DocumentLifecyclePolicy} are used and the {@link RestDocument}s are managed by an unbounded
+     * {@link ConcurrentDocumentRegistry}.
+     *
+     * @param documentManager  The {@link DocumentManager} to reset.
+     * @param <T_REST_DOCUMENT> The {@link RestDocument} type managed by the {@link DocumentManager}.
+     * @throws ResultException Shall be thrown, should resetting the {@link DocumentManager} fail.
+     */
+    private static <T_REST_DOCUMENT extends RestDocument> void resetDocumentManager(
+            @NotNull DocumentManager<T_REST_DOCUMENT> documentManager) throws ResultException {
+        documentManager.setDocumentHistoryActive(false);
+        documentManager.setSynchronizationMode(SynchronizationMode.FULL);
+        documentManager.setLifecyclePolicy(new DocumentLifecyclePolicy());
+        documentManager.setDocumentRegistry(new ConcurrentDocumentRegistry<>());
+    }
+
+    /**
+     * Makes the given {@link RestSession} available for leases again, or discards it, should this
+     * {@link SessionPool} have been closed meanwhile.
+     *
+     * @param session The {@link RestSession} to make available.
+     */
+    private void restore(@NotNull T_SESSION session) {
+        this.lock.lock();
+        try {
+            if (!this.closed) {
+                this.idleSessions.addLast(new IdleSession<>(session));
+                this.available.signal();
+                return;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        discard(session);
+    }
+
+    /**
+     * Closes the given {@link RestSession} and releases it´s slot in this {@link SessionPool}. Failing to close the
+     * {@link RestSession} is ignored, as the {@link RestSession} is not used anymore either way.
+     *
+     * @param session The {@link RestSession} to discard.
+     */
+    private void discard(@NotNull T_SESSION session) {
+        try {
+            session.close();
+        } catch (ResultException | RuntimeException ignored) {
+        }
+        this.discardedCount.incrementAndGet();
+        this.lock.lock();
+        try {
+            this.total--;
+            this.available.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Establishes a new {@link RestSession} and adds it to the idle {@link RestSession}s, as long as the
+     * {@link SessionPoolConfiguration#getMaxTotal()} has not been reached.
+     *
+     * @throws ResultException Shall be thrown, should establishing the {@link RestSession} fail.
+     */
+    private void addIdleSession() throws ResultException {
+        this.lock.lock();
+        try {
+            if (this.closed || this.total >= this.configuration.getMaxTotal()) {
+                return;
+            }
+            this.total++;
+        } finally {
+            this.lock.unlock();
+        }
+        T_SESSION session;
+        try {
+            session = this.sessionSupplier.createSession();
+        } catch (ResultException | RuntimeException ex) {
+            this.lock.lock();
+            try {
+                this.total--;
+                this.available.signal();
+            } finally {
+                this.lock.unlock();
+            }
+            throw ex;
+        }
+        this.createdCount.incrementAndGet();
+        restore(session);
+    }
+
+    /**
+     * Validates all idle {@link RestSession}s, that have not been validated for the
+     * {@link SessionPoolConfiguration#getValidationInterval()}, and restores the
+     * {@link SessionPoolConfiguration#getMinIdle()} {@link RestSession}s afterwards. This is executed periodically by
+     * the maintenance scheduler.
+     */
+    private void maintain() {
+        long now = System.currentTimeMillis();
+        long validationInterval = this.configuration.getValidationInterval();
+        List<IdleSession<T_SESSION>> outdated = new ArrayList<>();
+        this.lock.lock();
+        try {
+            Iterator<IdleSession<T_SESSION>> iterator = this.idleSessions.iterator();
+            while (iterator.hasNext()) {
+                IdleSession<T_SESSION> idleSession = iterator.next();
+                if (now - idleSession.getLastValidated() >= validationInterval) {
+                    iterator.remove();
+                    outdated.add(idleSession);
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        // the sessions are validated outside the lock - they are withheld from leases meanwhile.
+        for (IdleSession<T_SESSION> idleSession : outdated) {
+            if (validate(idleSession.getSession())) {
+                restore(idleSession.getSession());
+            } else {
+                discard(idleSession.getSession());
+            }
+        }
+
+        try {
+            while (needsIdleSession()) {
+                addIdleSession();
+            }
+        } catch (ResultException | RuntimeException ignored) {
+            // the webPDF server may be unavailable temporarily - the next maintenance shall try again.
+        }
+    }
+
+    /**
+     * Validates the given idle {@link RestSession}, by refreshing it´s authorization, should it have expired, and by
+     * requesting the user information of the session from the webPDF server.
+     *
+     * @param session The idle {@link RestSession} to validate.
+     * @return {@code true}, if the {@link RestSession} is still usable.
+     */
+    private boolean validate(@NotNull T_SESSION session) {
+        try {
+            session.getAuthProvider().provide(session);
+            session.getUserManager().fetchUserInfo();
+            return true;
+        } catch (ResultException | RuntimeException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code true}, if less than {@link SessionPoolConfiguration#getMinIdle()} {@link RestSession}s are idle
+     * and another {@link RestSession} may be established.
+     *
+     * @return {@code true}, if another idle {@link RestSession} shall be established.
+     */
+    private boolean needsIdleSession() {
+        this.lock.lock();
+        try {
+            return !this.closed && this.idleSessions.size() < this.configuration.getMinIdle() &&
+                    this.total < this.configuration.getMaxTotal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Creates the single threaded scheduler executing the background validation of this {@link SessionPool}. It´s
+     * thread is a daemon, so that an unclosed {@link SessionPool} does not prevent the JVM from exiting.
+     *
+     * @return The scheduler executing the background validation.
+     */
+    private static @NotNull ScheduledThreadPoolExecutor createMaintenanceScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "webpdf-wsclient-session-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Creates the executor cleaning up the returned {@link RestSession}s of this {@link SessionPool}, so that the
+     * blocking requests of the cleanup neither delay the returning job, nor occupy the common pool. A thread is
+     * created for each concurrent cleanup, which is bounded by the {@link SessionPoolConfiguration#getMaxTotal()}.
+     * It´s threads are daemons, so that an unclosed {@link SessionPool} does not prevent the JVM from exiting.
+     *
+     * @return The executor cleaning up the returned {@link RestSession}s.
+     */
+    private static @NotNull ExecutorService createCleanupExecutor() {
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "webpdf-wsclient-session-pool-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * An idle {@link RestSession} of the {@link SessionPool} and the time it has last been validated.
+     *
+     * @param <T_SESSION> The pooled {@link RestSession} type.
+     */
+    private static class IdleSession<T_SESSION extends RestSession<?>> {
+
+        private final @NotNull T_SESSION session;
+        private final long lastValidated = System.currentTimeMillis();
+
+        /**
+         * Creates an {@link IdleSession} for the given {@link RestSession}, that has been validated just now.
+         *
+         * @param session The idle {@link RestSession}.
+         */
+        private IdleSession(@NotNull T_SESSION session) {
+            this.session = session;
+        }
+
+        /**
+         * Returns the idle {@link RestSession}.
+         *
+         * @return The idle {@link RestSession}.
+         */
+        private @NotNull T_SESSION getSession() {
+            return this.session;
+        }
+
+        /**
+         * Returns the time (in milliseconds) the {@link RestSession} has last been validated.
+         *
+         * @return The time (in milliseconds) of the last validation.
+         */
+        private long getLastValidated() {
+            return this.lastValidated;
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+package net.webpdf.wsclient.session.pool;
+
+import net.webpdf.wsclient.session.rest.RestSession;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * An instance of {@link SessionPoolConfiguration} defines the size and the session lifecycle of a {@link SessionPool}.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> Each pooled {@link RestSession} maintains it´s own HTTP connection pool, which is why the maximum
+ * number of pooled {@link RestSession}s should be chosen with the connection limits of the webPDF server in mind.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public class SessionPoolConfiguration {
+
+    /**
+     * The default minimum number of idle {@link RestSession}s, that shall be kept warm.
+     */
+    public static final int DEFAULT_MIN_IDLE = 1;
+    /**
+     * The default maximum number of pooled {@link RestSession}s.
+     */
+    public static final int DEFAULT_MAX_TOTAL = 8;
+    /**
+     * The default time (in milliseconds) to wait for a {@link RestSession} to become available.
+     */
+    public static final long DEFAULT_LEASE_TIMEOUT = 30000;
+    /**
+     * The default interval (in milliseconds) in which idle {@link RestSession}s shall be validated.
+     */
+    public static final long DEFAULT_VALIDATION_INTERVAL = 60000;
+
+    private int minIdle = DEFAULT_MIN_IDLE;
+    private int maxTotal = DEFAULT_MAX_TOTAL;
+    private long leaseTimeout = DEFAULT_LEASE_TIMEOUT;
+    private long validationInterval = DEFAULT_VALIDATION_INTERVAL;
+    private boolean cleanupOnReturn = true;
+
+    /**
+     * Prepares a {@link SessionPoolConfiguration} using the default settings.
+     */
+    public SessionPoolConfiguration() {
+    }
+
+    /**
+     * Sets the minimum number of idle {@link RestSession}s, that shall be kept warm and authenticated.<br>
+     * Values lower than 0 shall be treated as 0.
+     *
+     * @param minIdle The minimum number of idle {@link RestSession}s.
+     * @return This {@link SessionPoolConfiguration} itself.
+     */
+    public @NotNull SessionPoolConfiguration setMinIdle(int minIdle) {
+        this.minIdle = Math.max(0, minIdle);
+        return this;
+    }
+
+    /**
+     * Returns the minimum number of idle {@link RestSession}s, that shall be kept warm and authenticated. The value
+     * shall never exceed the maximum number of pooled {@link RestSession}s.
+     *
+     * @return The minimum number of idle {@link RestSession}s.
+     */
+    public int getMinIdle() {
+        return Math.min(this.minIdle, this.maxTotal);
+    }
+
+    /**
+     * Sets the maximum number of {@link RestSession}s, that shall be pooled in total - leased or idle.<br>
+     * Values lower than 1 shall be treated as 1.
+     *
+     * @param maxTotal The maximum number of pooled {@link RestSession}s.
+     * @return This {@link SessionPoolConfiguration} itself.
+     */
+    public @NotNull SessionPoolConfiguration setMaxTotal(int maxTotal) {
+        this.maxTotal = Math.max(1, maxTotal);
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of {@link RestSession}s, that shall be pooled in total - leased or idle.
+     *
+     * @return The maximum number of pooled {@link RestSession}s.
+     */
+    public int getMaxTotal() {
+        return this.maxTotal;
+    }
+
+    /**
+     * Sets the time (in milliseconds) to wait for a {@link RestSession} to become available, when all
+     * {@link RestSession}s are leased.<br>
+     * Values lower than 0 shall be treated as 0, meaning a lease shall fail immediately.
+     *
+     * @param leaseTimeout The time (in milliseconds) to wait for a {@link RestSession}.
+     * @return This {@link SessionPoolConfiguration} itself.
+     */
+    public @NotNull SessionPoolConfiguration setLeaseTimeout(long leaseTimeout) {
+        this.leaseTimeout = Math.max(0, leaseTimeout);
+        return this;
+    }
+
+    /**
+     * Returns the time (in milliseconds) to wait for a {@link RestSession} to become available, when all
+     * {@link RestSession}s are leased.
+     *
+     * @return The time (in milliseconds) to wait for a {@link RestSession}.
+     */
+    public long getLeaseTimeout() {
+        return this.leaseTimeout;
+    }
+
+    /**
+     * Sets the interval (in milliseconds) in which idle {@link RestSession}s shall be validated in the background.
+     * Validating a {@link RestSession} refreshes it´s authorization, should it have expired. The minimum number of
+     * idle {@link RestSession}s is restored in the same interval.<br>
+     * Values lower than 1 shall deactivate the background validation.
+     *
+     * @param validationInterval The interval (in milliseconds) in which idle {@link RestSession}s shall be validated.
+     * @return This {@link SessionPoolConfiguration} itself.
+     */
+    public @NotNull SessionPoolConfiguration setValidationInterval(long validationInterval) {
+        this.validationInterval = validationInterval;
+        return this;
+    }
+
+    /**
+     * Returns the interval (in milliseconds) in which idle {@link RestSession}s shall be validated in the background.
+     * Values lower than 1 indicate, that the background validation is deactivated.
+     *
+     * @return The interval (in milliseconds) in which idle {@link RestSession}s shall be validated.
+     */
+    public long getValidationInterval() {
+        return this.validationInterval;
+    }
+
+    /**
+     * Sets whether the documents of a {@link RestSession} shall be deleted on the webPDF server, when the
+     * {@link RestSession} is returned to the pool.
+     *
+     * @param cleanupOnReturn {@code true}, if the documents shall be deleted on return.
+     * @return This {@link SessionPoolConfiguration} itself.
+     */
+    public @NotNull SessionPoolConfiguration setCleanupOnReturn(boolean cleanupOnReturn) {
+        this.cleanupOnReturn = cleanupOnReturn;
+        return this;
+    }
+
+    /**
+     * Returns {@code true}, if the documents of a {@link RestSession} shall be deleted on the webPDF server, when the
+     * {@link RestSession} is returned to the pool.
+     *
+     * @return {@code true}, if the documents shall be deleted on return.
+     */
+    public boolean isCleanupOnReturn() {
+        return this.cleanupOnReturn;
+    }
+
+}
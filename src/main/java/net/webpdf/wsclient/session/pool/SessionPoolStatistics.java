@@ -0,0 +1,139 @@
+package net.webpdf.wsclient.session.pool;
+
+import net.webpdf.wsclient.session.rest.RestSession;
+
+/**
+ * An instance of {@link SessionPoolStatistics} is a snapshot of the state and utilization of a {@link SessionPool}.
+ */
+public class SessionPoolStatistics {
+
+    private final int idle;
+    private final int leased;
+    private final int total;
+    private final int maxTotal;
+    private final long leaseCount;
+    private final long timeoutCount;
+    private final long createdCount;
+    private final long discardedCount;
+
+    /**
+     * Creates a {@link SessionPoolStatistics} snapshot.
+     *
+     * @param idle           The number of idle {@link RestSession}s.
+     * @param leased         The number of leased {@link RestSession}s.
+     * @param total          The number of pooled {@link RestSession}s, including those being created, validated or
+     *                       cleaned up.
+     * @param maxTotal       The maximum number of pooled {@link RestSession}s.
+     * @param leaseCount     The number of granted leases.
+     * @param timeoutCount   The number of leases, that could not be granted in time.
+     * @param createdCount   The number of created {@link RestSession}s.
+     * @param discardedCount The number of discarded {@link RestSession}s.
+     */
+    public SessionPoolStatistics(int idle, int leased, int total, int maxTotal, long leaseCount, long timeoutCount,
+            long createdCount, long discardedCount) {
+        this.idle = idle;
+        this.leased = leased;
+        this.total = total;
+        this.maxTotal = maxTotal;
+        this.leaseCount = leaseCount;
+        this.timeoutCount = timeoutCount;
+        this.createdCount = createdCount;
+        this.discardedCount = discardedCount;
+    }
+
+    /**
+     * Returns the number of idle {@link RestSession}s, that are ready to be leased.
+     *
+     * @return The number of idle {@link RestSession}s.
+     */
+    public int getIdle() {
+        return this.idle;
+    }
+
+    /**
+     * Returns the number of currently leased {@link RestSession}s.
+     *
+     * @return The number of leased {@link RestSession}s.
+     */
+    public int getLeased() {
+        return this.leased;
+    }
+
+    /**
+     * Returns the number of pooled {@link RestSession}s, including those being created, validated or cleaned up.
+     *
+     * @return The number of pooled {@link RestSession}s.
+     */
+    public int getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Returns the maximum number of pooled {@link RestSession}s.
+     *
+     * @return The maximum number of pooled {@link RestSession}s.
+     */
+    public int getMaxTotal() {
+        return this.maxTotal;
+    }
+
+    /**
+     * Returns the number of granted leases.
+     *
+     * @return The number of granted leases.
+     */
+    public long getLeaseCount() {
+        return this.leaseCount;
+    }
+
+    /**
+     * Returns the number of leases, that could not be granted in time, as all {@link RestSession}s were leased.
+     *
+     * @return The number of leases, that could not be granted in time.
+     */
+    public long getTimeoutCount() {
+        return this.timeoutCount;
+    }
+
+    /**
+     * Returns the number of {@link RestSession}s, that have been created by the {@link SessionPool}.
+     *
+     * @return The number of created {@link RestSession}s.
+     */
+    public long getCreatedCount() {
+        return this.createdCount;
+    }
+
+    /**
+     * Returns the number of {@link RestSession}s, that have been discarded, as they were invalidated, failed their
+     * validation or cleanup, or as the {@link SessionPool} has been closed.
+     *
+     * @return The number of discarded {@link RestSession}s.
+     */
+    public long getDiscardedCount() {
+        return this.discardedCount;
+    }
+
+    /**
+     * Returns the utilization of the {@link SessionPool}, which is the ratio of leased {@link RestSession}s to the
+     * maximum number of pooled {@link RestSession}s.
+     *
+     * @return The utilization of the {@link SessionPool}, between 0 and 1.
+     */
+    public double getUtilization() {
+        return this.maxTotal > 0 ? (double) this.leased / this.maxTotal : 0;
+    }
+
+    /**
+     * Returns a readable representation of this {@link SessionPoolStatistics}.
+     *
+     * @return A readable representation of this {@link SessionPoolStatistics}.
+     */
+    @Override
+    public String toString() {
+        return "[idle: " + this.idle + "; leased: " + this.leased + "; total: " + this.total + "; max: " +
+                this.maxTotal + "; leases: " + this.leaseCount + "; timeouts: " + this.timeoutCount +
+                "; created: " + this.createdCount + "; discarded: " + this.discardedCount + "]";
+    }
+
+}
@@ -0,0 +1,31 @@
+package net.webpdf.wsclient.session.pool;
+
+import net.webpdf.wsclient.exception.ResultException;
+import net.webpdf.wsclient.session.SessionFactory;
+import net.webpdf.wsclient.session.rest.RestSession;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * A {@link SessionSupplier} creates the {@link RestSession}s pooled by a {@link SessionPool}.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> Each {@link RestSession} requires it´s own session context and authentication provider. A
+ * {@link SessionSupplier} is therefore expected to create them anew for each {@link RestSession}, for example via
+ * {@link SessionFactory#createPool}.
+ * </p>
+ *
+ * @param <T_SESSION> The {@link RestSession} type supplied.
+ */
+@FunctionalInterface
+public interface SessionSupplier<T_SESSION extends RestSession<?>> {
+
+    /**
+     * Creates a new, authenticated {@link RestSession}.
+     *
+     * @return The created {@link RestSession}.
+     * @throws ResultException Shall be thrown, should establishing the {@link RestSession} fail.
+     */
+    @NotNull T_SESSION createSession() throws ResultException;
+
+}
@@ -4,12 +4,16 @@ import net.webpdf.wsclient.exception.ClientResultException;
 import net.webpdf.wsclient.openapi.AuthUserCertificates;
 import net.webpdf.wsclient.openapi.AuthUserCredentials;
 import net.webpdf.wsclient.openapi.KeyStorePassword;
-import net.webpdf.wsclient.session.DataFormat;
 import net.webpdf.wsclient.session.Session;
+import net.webpdf.wsclient.session.auth.AbstractAuthenticationProvider;
 import net.webpdf.wsclient.session.auth.AuthProvider;
+import net.webpdf.wsclient.session.auth.material.token.SessionToken;
+import net.webpdf.wsclient.session.auth.store.SessionTokenStore;
 import net.webpdf.wsclient.session.connection.SessionContext;
 import net.webpdf.wsclient.session.connection.SessionContextSettings;
+import net.webpdf.wsclient.session.connection.http.AuthorizationRecoveryStatistics;
 import net.webpdf.wsclient.session.connection.http.HttpAuthorizationHandler;
+import net.webpdf.wsclient.session.connection.pool.ConnectionPoolConfiguration;
 import net.webpdf.wsclient.session.rest.administration.AdministrationManager;
 import net.webpdf.wsclient.session.rest.documents.RestDocument;
 import net.webpdf.wsclient.session.rest.documents.DocumentManager;
@@ -18,33 +22,42 @@ import net.webpdf.wsclient.exception.Error;
 import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.session.connection.http.HttpMethod;
 import net.webpdf.wsclient.session.connection.http.HttpRestRequest;
+import net.webpdf.wsclient.session.connection.http.JsonHttpEntity;
 import net.webpdf.wsclient.session.AbstractSession;
-import net.webpdf.wsclient.tools.SerializeHelper;
 import net.webpdf.wsclient.webservice.WebServiceProtocol;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.impl.routing.DefaultProxyRoutePlanner;
 import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
-import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.config.Registry;
 import org.apache.hc.core5.http.config.RegistryBuilder;
-import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.charset.UnsupportedCharsetException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
@@ -61,15 +74,22 @@ import java.nio.charset.UnsupportedCharsetException;
 public abstract class AbstractRestSession<T_REST_DOCUMENT extends RestDocument>
         extends AbstractSession implements RestSession<T_REST_DOCUMENT> {
 
-    private static final @NotNull String INFO_PATH = "authentication/user/info/";
     private static final @NotNull String LOGOUT_PATH = "authentication/user/logout/";
-    private static final @NotNull String CERTIFICATES_PATH = "authentication/user/certificates/";
-    private final @Nullable AuthUserCredentials user;
+    private final @NotNull Object userLock = new Object();
+    private volatile @Nullable AuthUserCredentials user;
+    private final @NotNull Object certificatesLock = new Object();
     private final @NotNull CloseableHttpClient httpClient;
+    private final @NotNull PoolingHttpClientConnectionManager connectionManager;
+    private final @NotNull HttpAuthorizationHandler authorizationHandler;
+    private final @NotNull Object httpAsyncClientLock = new Object();
+    private volatile @Nullable CloseableHttpAsyncClient httpAsyncClient;
+    private volatile @Nullable PoolingAsyncClientConnectionManager asyncConnectionManager;
+    private final @NotNull Object executorLock = new Object();
+    private volatile @Nullable ThreadPoolExecutor executor;
     private final @NotNull DocumentManager<T_REST_DOCUMENT> documentManager = createDocumentManager();
     private final @NotNull AdministrationManager<T_REST_DOCUMENT> administrationManager = createAdministrationManager();
     private final @NotNull UserManager<T_REST_DOCUMENT> userManager = createUserManager();
-    private @Nullable AuthUserCertificates certificates;
+    private volatile @Nullable AuthUserCertificates certificates;
 
     /**
      * <p>
@@ -91,34 +111,40 @@ public abstract class AbstractRestSession<T_REST_DOCUMENT extends RestDocument>
             @NotNull SessionContext serverContext, @NotNull AuthProvider authProvider) throws ResultException {
         super(WebServiceProtocol.REST, serverContext, authProvider);
         RequestConfig clientConfig = RequestConfig.custom().setAuthenticationEnabled(true).build();
-        HttpAuthorizationHandler requestAuthorization = new HttpAuthorizationHandler(this);
+        this.authorizationHandler = new HttpAuthorizationHandler(this);
         HttpClientBuilder httpClientBuilder = HttpClients.custom()
                 .setDefaultRequestConfig(clientConfig)
                 .addExecInterceptorAfter(ChainElement.REDIRECT.name(),
-                        requestAuthorization.getExecChainHandlerName(), requestAuthorization);
+                        this.authorizationHandler.getExecChainHandlerName(), this.authorizationHandler);
         if (getSessionContext().getProxy() != null) {
             httpClientBuilder.setRoutePlanner(new DefaultProxyRoutePlanner(
                     getSessionContext().getProxy().getHost()));
         }
+        LayeredConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
         if (serverContext.getTlsContext() != null) {
-            LayeredConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
+            sslSocketFactory = new SSLConnectionSocketFactory(
                     serverContext.getTlsContext().create(),
                     serverContext.getTlsContext().isAllowSelfSigned()
                             ? NoopHostnameVerifier.INSTANCE
                             : new DefaultHostnameVerifier());
-            Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
-                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
-                    .register("https", sslSocketFactory)
-                    .build();
-            httpClientBuilder.setConnectionManager(new PoolingHttpClientConnectionManager(registry));
+        }
+        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build();
+        this.connectionManager = new PoolingHttpClientConnectionManager(registry);
+        ConnectionPoolConfiguration poolConfiguration = getSessionContext().getConnectionPool();
+        this.connectionManager.setMaxTotal(poolConfiguration.getMaxTotal());
+        this.connectionManager.setDefaultMaxPerRoute(poolConfiguration.getMaxPerRoute());
+        this.connectionManager.setDefaultConnectionConfig(createConnectionConfig(poolConfiguration));
+        httpClientBuilder.setConnectionManager(this.connectionManager);
+        if (poolConfiguration.getIdleEvictionInterval() > 0) {
+            httpClientBuilder.evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(poolConfiguration.getIdleEvictionInterval()));
         }
         this.httpClient = httpClientBuilder.build();
-        this.user = HttpRestRequest.createRequest(this)
-                .buildRequest(HttpMethod.GET, INFO_PATH)
-                .executeRequest(AuthUserCredentials.class);
-        this.certificates = HttpRestRequest.createRequest(this)
-                .buildRequest(HttpMethod.GET, CERTIFICATES_PATH)
-                .executeRequest(AuthUserCertificates.class);
+        // the user information and certificates are fetched lazily - only the authorization is established here.
+        getAuthProvider().provide(this);
     }
 
     /**
@@ -131,6 +157,126 @@ public abstract class AbstractRestSession<T_REST_DOCUMENT extends RestDocument>
         return this.httpClient;
     }
 
+    /**
+     * <p>
+     * Returns the {@link CloseableHttpAsyncClient} connected to the webPDF server via this {@link RestSession}.
+     * </p>
+     * <p>
+     * The {@link CloseableHttpAsyncClient} is created and started lazily on first access. It is configured by the
+     * same {@link ConnectionPoolConfiguration} as the {@link CloseableHttpClient} of the {@link RestSession}, but
+     * maintains a separate connection pool.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The limits of the {@link ConnectionPoolConfiguration} therefore apply to each connection pool
+     * separately. Once the {@link CloseableHttpAsyncClient} is used, the {@link RestSession} may open up to twice the
+     * {@link ConnectionPoolConfiguration#getMaxTotal()} and {@link ConnectionPoolConfiguration#getMaxPerRoute()}
+     * connections to the webPDF server.
+     * </p>
+     *
+     * @return The {@link CloseableHttpAsyncClient} connected to the webPDF server via this {@link RestSession}.
+     * @throws ResultException Shall be thrown, should creating the {@link CloseableHttpAsyncClient} fail.
+     */
+    @Override
+    public @NotNull CloseableHttpAsyncClient getHttpAsyncClient() throws ResultException {
+        CloseableHttpAsyncClient asyncClient = this.httpAsyncClient;
+        if (asyncClient == null) {
+            synchronized (this.httpAsyncClientLock) {
+                asyncClient = this.httpAsyncClient;
+                if (asyncClient == null) {
+                    asyncClient = createHttpAsyncClient();
+                    asyncClient.start();
+                    this.httpAsyncClient = asyncClient;
+                }
+            }
+        }
+        return asyncClient;
+    }
+
+    /**
+     * <p>
+     * Returns the {@link Executor} executing the blocking follow-up work of asynchronous operations of this
+     * {@link RestSession}, such as synchronizing the result documents of an asynchronous upload or webservice call.
+     * </p>
+     * <p>
+     * Should no {@link Executor} have been set via the {@link SessionContext}, a bounded executor is created lazily
+     * on first access, that is sized by the {@link ConnectionPoolConfiguration#getMaxPerRoute()}, as the executed
+     * tasks each occupy a connection. That executor is shut down, when the {@link RestSession} is closed.
+     * </p>
+     *
+     * @return The {@link Executor} executing the blocking follow-up work of asynchronous operations.
+     */
+    @Override
+    public @NotNull Executor getExecutor() {
+        Executor contextExecutor = getSessionContext().getExecutor();
+        if (contextExecutor != null) {
+            return contextExecutor;
+        }
+        ThreadPoolExecutor executor = this.executor;
+        if (executor == null) {
+            synchronized (this.executorLock) {
+                executor = this.executor;
+                if (executor == null) {
+                    executor = createExecutor(getSessionContext().getConnectionPool().getMaxPerRoute());
+                    this.executor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Returns a snapshot of the current {@link PoolStats} of the HTTP connection pool used by the
+     * {@link CloseableHttpClient} of this {@link RestSession}, containing the number of leased, available and pending
+     * connections. The connections of the {@link CloseableHttpAsyncClient} are reported by
+     * {@link #getAsyncConnectionPoolStatistics()}.
+     *
+     * @return The current {@link PoolStats} of the HTTP connection pool used by this {@link RestSession}.
+     */
+    @Override
+    public @NotNull PoolStats getConnectionPoolStatistics() {
+        return this.connectionManager.getTotalStats();
+    }
+
+    /**
+     * Returns a snapshot of the current {@link PoolStats} of the HTTP connection pool used by the
+     * {@link CloseableHttpAsyncClient} of this {@link RestSession}, containing the number of leased, available and
+     * pending connections. Should the {@link CloseableHttpAsyncClient} not have been created yet, an empty snapshot
+     * is returned.
+     *
+     * @return The current {@link PoolStats} of the asynchronous HTTP connection pool used by this
+     * {@link RestSession}.
+     */
+    @Override
+    public @NotNull PoolStats getAsyncConnectionPoolStatistics() {
+        PoolingAsyncClientConnectionManager asyncConnectionManager = this.asyncConnectionManager;
+        if (asyncConnectionManager == null) {
+            return new PoolStats(0, 0, 0, getSessionContext().getConnectionPool().getMaxTotal());
+        }
+        return asyncConnectionManager.getTotalStats();
+    }
+
+    /**
+     * Returns a snapshot of the current {@link AuthorizationRecoveryStatistics} of this {@link RestSession}, counting
+     * the requests, that have been rejected as unauthorized and have been replayed with a refreshed authorization.
+     *
+     * @return The current {@link AuthorizationRecoveryStatistics} of this {@link RestSession}.
+     */
+    @Override
+    public @NotNull AuthorizationRecoveryStatistics getAuthorizationRecoveryStatistics() {
+        return this.authorizationHandler.getStatistics();
+    }
+
+    /**
+     * Returns the {@link HttpAuthorizationHandler} of this {@link RestSession}, which recovers requests, that have
+     * been rejected as unauthorized.
+     *
+     * @return The {@link HttpAuthorizationHandler} of this {@link RestSession}.
+     */
+    @Override
+    public @NotNull HttpAuthorizationHandler getAuthorizationHandler() {
+        return this.authorizationHandler;
+    }
+
     /**
      * Returns the active {@link DocumentManager} of this {@link RestSession}.
      *
@@ -162,36 +308,118 @@ public abstract class AbstractRestSession<T_REST_DOCUMENT extends RestDocument>
     }
 
     /**
-     * Returns the {@link AuthUserCredentials} fetched once at session creation time (cached snapshot).
+     * Returns the {@link AuthUserCredentials} fetched once on first access (cached snapshot).
      * <p>
      * This value is not refreshed automatically during the lifetime of the session. To fetch the
      * current user information live from the server, use {@link UserManager#fetchUserInfo()}.
      * </p>
+     * <p>
+     * The value is fetched lazily and only once, even if it is accessed concurrently. Should fetching it fail,
+     * {@code null} is returned and the value is fetched again on the next access.
+     * </p>
      *
      * @return The cached {@link AuthUserCredentials} of the user logged in via this {@link RestSession}.
      * @see UserManager#fetchUserInfo()
      */
     @Override
     public @Nullable AuthUserCredentials getUser() {
+        try {
+            return requireUser();
+        } catch (ResultException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the {@link AuthUserCredentials} fetched once on first access (cached snapshot), just like
+     * {@link #getUser()}, but fails instead of returning {@code null}, should fetching them fail.
+     * <p>
+     * A failed request is not cached, the value is fetched again on the next access.
+     * </p>
+     *
+     * @return The cached {@link AuthUserCredentials} of the user logged in via this {@link RestSession}.
+     * @throws ResultException Shall be thrown, should fetching the {@link AuthUserCredentials} fail.
+     * @see #getUser()
+     */
+    @Override
+    public @NotNull AuthUserCredentials requireUser() throws ResultException {
+        AuthUserCredentials user = this.user;
+        if (user == null) {
+            synchronized (this.userLock) {
+                user = this.user;
+                if (user == null) {
+                    user = getUserManager().fetchUserInfo();
+                    this.user = user;
+                }
+            }
+        }
         return user;
     }
 
     /**
-     * Returns the {@link AuthUserCertificates} fetched at session creation time (cached snapshot).
+     * Returns the {@link AuthUserCertificates} fetched on first access (cached snapshot).
      * <p>
      * This value is refreshed whenever {@link #updateCertificates} is called. To fetch the current
      * certificate state live from the server without modifying passwords, use
      * {@link UserManager#readCertificates()}.
      * </p>
+     * <p>
+     * The value is fetched lazily and only once, even if it is accessed concurrently. Should fetching it fail,
+     * {@code null} is returned and the value is fetched again on the next access.
+     * </p>
      *
      * @return The cached {@link AuthUserCertificates} of the user logged in via this {@link RestSession}.
      * @see UserManager#readCertificates()
      */
     @Override
     public @Nullable AuthUserCertificates getCertificates() {
+        try {
+            return requireCertificates();
+        } catch (ResultException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the {@link AuthUserCertificates} fetched on first access (cached snapshot), just like
+     * {@link #getCertificates()}, but fails instead of returning {@code null}, should fetching them fail.
+     * <p>
+     * A failed request is not cached, the value is fetched again on the next access.
+     * </p>
+     *
+     * @return The cached {@link AuthUserCertificates} of the user logged in via this {@link RestSession}.
+     * @throws ResultException Shall be thrown, should fetching the {@link AuthUserCertificates} fail.
+     * @see #getCertificates()
+     */
+    @Override
+    public @NotNull AuthUserCertificates requireCertificates() throws ResultException {
+        AuthUserCertificates certificates = this.certificates;
+        if (certificates == null) {
+            synchronized (this.certificatesLock) {
+                certificates = this.certificates;
+                if (certificates == null) {
+                    certificates = getUserManager().readCertificates();
+                    this.certificates = certificates;
+                }
+            }
+        }
         return certificates;
     }
 
+    /**
+     * Discards the cached {@link AuthUserCredentials} and {@link AuthUserCertificates} of this {@link RestSession},
+     * so that they are fetched again on their next access.
+     */
+    @Override
+    public void invalidateUserInformation() {
+        synchronized (this.userLock) {
+            this.user = null;
+        }
+        synchronized (this.certificatesLock) {
+            this.certificates = null;
+        }
+    }
+
     /**
      * Updates the {@link KeyStorePassword}s for a specific keystore and returns the updated
      * {@link AuthUserCertificates} for the currently logged-in user.
@@ -220,7 +448,14 @@ public abstract class AbstractRestSession<T_REST_DOCUMENT extends RestDocument>
     }
 
     /**
+     * <p>
      * Close the {@link RestSession}.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Should the {@link AuthProvider} persist it´s {@link SessionToken}s in a
+     * {@link SessionTokenStore}, the {@link RestSession} does not log out, so that subsequent {@link Session}s may
+     * resume the {@link SessionToken}.
+     * </p>
      *
      * @throws ResultException Shall be thrown, if closing the {@link RestSession} failed.
      */
@@ -228,21 +463,113 @@ public abstract class AbstractRestSession<T_REST_DOCUMENT extends RestDocument>
     public void close() throws ResultException {
         ResultException resultException = null;
         try {
-            HttpRestRequest.createRequest(this)
-                    .buildRequest(HttpMethod.GET, LOGOUT_PATH)
-                    .executeRequest(Object.class);
+            // a persisted session token shall remain valid for subsequent sessions.
+            if (!(getAuthProvider() instanceof AbstractAuthenticationProvider) ||
+                    ((AbstractAuthenticationProvider) getAuthProvider()).getSessionTokenStore() == null) {
+                HttpRestRequest.createRequest(this)
+                        .buildRequest(HttpMethod.GET, LOGOUT_PATH)
+                        .executeRequest(Object.class);
+            }
         } finally {
+            if (getAuthProvider() instanceof AbstractAuthenticationProvider) {
+                ((AbstractAuthenticationProvider) getAuthProvider()).cancelBackgroundRefresh();
+            }
             try {
                 this.httpClient.close();
             } catch (IOException ex) {
                 resultException = new ClientResultException(Error.HTTP_IO_ERROR, ex);
             }
+            ThreadPoolExecutor executor = this.executor;
+            if (executor != null) {
+                executor.shutdown();
+            }
+            CloseableHttpAsyncClient asyncClient = this.httpAsyncClient;
+            if (asyncClient != null) {
+                try {
+                    asyncClient.close();
+                } catch (IOException ex) {
+                    resultException = new ClientResultException(Error.HTTP_IO_ERROR, ex);
+                }
+            }
         }
         if (resultException != null) {
             throw resultException;
         }
     }
 
+    /**
+     * Creates the {@link CloseableHttpAsyncClient} of this {@link RestSession}, using the same
+     * {@link ConnectionPoolConfiguration}, TLS and proxy settings as the {@link CloseableHttpClient}. The limits of
+     * the {@link ConnectionPoolConfiguration} are applied to a separate connection pool.
+     *
+     * @return The created {@link CloseableHttpAsyncClient}.
+     * @throws ResultException Shall be thrown, should the TLS settings of the {@link RestSession} be invalid.
+     */
+    private @NotNull CloseableHttpAsyncClient createHttpAsyncClient() throws ResultException {
+        ConnectionPoolConfiguration poolConfiguration = getSessionContext().getConnectionPool();
+        PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder =
+                PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(poolConfiguration.getMaxTotal())
+                        .setMaxConnPerRoute(poolConfiguration.getMaxPerRoute())
+                        .setDefaultConnectionConfig(createConnectionConfig(poolConfiguration));
+        if (getSessionContext().getTlsContext() != null) {
+            connectionManagerBuilder.setTlsStrategy(new DefaultClientTlsStrategy(
+                    getSessionContext().getTlsContext().create(),
+                    getSessionContext().getTlsContext().isAllowSelfSigned()
+                            ? NoopHostnameVerifier.INSTANCE
+                            : new DefaultHostnameVerifier()));
+        }
+        PoolingAsyncClientConnectionManager asyncConnectionManager = connectionManagerBuilder.build();
+        this.asyncConnectionManager = asyncConnectionManager;
+        HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom()
+                .setDefaultRequestConfig(RequestConfig.custom().setAuthenticationEnabled(true).build())
+                .setConnectionManager(asyncConnectionManager);
+        if (getSessionContext().getProxy() != null) {
+            httpAsyncClientBuilder.setRoutePlanner(new DefaultProxyRoutePlanner(
+                    getSessionContext().getProxy().getHost()));
+        }
+        if (poolConfiguration.getIdleEvictionInterval() > 0) {
+            httpAsyncClientBuilder.evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(poolConfiguration.getIdleEvictionInterval()));
+        }
+        return httpAsyncClientBuilder.build();
+    }
+
+    /**
+     * Creates the bounded executor of this {@link RestSession}, executing the blocking follow-up work of asynchronous
+     * operations. It´s threads are daemons and are released, when they have been idle for a minute.
+     *
+     * @param threads The maximum number of threads of the executor.
+     * @return The created executor.
+     */
+    private static @NotNull ThreadPoolExecutor createExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "webpdf-wsclient-session");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates the {@link ConnectionConfig} for pooled connections, as it is defined by the given
+     * {@link ConnectionPoolConfiguration}.
+     *
+     * @param poolConfiguration The {@link ConnectionPoolConfiguration} to create the {@link ConnectionConfig} for.
+     * @return The created {@link ConnectionConfig}.
+     */
+    private static @NotNull ConnectionConfig createConnectionConfig(
+            @NotNull ConnectionPoolConfiguration poolConfiguration) {
+        ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom()
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(poolConfiguration.getValidateAfterInactivity()));
+        if (poolConfiguration.getConnectionTimeToLive() > 0) {
+            connectionConfig.setTimeToLive(TimeValue.ofMilliseconds(poolConfiguration.getConnectionTimeToLive()));
+        }
+        return connectionConfig.build();
+    }
+
     /**
      * Prepares a {@link HttpEntity} for internal requests to the webPDF server.
      *
@@ -252,12 +579,7 @@ public abstract class AbstractRestSession<T_REST_DOCUMENT extends RestDocument>
      * @throws ResultException Shall be thrown, should the {@link HttpEntity} creation fail.
      */
     private <T> @NotNull HttpEntity prepareHttpEntity(@NotNull T parameter) throws ResultException {
-        try {
-            return new StringEntity(SerializeHelper.toJSON(parameter),
-                    ContentType.create(DataFormat.JSON.getMimeType(), StandardCharsets.UTF_8));
-        } catch (UnsupportedCharsetException ex) {
-            throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
-        }
+        return new JsonHttpEntity(parameter, true);
     }
 
     /**
@@ -5,6 +5,9 @@ import net.webpdf.wsclient.openapi.AuthUserCertificates;
 import net.webpdf.wsclient.openapi.AuthUserCredentials;
 import net.webpdf.wsclient.openapi.KeyStorePassword;
 import net.webpdf.wsclient.session.Session;
+import net.webpdf.wsclient.session.connection.SessionContext;
+import net.webpdf.wsclient.session.connection.http.AuthorizationRecoveryStatistics;
+import net.webpdf.wsclient.session.connection.http.HttpAuthorizationHandler;
 import net.webpdf.wsclient.session.rest.administration.AdministrationManager;
 import net.webpdf.wsclient.session.rest.documents.DocumentManager;
 import net.webpdf.wsclient.session.rest.documents.RestDocument;
@@ -12,12 +15,16 @@ import net.webpdf.wsclient.session.rest.user.UserManager;
 import net.webpdf.wsclient.webservice.WebServiceProtocol;
 import net.webpdf.wsclient.webservice.WebServiceType;
 import net.webpdf.wsclient.webservice.rest.RestWebService;
+import net.webpdf.wsclient.session.connection.pool.ConnectionPoolConfiguration;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.pool.PoolStats;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
 
 /**
  * <p>
@@ -40,6 +47,81 @@ public interface RestSession<T_REST_DOCUMENT extends RestDocument> extends Sessi
      */
     @NotNull CloseableHttpClient getHttpClient();
 
+    /**
+     * <p>
+     * Returns the {@link CloseableHttpAsyncClient} connected to the webPDF server via this {@link RestSession}.
+     * </p>
+     * <p>
+     * The {@link CloseableHttpAsyncClient} is created and started lazily on first access. It is configured by the
+     * same {@link ConnectionPoolConfiguration} as the {@link CloseableHttpClient} of the {@link RestSession}, but
+     * maintains a separate connection pool.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The limits of the {@link ConnectionPoolConfiguration} therefore apply to each connection pool
+     * separately. Once the {@link CloseableHttpAsyncClient} is used, the {@link RestSession} may open up to twice the
+     * {@link ConnectionPoolConfiguration#getMaxTotal()} and {@link ConnectionPoolConfiguration#getMaxPerRoute()}
+     * connections to the webPDF server.
+     * </p>
+     *
+     * @return The {@link CloseableHttpAsyncClient} connected to the webPDF server via this {@link RestSession}.
+     * @throws ResultException Shall be thrown, should creating the {@link CloseableHttpAsyncClient} fail.
+     */
+    @NotNull CloseableHttpAsyncClient getHttpAsyncClient() throws ResultException;
+
+    /**
+     * <p>
+     * Returns the {@link Executor} executing the blocking follow-up work of asynchronous operations of this
+     * {@link RestSession}, such as synchronizing the result documents of an asynchronous upload or webservice call.
+     * </p>
+     * <p>
+     * Should no {@link Executor} have been set via the {@link SessionContext}, a bounded executor is created lazily
+     * on first access, that is sized by the {@link ConnectionPoolConfiguration#getMaxPerRoute()}, as the executed
+     * tasks each occupy a connection. That executor is shut down, when the {@link RestSession} is closed.
+     * </p>
+     *
+     * @return The {@link Executor} executing the blocking follow-up work of asynchronous operations.
+     */
+    @NotNull Executor getExecutor();
+
+    /**
+     * Returns a snapshot of the current {@link PoolStats} of the HTTP connection pool used by the
+     * {@link CloseableHttpClient} of this {@link RestSession}, containing the number of leased, available and pending
+     * connections. The connections of the {@link CloseableHttpAsyncClient} are reported by
+     * {@link #getAsyncConnectionPoolStatistics()}.
+     *
+     * @return The current {@link PoolStats} of the HTTP connection pool used by this {@link RestSession}.
+     */
+    @SuppressWarnings("unused")
+    @NotNull PoolStats getConnectionPoolStatistics();
+
+    /**
+     * Returns a snapshot of the current {@link PoolStats} of the HTTP connection pool used by the
+     * {@link CloseableHttpAsyncClient} of this {@link RestSession}, containing the number of leased, available and
+     * pending connections. Should the {@link CloseableHttpAsyncClient} not have been created yet, an empty snapshot
+     * is returned.
+     *
+     * @return The current {@link PoolStats} of the asynchronous HTTP connection pool used by this
+     * {@link RestSession}.
+     */
+    @SuppressWarnings("unused")
+    @NotNull PoolStats getAsyncConnectionPoolStatistics();
+
+    /**
+     * Returns a snapshot of the current {@link AuthorizationRecoveryStatistics} of this {@link RestSession}, counting
+     * the requests, that have been rejected as unauthorized and have been replayed with a refreshed authorization.
+     *
+     * @return The current {@link AuthorizationRecoveryStatistics} of this {@link RestSession}.
+     */
+    @NotNull AuthorizationRecoveryStatistics getAuthorizationRecoveryStatistics();
+
+    /**
+     * Returns the {@link HttpAuthorizationHandler} of this {@link RestSession}, which recovers requests, that have
+     * been rejected as unauthorized.
+     *
+     * @return The {@link HttpAuthorizationHandler} of this {@link RestSession}.
+     */
+    @NotNull HttpAuthorizationHandler getAuthorizationHandler();
+
     /**
      * Returns the active {@link DocumentManager} of this {@link RestSession}.
      *
@@ -85,11 +167,15 @@ public interface RestSession<T_REST_DOCUMENT extends RestDocument> extends Sessi
     @NotNull UserManager<T_REST_DOCUMENT> getUserManager();
 
     /**
-     * Returns the {@link AuthUserCredentials} fetched once at session creation time (cached snapshot).
+     * Returns the {@link AuthUserCredentials} fetched once on first access (cached snapshot).
      * <p>
      * This value is not refreshed automatically during the lifetime of the session. To fetch the
      * current user information live from the server, use {@link UserManager#fetchUserInfo()}.
      * </p>
+     * <p>
+     * The value is fetched lazily and only once, even if it is accessed concurrently. Should fetching it fail,
+     * {@code null} is returned and the value is fetched again on the next access.
+     * </p>
      *
      * @return The cached {@link AuthUserCredentials} of the user logged in via this {@link RestSession}.
      * @see UserManager#fetchUserInfo()
@@ -97,18 +183,54 @@ public interface RestSession<T_REST_DOCUMENT extends RestDocument> extends Sessi
     @Nullable AuthUserCredentials getUser();
 
     /**
-     * Returns the {@link AuthUserCertificates} fetched at session creation time (cached snapshot).
+     * Returns the {@link AuthUserCredentials} fetched once on first access (cached snapshot), just like
+     * {@link #getUser()}, but fails instead of returning {@code null}, should fetching them fail.
+     * <p>
+     * A failed request is not cached, the value is fetched again on the next access.
+     * </p>
+     *
+     * @return The cached {@link AuthUserCredentials} of the user logged in via this {@link RestSession}.
+     * @throws ResultException Shall be thrown, should fetching the {@link AuthUserCredentials} fail.
+     * @see #getUser()
+     */
+    @NotNull AuthUserCredentials requireUser() throws ResultException;
+
+    /**
+     * Returns the {@link AuthUserCertificates} fetched on first access (cached snapshot).
      * <p>
      * This value is refreshed whenever {@link #updateCertificates} is called. To fetch the current
      * certificate state live from the server without modifying passwords, use
      * {@link UserManager#readCertificates()}.
      * </p>
+     * <p>
+     * The value is fetched lazily and only once, even if it is accessed concurrently. Should fetching it fail,
+     * {@code null} is returned and the value is fetched again on the next access.
+     * </p>
      *
      * @return The cached {@link AuthUserCertificates} of the user logged in via this {@link RestSession}.
      * @see UserManager#readCertificates()
      */
     @Nullable AuthUserCertificates getCertificates();
 
+    /**
+     * Returns the {@link AuthUserCertificates} fetched on first access (cached snapshot), just like
+     * {@link #getCertificates()}, but fails instead of returning {@code null}, should fetching them fail.
+     * <p>
+     * A failed request is not cached, the value is fetched again on the next access.
+     * </p>
+     *
+     * @return The cached {@link AuthUserCertificates} of the user logged in via this {@link RestSession}.
+     * @throws ResultException Shall be thrown, should fetching the {@link AuthUserCertificates} fail.
+     * @see #getCertificates()
+     */
+    @NotNull AuthUserCertificates requireCertificates() throws ResultException;
+
+    /**
+     * Discards the cached {@link AuthUserCredentials} and {@link AuthUserCertificates} of this {@link RestSession},
+     * so that they are fetched again on their next access.
+     */
+    void invalidateUserInformation();
+
     /**
      * Updates the {@link KeyStorePassword}s for a specific keystore and returns the updated
      * {@link AuthUserCertificates} for the currently logged-in user.
@@ -7,12 +7,11 @@ import net.webpdf.wsclient.openapi.*;
 import net.webpdf.wsclient.session.DataFormat;
 import net.webpdf.wsclient.session.connection.http.HttpMethod;
 import net.webpdf.wsclient.session.connection.http.HttpRestRequest;
+import net.webpdf.wsclient.session.connection.http.JsonHttpEntity;
 import net.webpdf.wsclient.session.rest.RestSession;
 import net.webpdf.wsclient.session.rest.documents.RestDocument;
-import net.webpdf.wsclient.tools.SerializeHelper;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.apache.hc.core5.http.*;
-import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -25,8 +24,6 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
-import java.nio.charset.UnsupportedCharsetException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -71,9 +68,9 @@ public class AbstractAdministrationManager<T_REST_DOCUMENT extends RestDocument>
      * @throws ResultException Shall be thrown upon invalid user access.
      */
     protected void validateUser() throws ResultException {
-        AuthUserCredentials user = this.session.getUser();
+        AuthUserCredentials user = this.session.requireUser();
 
-        if (user == null || !user.getIsAdmin()) {
+        if (!user.getIsAdmin()) {
             throw new ClientResultException(Error.ADMIN_PERMISSION_ERROR);
         }
     }
@@ -1271,12 +1268,7 @@ public class AbstractAdministrationManager<T_REST_DOCUMENT extends RestDocument>
      * @throws ResultException Shall be thrown, should the {@link HttpEntity} creation fail.
      */
     private <T> @NotNull HttpEntity prepareHttpEntity(@NotNull T parameter) throws ResultException {
-        try {
-            return new StringEntity(SerializeHelper.toJSON(parameter),
-                    ContentType.create(DataFormat.JSON.getMimeType(), StandardCharsets.UTF_8));
-        } catch (UnsupportedCharsetException ex) {
-            throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
-        }
+        return new JsonHttpEntity(parameter);
     }
 
     /**
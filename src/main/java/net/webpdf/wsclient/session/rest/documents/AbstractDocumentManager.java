@@ -3,6 +3,7 @@ package net.webpdf.wsclient.session.rest.documents;
 import net.webpdf.wsclient.exception.ClientResultException;
 import net.webpdf.wsclient.exception.Error;
 import net.webpdf.wsclient.exception.ResultException;
+import net.webpdf.wsclient.openapi.AuthLimits;
 import net.webpdf.wsclient.openapi.DocumentFileCompress;
 import net.webpdf.wsclient.openapi.DocumentFileExtract;
 import net.webpdf.wsclient.openapi.DocumentInfo;
@@ -11,18 +12,27 @@ import net.webpdf.wsclient.openapi.DocumentFile;
 import net.webpdf.wsclient.schema.beans.HistoryEntry;
 import net.webpdf.wsclient.schema.operation.PdfPasswordType;
 import net.webpdf.wsclient.session.DataFormat;
+import net.webpdf.wsclient.session.connection.http.FileChannelBody;
 import net.webpdf.wsclient.session.connection.http.HttpMethod;
 import net.webpdf.wsclient.session.connection.http.HttpRestRequest;
+import net.webpdf.wsclient.session.connection.http.JsonHttpEntity;
+import net.webpdf.wsclient.session.connection.http.ZipArchiveBody;
 import net.webpdf.wsclient.session.rest.RestSession;
-import net.webpdf.wsclient.tools.SerializeHelper;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
+import net.webpdf.wsclient.session.rest.documents.registry.BoundedDocumentRegistry;
+import net.webpdf.wsclient.session.rest.documents.registry.ConcurrentDocumentRegistry;
+import net.webpdf.wsclient.session.rest.documents.registry.DocumentRegistry;
+import net.webpdf.wsclient.session.rest.documents.registry.DocumentRegistryStatistics;
+import net.webpdf.wsclient.session.rest.documents.registry.EvictionPolicy;
+import org.apache.hc.client5.http.entity.mime.ContentBody;
 import org.apache.hc.client5.http.entity.mime.HttpMultipartMode;
+import org.apache.hc.client5.http.entity.mime.InputStreamBody;
 import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.NameValuePair;
-import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -32,14 +42,37 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.charset.StandardCharsets;
-import java.nio.charset.UnsupportedCharsetException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * An instance of {@link AbstractDocumentManager} allows to monitor and interact with the {@link RestDocument}s uploaded
@@ -50,9 +83,27 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocument>
         implements DocumentManager<T_REST_DOCUMENT> {
 
-    private final @NotNull Map<String, T_REST_DOCUMENT> documentMap = new ConcurrentHashMap<>();
+    private static final long MIN_RANGE_SIZE = 4L * 1024 * 1024;
+    private static final int DOCUMENT_LOCK_STRIPES = 64;
+    private static final long MAX_AGE_CHECK_INTERVAL = 1000;
+    private static final int SYNCHRONIZATION_PARALLELISM = 8;
+    private volatile @NotNull DocumentRegistry<T_REST_DOCUMENT> documentRegistry = new ConcurrentDocumentRegistry<>();
+    private final @NotNull AtomicLong serverDeletionCount = new AtomicLong();
+    private final @NotNull AtomicLong serverDeletionFailureCount = new AtomicLong();
+    private final @NotNull Object[] documentLocks = new Object[DOCUMENT_LOCK_STRIPES];
+    private final @NotNull ReadWriteLock registryLock = new ReentrantReadWriteLock();
     private final @NotNull RestSession<T_REST_DOCUMENT> session;
     private final @NotNull AtomicBoolean documentHistoryActive = new AtomicBoolean(false);
+    private final @NotNull Set<String> pendingHistory = ConcurrentHashMap.newKeySet();
+    private volatile @NotNull SynchronizationMode synchronizationMode = SynchronizationMode.FULL;
+    private volatile @NotNull DocumentLifecyclePolicy lifecyclePolicy = new DocumentLifecyclePolicy();
+    private final @NotNull Map<String, Long> documentCreationTimes = new ConcurrentHashMap<>();
+    private final @NotNull Queue<String> pendingDeletions = new ConcurrentLinkedQueue<>();
+    private final @NotNull Queue<String> evictedDocuments = new ConcurrentLinkedQueue<>();
+    private final @NotNull AtomicInteger runningDeletions = new AtomicInteger();
+    private final @NotNull Object deletionLock = new Object();
+    private @NotNull CompletableFuture<Void> deletionBatches = CompletableFuture.completedFuture(null);
+    private final @NotNull AtomicLong lastMaxAgeCheck = new AtomicLong();
 
     /**
      * Initializes a {@link DocumentManager} for the given {@link RestSession}.
@@ -61,6 +112,10 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      */
     public AbstractDocumentManager(@NotNull RestSession<T_REST_DOCUMENT> session) {
         this.session = session;
+        for (int index = 0; index < this.documentLocks.length; index++) {
+            this.documentLocks[index] = new Object();
+        }
+        this.documentRegistry.setEvictionListener(this::documentEvicted);
     }
 
     /**
@@ -74,31 +129,94 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
     }
 
     /**
+     * <p>
      * Synchronizes the given {@link DocumentFile} with the matching {@link RestDocument} managed by this
      * {@link DocumentManager}.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Only the synchronization of the same {@link RestDocument} is serialized. Different
+     * {@link RestDocument}s may be synchronized concurrently.
+     * </p>
      *
      * @return The synchronized {@link RestDocument}.
      * @throws ResultException Shall be thrown upon a synchronization failure.
      */
     @Override
-    public synchronized @NotNull T_REST_DOCUMENT synchronizeDocument(@NotNull DocumentFile documentFile) throws ResultException {
-        if (documentFile.getDocumentId() == null) {
+    public @NotNull T_REST_DOCUMENT synchronizeDocument(@NotNull DocumentFile documentFile) throws ResultException {
+        String documentId = documentFile.getDocumentId();
+        if (documentId == null) {
             throw new ClientResultException(Error.INVALID_DOCUMENT);
         }
 
-        T_REST_DOCUMENT synchronizedDocument;
-        if (containsDocument(documentFile.getDocumentId())) {
-            synchronizedDocument = getDocument(documentFile.getDocumentId());
-            accessInternalState(synchronizedDocument).setDocumentFile(documentFile);
-        } else {
-            synchronizedDocument = createDocument(documentFile);
+        this.registryLock.readLock().lock();
+        try {
+            synchronized (getDocumentLock(documentId)) {
+                T_REST_DOCUMENT synchronizedDocument;
+                if (containsDocument(documentId)) {
+                    synchronizedDocument = getDocument(documentId);
+                    accessInternalState(synchronizedDocument).setDocumentFile(documentFile);
+                } else {
+                    synchronizedDocument = createDocument(documentFile);
+                }
+
+                synchronizeHistoryState(documentId);
+
+                return synchronizedDocument;
+            }
+        } finally {
+            this.registryLock.readLock().unlock();
+            processEvictedDocuments();
+            scheduleExpiredDocumentsPeriodically();
         }
+    }
 
-        if (this.isDocumentHistoryActive()) {
-            this.synchronizeDocumentHistory(documentFile.getDocumentId());
+    /**
+     * <p>
+     * Synchronizes the given {@link DocumentFile}s with the matching {@link RestDocument}s managed by this
+     * {@link DocumentManager}, with up to the given number of synchronizations in progress at the same time.
+     * </p>
+     * <p>
+     * The synchronizations are executed asynchronously. The returned {@link Stream} provides a
+     * {@link CompletableFuture} for each {@link DocumentFile} in the given order, that is completed, as soon as the
+     * {@link RestDocument} has been synchronized, so that processing the first {@link RestDocument}s may start,
+     * while later {@link RestDocument}s are still being synchronized. A failed synchronization does not cancel the
+     * remaining synchronizations, its {@link CompletableFuture} shall be completed exceptionally with a
+     * {@link ResultException}.
+     * </p>
+     * <p>
+     * The {@link DocumentFile}s are distributed over the given number of lanes, which are executed concurrently via
+     * the {@link RestSession#getExecutor()}. Each lane synchronizes its {@link DocumentFile}s one after another.
+     * </p>
+     *
+     * @param documentFiles The {@link DocumentFile}s to synchronize.
+     * @param parallelism   The maximum number of synchronizations, that shall be in progress at the same time.
+     * @return A {@link Stream} of {@link CompletableFuture}s providing the synchronized {@link RestDocument}s.
+     */
+    @Override
+    public @NotNull Stream<CompletableFuture<T_REST_DOCUMENT>> synchronizeDocuments(
+            @NotNull List<DocumentFile> documentFiles, int parallelism) {
+        int laneCount = Math.max(1, Math.min(parallelism, documentFiles.size()));
+        List<CompletableFuture<?>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < laneCount; lane++) {
+            lanes.add(CompletableFuture.completedFuture(null));
         }
 
-        return synchronizedDocument;
+        List<CompletableFuture<T_REST_DOCUMENT>> synchronizations = new ArrayList<>();
+        for (int index = 0; index < documentFiles.size(); index++) {
+            DocumentFile documentFile = documentFiles.get(index);
+            int lane = index % laneCount;
+            CompletableFuture<T_REST_DOCUMENT> synchronization = lanes.get(lane).thenApplyAsync(previous -> {
+                try {
+                    return synchronizeDocument(documentFile);
+                } catch (ResultException ex) {
+                    throw new CompletionException(ex);
+                }
+            }, getSession().getExecutor());
+            // the next synchronization of the lane shall also be executed, should this synchronization fail.
+            lanes.set(lane, synchronization.handle((document, ex) -> null));
+            synchronizations.add(synchronization);
+        }
+        return synchronizations.stream();
     }
 
     /**
@@ -111,27 +229,138 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      */
     @Override
     public @NotNull List<T_REST_DOCUMENT> synchronize(@NotNull List<DocumentFile> fileList) throws ResultException {
+        return synchronizeChanges(fileList).getDocuments();
+    }
+
+    /**
+     * Synchronizes the {@link RestDocument}s of this {@link DocumentManager} with the actually uploaded documents of
+     * the webPDF server.
+     *
+     * @return A list of the synchronized {@link RestDocument}s.
+     * @throws ResultException Shall be thrown upon a synchronization failure.
+     */
+    @Override
+    public @NotNull List<T_REST_DOCUMENT> synchronize() throws ResultException {
+        return synchronizeChanges().getDocuments();
+    }
+
+    /**
+     * <p>
+     * Synchronizes the {@link RestDocument}s of this {@link DocumentManager} with the given fileList and reports the
+     * applied changes.
+     * </p>
+     * <p>
+     * Only {@link RestDocument}s, that are new or whose {@link DocumentFile} has changed, are synchronized with the
+     * webPDF server. {@link RestDocument}s, that are not contained in the given fileList, are removed.
+     * </p>
+     *
+     * @param fileList A {@link DocumentFile} list to sync this {@link DocumentManager} with
+     * @return The {@link DocumentSynchronization} reporting the added, removed and changed {@link RestDocument}s.
+     * @throws ResultException Shall be thrown upon a synchronization failure.
+     */
+    @Override
+    public @NotNull DocumentSynchronization<T_REST_DOCUMENT> synchronizeChanges(@NotNull List<DocumentFile> fileList)
+            throws ResultException {
+        Map<String, DocumentFile> serverDocuments = new LinkedHashMap<>();
         for (DocumentFile documentFile : fileList) {
-            this.synchronizeDocument(documentFile);
+            String documentId = documentFile.getDocumentId();
+            if (documentId == null) {
+                throw new ClientResultException(Error.INVALID_DOCUMENT);
+            }
+            serverDocuments.put(documentId, documentFile);
+        }
+
+        // the server state of new and changed documents is requested in advance, so that no lock is held, while
+        // the requests are in progress.
+        boolean requestHistory = isDocumentHistoryActive()
+                && this.synchronizationMode != SynchronizationMode.TRUST_RESPONSE;
+        Map<String, DocumentFile> documentInfos = new HashMap<>();
+        Map<String, HistoryEntry[]> histories = new HashMap<>();
+        for (Map.Entry<String, DocumentFile> serverDocument : serverDocuments.entrySet()) {
+            T_REST_DOCUMENT restDocument = this.documentRegistry.get(serverDocument.getKey());
+            if (restDocument == null && this.synchronizationMode == SynchronizationMode.FULL) {
+                documentInfos.put(serverDocument.getKey(), requestDocumentInfo(serverDocument.getKey()));
+            }
+            if (requestHistory && (restDocument == null
+                    || !serverDocument.getValue().equals(restDocument.getDocumentFile()))) {
+                histories.put(serverDocument.getKey(), requestDocumentHistory(serverDocument.getKey()));
+            }
+        }
+
+        List<T_REST_DOCUMENT> added = new ArrayList<>();
+        List<T_REST_DOCUMENT> removed = new ArrayList<>();
+        List<T_REST_DOCUMENT> changed = new ArrayList<>();
+
+        // the complete registry is replaced, which must not interleave with the synchronization of single documents.
+        this.registryLock.writeLock().lock();
+        try {
+            for (Map.Entry<String, DocumentFile> serverDocument : serverDocuments.entrySet()) {
+                String documentId = serverDocument.getKey();
+                T_REST_DOCUMENT restDocument = this.documentRegistry.get(documentId);
+                if (restDocument == null) {
+                    restDocument = registerDocument(documentInfos.getOrDefault(documentId, serverDocument.getValue()));
+                    applyHistoryState(restDocument, histories.get(documentId));
+                    added.add(restDocument);
+                } else if (!serverDocument.getValue().equals(restDocument.getDocumentFile())) {
+                    accessInternalState(restDocument).setDocumentFile(serverDocument.getValue());
+                    applyHistoryState(restDocument, histories.get(documentId));
+                    changed.add(restDocument);
+                }
+            }
+
+            for (String documentId : this.documentRegistry.getDocumentIds()) {
+                if (!serverDocuments.containsKey(documentId)) {
+                    T_REST_DOCUMENT document = this.documentRegistry.remove(documentId);
+                    this.pendingHistory.remove(documentId);
+                    this.documentCreationTimes.remove(documentId);
+                    if (document != null) {
+                        removed.add(document);
+                    }
+                }
+            }
+
+            return new DocumentSynchronization<>(added, removed, changed, getDocuments());
+        } finally {
+            this.registryLock.writeLock().unlock();
+            processEvictedDocuments();
+            scheduleExpiredDocumentsPeriodically();
         }
+    }
 
-        this.documentMap.entrySet().removeIf(entry -> fileList.stream().noneMatch(remove -> {
-            String documentId = remove.getDocumentId();
-            return documentId != null && documentId.equals(entry.getValue().getDocumentId());
-        }));
+    /**
+     * Applies the document history, that has been requested in advance, to the given {@link RestDocument}. Should
+     * the {@link SynchronizationMode#TRUST_RESPONSE} be selected or should no document history have been requested
+     * in advance, the document history is only marked to be requested, when it is read for the first time.
+     *
+     * @param restDocument The {@link RestDocument} to apply the document history to.
+     * @param history      The document history requested in advance, or {@code null}.
+     * @throws ResultException Shall be thrown, should updating the document history have failed.
+     */
+    private void applyHistoryState(@NotNull T_REST_DOCUMENT restDocument, HistoryEntry @Nullable [] history)
+            throws ResultException {
+        if (!this.isDocumentHistoryActive()) {
+            return;
+        }
 
-        return getDocuments();
+        if (history == null) {
+            this.pendingHistory.add(restDocument.getDocumentId());
+            return;
+        }
+        this.pendingHistory.remove(restDocument.getDocumentId());
+        for (HistoryEntry historyEntry : history) {
+            accessInternalState(restDocument).updateHistoryEntry(historyEntry);
+        }
     }
 
     /**
      * Synchronizes the {@link RestDocument}s of this {@link DocumentManager} with the actually uploaded documents of
-     * the webPDF server.
+     * the webPDF server and reports the applied changes.
      *
-     * @return A list of the synchronized {@link RestDocument}s.
+     * @return The {@link DocumentSynchronization} reporting the added, removed and changed {@link RestDocument}s.
      * @throws ResultException Shall be thrown upon a synchronization failure.
      */
     @Override
-    public synchronized @NotNull List<T_REST_DOCUMENT> synchronize() throws ResultException {
+    public @NotNull DocumentSynchronization<T_REST_DOCUMENT> synchronizeChanges() throws ResultException {
         DocumentFile[] documentFileList = HttpRestRequest.createRequest(getSession())
                 .buildRequest(HttpMethod.GET, "documents/list")
                 .executeRequest(DocumentFile[].class);
@@ -140,7 +369,7 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
             throw new ClientResultException(Error.HTTP_IO_ERROR);
         }
 
-        return this.synchronize(Arrays.asList(documentFileList));
+        return this.synchronizeChanges(Arrays.asList(documentFileList));
     }
 
     /**
@@ -168,10 +397,11 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      */
     @Override
     public @NotNull T_REST_DOCUMENT getDocument(@NotNull String documentId) throws ResultException {
-        if (!containsDocument(documentId)) {
+        T_REST_DOCUMENT document = this.documentRegistry.get(documentId);
+        if (document == null) {
             throw new ClientResultException(Error.INVALID_DOCUMENT);
         }
-        return this.documentMap.get(documentId);
+        return document;
     }
 
     /**
@@ -181,7 +411,7 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      */
     @Override
     public @NotNull List<T_REST_DOCUMENT> getDocuments() {
-        return new ArrayList<>(documentMap.values());
+        return this.documentRegistry.getDocuments();
     }
 
     /**
@@ -192,7 +422,7 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      */
     @Override
     public boolean containsDocument(@NotNull String documentId) {
-        return this.documentMap.containsKey(documentId);
+        return this.documentRegistry.contains(documentId);
     }
 
     /**
@@ -213,6 +443,332 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
                 .setAcceptHeader(DataFormat.OCTET_STREAM.getMimeType())
                 .buildRequest(HttpMethod.GET, "documents/" + documentId)
                 .executeRequest(outputStream);
+        documentDownloaded(documentId);
+    }
+
+    /**
+     * <p>
+     * Downloads the {@link RestDocument} with the given document ID and writes it to the file at the given
+     * {@link Path}. An existing file shall be overwritten.
+     * </p>
+     * <p>
+     * The document is written via a {@link java.nio.channels.FileChannel}, without passing it through an intermediate
+     * {@link OutputStream}.
+     * </p>
+     *
+     * @param documentId The document ID of the {@link RestDocument} to download.
+     * @param target     The {@link Path} of the file to write the downloaded {@link RestDocument} to.
+     * @throws ResultException Shall be thrown, should the download have failed.
+     */
+    @Override
+    public void downloadDocument(@NotNull String documentId, @NotNull Path target) throws ResultException {
+        if (!containsDocument(documentId)) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT);
+        }
+
+        HttpRestRequest.createRequest(getSession())
+                .setAcceptHeader(DataFormat.OCTET_STREAM.getMimeType())
+                .buildRequest(HttpMethod.GET, "documents/" + documentId)
+                .executeRequest(target);
+        documentDownloaded(documentId);
+    }
+
+    /**
+     * <p>
+     * Downloads the {@link RestDocument} with the given document ID and writes it to the file at the given
+     * {@link Path}. An existing file shall be overwritten.
+     * </p>
+     * <p>
+     * The size of the {@link RestDocument} is requested first. The {@link RestDocument} is then split into up to the
+     * given number of byte ranges, which are downloaded concurrently and written to their positions in the file.
+     * Should the webPDF server not announce the size of the {@link RestDocument} or its support of byte ranges, or
+     * should the {@link RestDocument} be too small to be split, it shall be downloaded using a single request instead.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The number of concurrent requests is also limited by the connections per route, that are
+     * configured for the connection pool of the {@link RestSession}.
+     * </p>
+     *
+     * @param documentId  The document ID of the {@link RestDocument} to download.
+     * @param target      The {@link Path} of the file to write the downloaded {@link RestDocument} to.
+     * @param parallelism The maximum number of byte ranges, that shall be downloaded concurrently.
+     * @throws ResultException Shall be thrown, should the download have failed.
+     */
+    @Override
+    public void downloadDocument(@NotNull String documentId, @NotNull Path target, int parallelism)
+            throws ResultException {
+        if (!containsDocument(documentId)) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT);
+        }
+
+        long size = parallelism > 1 ? getRangedDocumentSize(documentId) : -1;
+        int rangeCount = (int) Math.min(parallelism, size / MIN_RANGE_SIZE);
+        if (rangeCount < 2) {
+            downloadDocument(documentId, target);
+            return;
+        }
+
+        long rangeSize = (size + rangeCount - 1) / rangeCount;
+        List<CompletableFuture<Long>> requests = new ArrayList<>();
+        List<CompletableFuture<Long>> ranges = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try (FileChannel fileChannel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (long position = 0; position < size; position += rangeSize) {
+                long length = Math.min(rangeSize, size - position);
+                long start = position;
+                CompletableFuture<Long> request = HttpRestRequest.createRequest(getSession())
+                        .setAcceptHeader(DataFormat.OCTET_STREAM.getMimeType())
+                        .setAdditionalHeader(HttpHeaders.RANGE,
+                                "bytes=" + start + "-" + (start + length - 1))
+                        .buildRequest(HttpMethod.GET, "documents/" + documentId)
+                        .executeRequestAsync(fileChannel, start);
+                requests.add(request);
+                ranges.add(request.thenApply(written -> {
+                    if (written != length) {
+                        throw new CompletionException(new ClientResultException(Error.HTTP_IO_ERROR)
+                                .appendMessage("Incomplete byte range " + start + "-" +
+                                        (start + length - 1) + ": " + written + " bytes received."));
+                    }
+                    return written;
+                }));
+            }
+            // the first failing range cancels the requests of it´s siblings, instead of waiting for them.
+            for (CompletableFuture<Long> range : ranges) {
+                range.whenComplete((written, ex) -> {
+                    Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                    if (cause != null && !(cause instanceof CancellationException) &&
+                            failure.compareAndSet(null, cause)) {
+                        requests.forEach(request -> request.cancel(true));
+                    }
+                });
+            }
+            CompletableFuture.allOf(ranges.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException | CancellationException ex) {
+            Throwable cause = failure.get() != null ? failure.get() : ex.getCause();
+            if (cause instanceof ResultException) {
+                throw (ResultException) cause;
+            }
+            throw new ClientResultException(Error.HTTP_IO_ERROR, cause instanceof Exception ? (Exception) cause : ex);
+        } catch (IOException ex) {
+            requests.forEach(request -> request.cancel(true));
+            throw new ClientResultException(Error.HTTP_IO_ERROR, ex);
+        } catch (ResultException ex) {
+            requests.forEach(request -> request.cancel(true));
+            throw ex;
+        }
+        documentDownloaded(documentId);
+    }
+
+    /**
+     * Requests the size of the {@link RestDocument} with the given document ID, without downloading it. Returns -1,
+     * should the webPDF server neither announce the size of the {@link RestDocument}, nor its support of byte ranges.
+     * The same applies, should the HEAD request fail (for example, should a proxy reject it), as the document may
+     * still be downloadable via a single GET request, which reports an actual failure itself.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to request the size for.
+     * @return The size of the {@link RestDocument}, or -1, should byte ranges not be available.
+     */
+    private long getRangedDocumentSize(@NotNull String documentId) {
+        ClassicHttpResponse response;
+        try {
+            response = HttpRestRequest.createRequest(getSession())
+                    .setAcceptHeader(DataFormat.OCTET_STREAM.getMimeType())
+                    .buildRequest(HttpMethod.HEAD, "documents/" + documentId)
+                    .executeRequest();
+        } catch (ResultException ex) {
+            return -1;
+        }
+        Header acceptRanges = response.getFirstHeader(HttpHeaders.ACCEPT_RANGES);
+        Header contentLength = response.getFirstHeader(HttpHeaders.CONTENT_LENGTH);
+        if (acceptRanges == null || !"bytes".equalsIgnoreCase(acceptRanges.getValue()) || contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.getValue().trim());
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * <p>
+     * Downloads the {@link RestDocument} with the given document ID to the file at the given {@link Path}, continuing
+     * a previously interrupted download of the same {@link RestDocument} to the same file.
+     * </p>
+     * <p>
+     * The progress of the download is recorded in a checkpoint file next to the target file. Should a matching
+     * checkpoint exist, the download shall be continued at the recorded offset via a byte range request. Should the
+     * webPDF server not support byte ranges, the download shall be restarted. The checkpoint is removed, as soon as
+     * the download has been completed.
+     * </p>
+     * <p>
+     * Should a {@link DigestVerification} be given, the digest of the completed file shall be verified. Should the
+     * digest not match, the checkpoint is removed, so that the next attempt restarts the download.
+     * </p>
+     *
+     * @param documentId   The document ID of the {@link RestDocument} to download.
+     * @param target       The {@link Path} of the file to write the downloaded {@link RestDocument} to.
+     * @param verification The {@link DigestVerification} to verify the completed file with, or {@code null}.
+     * @throws ResultException Shall be thrown, should the download or the verification have failed.
+     */
+    @Override
+    public void downloadDocumentResumable(@NotNull String documentId, @NotNull Path target,
+            @Nullable DigestVerification verification) throws ResultException {
+        if (!containsDocument(documentId)) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT);
+        }
+
+        downloadResumable("documents/" + documentId, target, verification);
+        documentDownloaded(documentId);
+    }
+
+    /**
+     * <p>
+     * Downloads the {@link RestDocument}s with the given document IDs to the given target directory, with up to the
+     * given number of downloads in progress at the same time.
+     * </p>
+     * <p>
+     * Each {@link RestDocument} is written via a {@link java.nio.channels.FileChannel} to a file, that is named after
+     * the file name and extension of its {@link DocumentFile}, extended by its document ID to keep the names unique.
+     * Existing files shall be overwritten. A failed download does not cancel the remaining downloads, but is reported
+     * by its {@link DocumentDownloadResult}. A document ID given repeatedly is only downloaded once.
+     * </p>
+     *
+     * @param documentIds     The document IDs of the {@link RestDocument}s to download.
+     * @param targetDirectory The {@link Path} of the directory to write the downloaded {@link RestDocument}s to.
+     * @param parallelism     The maximum number of downloads, that shall be in progress at the same time.
+     * @return The {@link DocumentDownloadSummary} reporting the outcome and the timing of each download.
+     * @throws ResultException Shall be thrown, should the target directory not be accessible.
+     */
+    @Override
+    public @NotNull DocumentDownloadSummary downloadDocuments(@NotNull Collection<String> documentIds,
+            @NotNull Path targetDirectory, int parallelism) throws ResultException {
+        try {
+            Files.createDirectories(targetDirectory);
+        } catch (IOException ex) {
+            throw new ClientResultException(Error.HTTP_IO_ERROR, ex).appendMessage(targetDirectory.toString());
+        }
+
+        long start = System.nanoTime();
+        // repeated document IDs would be written to the same file concurrently.
+        List<String> downloads = new ArrayList<>(new LinkedHashSet<>(documentIds));
+        DocumentDownloadResult[] results = new DocumentDownloadResult[downloads.size()];
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        for (int index = 0; index < downloads.size(); index++) {
+            // the downloads never complete exceptionally, their failures are reported by the results instead.
+            while (running.size() >= Math.max(1, parallelism)) {
+                CompletableFuture.anyOf(running.toArray(new CompletableFuture[0])).join();
+                running.removeIf(CompletableFuture::isDone);
+            }
+            int resultIndex = index;
+            running.add(downloadToDirectoryAsync(downloads.get(index), targetDirectory)
+                    .thenAccept(result -> results[resultIndex] = result));
+        }
+        CompletableFuture.allOf(running.toArray(new CompletableFuture[0])).join();
+
+        return new DocumentDownloadSummary(Arrays.asList(results),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Asynchronously downloads the {@link RestDocument} with the given document ID to the given target directory. The
+     * returned {@link CompletableFuture} is never completed exceptionally, but reports a failure via the provided
+     * {@link DocumentDownloadResult}. The partially written file of a failed download is removed.
+     *
+     * @param documentId      The document ID of the {@link RestDocument} to download.
+     * @param targetDirectory The {@link Path} of the directory to write the downloaded {@link RestDocument} to.
+     * @return A {@link CompletableFuture} providing the {@link DocumentDownloadResult}.
+     */
+    private @NotNull CompletableFuture<DocumentDownloadResult> downloadToDirectoryAsync(@NotNull String documentId,
+            @NotNull Path targetDirectory) {
+        long start = System.nanoTime();
+        T_REST_DOCUMENT document = this.documentRegistry.get(documentId);
+        if (document == null) {
+            return CompletableFuture.completedFuture(new DocumentDownloadResult(documentId, null, 0, 0,
+                    new ClientResultException(Error.INVALID_DOCUMENT).appendMessage(documentId)));
+        }
+
+        Path target = targetDirectory.resolve(getTargetFileName(document));
+        FileChannel fileChannel;
+        try {
+            fileChannel = FileChannel.open(target, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException ex) {
+            return CompletableFuture.completedFuture(new DocumentDownloadResult(documentId, target, 0, 0,
+                    new ClientResultException(Error.HTTP_IO_ERROR, ex).appendMessage(target.toString())));
+        }
+
+        CompletableFuture<Long> download;
+        try {
+            download = HttpRestRequest.createRequest(getSession())
+                    .setAcceptHeader(DataFormat.OCTET_STREAM.getMimeType())
+                    .buildRequest(HttpMethod.GET, "documents/" + documentId)
+                    .executeRequestAsync(fileChannel, 0);
+        } catch (ResultException ex) {
+            download = CompletableFuture.failedFuture(ex);
+        }
+
+        // the completion may wait for the registry locks and must therefore not occupy an I/O thread.
+        return download.handleAsync((size, ex) -> {
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            ResultException failure = ex != null ? toResultException(ex) : null;
+            try {
+                fileChannel.close();
+            } catch (IOException closeEx) {
+                if (failure == null) {
+                    failure = new ClientResultException(Error.HTTP_IO_ERROR, closeEx);
+                }
+            }
+            if (failure == null) {
+                documentDownloaded(documentId);
+            } else {
+                try {
+                    Files.deleteIfExists(target);
+                } catch (IOException ignored) {
+                    // the failure of the download itself is reported.
+                }
+            }
+            return new DocumentDownloadResult(documentId, target, size != null ? size : 0, duration, failure);
+        }, getSession().getExecutor());
+    }
+
+    /**
+     * Returns the name of the file, a batch download shall write the given {@link RestDocument} to. The name is
+     * derived from the file name and extension of the {@link DocumentFile} and is extended by the document ID, so that
+     * documents with equal names do not overwrite each other. Characters, that would address a different directory,
+     * are replaced.
+     *
+     * @param document The {@link RestDocument} to return the file name for.
+     * @return The name of the file to write the {@link RestDocument} to.
+     */
+    private @NotNull String getTargetFileName(@NotNull T_REST_DOCUMENT document) {
+        DocumentFile documentFile = document.getDocumentFile();
+        String fileName = documentFile.getFileName();
+        String fileExtension = documentFile.getFileExtension();
+        StringBuilder targetFileName = new StringBuilder();
+        if (fileName != null && !fileName.isEmpty()) {
+            targetFileName.append(fileName.replaceAll("[\\\\/:*?\"<>|]", "_")).append('_');
+        }
+        targetFileName.append(document.getDocumentId());
+        if (fileExtension != null && !fileExtension.isEmpty()) {
+            targetFileName.append('.').append(fileExtension.replaceAll("[\\\\/:*?\"<>|]", "_"));
+        }
+        return targetFileName.toString();
+    }
+
+    /**
+     * Returns the {@link ResultException} the given failure of an asynchronous request has been caused by.
+     *
+     * @param ex The failure of an asynchronous request.
+     * @return The {@link ResultException} the request has failed with.
+     */
+    private static @NotNull ResultException toResultException(@NotNull Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof ResultException) {
+            return (ResultException) cause;
+        }
+        return new ClientResultException(Error.HTTP_IO_ERROR, cause);
     }
 
     /**
@@ -229,136 +785,926 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
         if (document == null) {
             throw new ClientResultException(Error.INVALID_DOCUMENT);
         }
-        downloadDocument(document.getDocumentId(), outputStream);
+        downloadDocument(document.getDocumentId(), outputStream);
+    }
+
+    /**
+     * Uploads the given {@link File} to the webPDF server, adds it to this {@link DocumentManager} and returns the
+     * resulting {@link RestDocument} handle.
+     *
+     * @param file The {@link File} to upload.
+     * @return The resulting {@link RestDocument} handle.
+     * @throws ResultException Shall be thrown, should the upload have failed.
+     */
+    @Override
+    public @NotNull T_REST_DOCUMENT uploadDocument(@NotNull File file) throws ResultException {
+        return uploadDocument(file.toPath());
+    }
+
+    /**
+     * <p>
+     * Uploads the file at the given {@link Path} to the webPDF server, adds it to this {@link DocumentManager} and
+     * returns the resulting {@link RestDocument} handle.
+     * </p>
+     * <p>
+     * The file is streamed to the webPDF server and the size of the request is announced up front via the
+     * Content-Length header, which allows the webPDF server to reject uploads exceeding its limits early.
+     * </p>
+     *
+     * @param path The {@link Path} of the file to upload.
+     * @return The resulting {@link RestDocument} handle.
+     * @throws ResultException Shall be thrown, should the upload have failed.
+     */
+    @Override
+    public @NotNull T_REST_DOCUMENT uploadDocument(@NotNull Path path) throws ResultException {
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            throw new ClientResultException(Error.INVALID_SOURCE_DOCUMENT).appendMessage(path.toString());
+        }
+        return uploadDocument(prepareMultipartEntity(
+                new FileChannelBody(path, ContentType.DEFAULT_BINARY, path.getFileName().toString())));
+    }
+
+    /**
+     * <p>
+     * Uploads the given {@link InputStream} to the webPDF server as a document resource with the given file name, adds
+     * it to this {@link DocumentManager} and returns the resulting {@link RestDocument} handle.
+     * </p>
+     * <p>
+     * The {@link InputStream} is streamed to the webPDF server using a fixed size buffer and is not held in memory.
+     * As the size of the document is unknown, the request is sent using chunked encoding.
+     * </p>
+     *
+     * @param data     The document {@link InputStream} to upload.
+     * @param fileName The name of the uploaded document.
+     * @return The resulting {@link RestDocument} handle.
+     * @throws ResultException Shall be thrown, should the upload have failed.
+     */
+    @Override
+    public @NotNull T_REST_DOCUMENT uploadDocument(@NotNull InputStream data, @NotNull String fileName)
+            throws ResultException {
+        return uploadDocument(prepareMultipartEntity(
+                new InputStreamBody(data, ContentType.DEFAULT_BINARY, fileName)));
+    }
+
+    /**
+     * Uploads the given multipart {@link HttpEntity} to the webPDF server, adds the resulting document to this
+     * {@link DocumentManager} and returns the resulting {@link RestDocument} handle.
+     *
+     * @param entity The multipart {@link HttpEntity} to upload.
+     * @return The resulting {@link RestDocument} handle.
+     * @throws ResultException Shall be thrown, should the upload have failed.
+     */
+    private @NotNull T_REST_DOCUMENT uploadDocument(@NotNull HttpEntity entity) throws ResultException {
+        List<NameValuePair> parameters = new ArrayList<>();
+        parameters.add(new BasicNameValuePair("history", Boolean.toString(documentHistoryActive.get())));
+
+        URI uri = getSession().getURI("documents", parameters);
+        DocumentFile documentFile = HttpRestRequest.createRequest(getSession())
+                .buildRequest(HttpMethod.POST, uri, entity)
+                .executeRequest(DocumentFile.class);
+        if (documentFile == null) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT);
+        }
+        return synchronizeDocument(documentFile);
+    }
+
+    /**
+     * <p>
+     * Asynchronously downloads the {@link RestDocument} with the given document ID and writes it to the given
+     * {@link OutputStream}.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The given {@link OutputStream} must not be closed, before the returned
+     * {@link CompletableFuture} is completed. Should the download fail, the returned {@link CompletableFuture} shall
+     * be completed exceptionally with a {@link ResultException}.
+     * </p>
+     *
+     * @param documentId   The document ID of the {@link RestDocument} to download.
+     * @param outputStream The {@link OutputStream} to write the downloaded {@link RestDocument} to.
+     * @return A {@link CompletableFuture}, that is completed, when the download has finished.
+     */
+    @Override
+    public @NotNull CompletableFuture<Void> downloadDocumentAsync(@NotNull String documentId,
+            @NotNull OutputStream outputStream) {
+        if (!containsDocument(documentId)) {
+            return CompletableFuture.failedFuture(new ClientResultException(Error.INVALID_DOCUMENT));
+        }
+
+        try {
+            return HttpRestRequest.createRequest(getSession())
+                    .setAcceptHeader(DataFormat.OCTET_STREAM.getMimeType())
+                    .buildRequest(HttpMethod.GET, "documents/" + documentId)
+                    .executeRequestAsync(outputStream)
+                    .thenApply(result -> {
+                        documentDownloaded(documentId);
+                        return result;
+                    });
+        } catch (ResultException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * <p>
+     * Asynchronously uploads the given {@link File} to the webPDF server, adds it to this {@link DocumentManager} and
+     * provides the resulting {@link RestDocument} handle.
+     * </p>
+     * <p>
+     * The resulting {@link DocumentFile} is synchronized with this {@link DocumentManager} via the
+     * {@link RestSession#getExecutor()}, so that the I/O threads of the asynchronous HTTP client are not blocked.
+     * </p>
+     *
+     * @param file The {@link File} to upload.
+     * @return A {@link CompletableFuture} providing the resulting {@link RestDocument} handle.
+     */
+    @Override
+    public @NotNull CompletableFuture<T_REST_DOCUMENT> uploadDocumentAsync(@NotNull File file) {
+        if (!file.isFile() || !file.canRead()) {
+            return CompletableFuture.failedFuture(new ClientResultException(Error.INVALID_SOURCE_DOCUMENT)
+                    .appendMessage(file.getAbsolutePath()));
+        }
+
+        try {
+            HttpEntity entity = prepareMultipartEntity(
+                    new FileChannelBody(file.toPath(), ContentType.DEFAULT_BINARY, file.getName()));
+
+            List<NameValuePair> parameters = new ArrayList<>();
+            parameters.add(new BasicNameValuePair("history", Boolean.toString(documentHistoryActive.get())));
+
+            URI uri = getSession().getURI("documents", parameters);
+            return HttpRestRequest.createRequest(getSession())
+                    .buildRequest(HttpMethod.POST, uri, entity)
+                    .executeRequestAsync(DocumentFile.class)
+                    .thenApplyAsync(documentFile -> {
+                        try {
+                            if (documentFile == null) {
+                                throw new ClientResultException(Error.INVALID_DOCUMENT);
+                            }
+                            return synchronizeDocument(documentFile);
+                        } catch (ResultException ex) {
+                            throw new CompletionException(ex);
+                        }
+                    }, getSession().getExecutor());
+        } catch (ResultException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * <p>
+     * Asynchronously uploads the given files to the webPDF server and adds them to this {@link DocumentManager}, with
+     * up to the given number of uploads in progress at the same time.
+     * </p>
+     * <p>
+     * The returned {@link CompletableFuture} provides a {@link DocumentUploadResult} for each file, in order of their
+     * completion. A failed upload does not cancel the remaining uploads, but is reported by its
+     * {@link DocumentUploadResult}. Files exceeding the maximum number of files or the upload limit of the user are
+     * not uploaded and are reported as failed.
+     * </p>
+     *
+     * @param sources     The {@link Path}s of the files to upload.
+     * @param parallelism The maximum number of uploads, that shall be in progress at the same time.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of all files.
+     */
+    @Override
+    public @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> uploadDocuments(
+            @NotNull Collection<Path> sources, int parallelism) {
+        return uploadDocuments(sources.stream(), parallelism, null);
+    }
+
+    /**
+     * <p>
+     * Asynchronously uploads the files provided by the given {@link Stream} to the webPDF server and adds them to this
+     * {@link DocumentManager}, with up to the given number of uploads in progress at the same time.
+     * </p>
+     * <p>
+     * The {@link Stream} is consumed lazily, the next file is only requested, when an upload has been completed. The
+     * given resultListener is notified about the {@link DocumentUploadResult} of each file, as soon as it is
+     * available. A failed upload does not cancel the remaining uploads, but is reported by its
+     * {@link DocumentUploadResult}. Files exceeding the maximum number of files or the upload limit of the user are
+     * not uploaded and are reported as failed.
+     * </p>
+     * <p>
+     * Should the number of files be limited for the user, the documents already stored on the webPDF server are
+     * requested first, as the {@link DocumentRegistry} may neither contain all of them, nor be synchronized with the
+     * webPDF server. Should that request fail, the managed {@link RestDocument}s are counted instead.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The resultListener is called concurrently by the threads completing the uploads.
+     * </p>
+     *
+     * @param sources        The {@link Stream} providing the {@link Path}s of the files to upload.
+     * @param parallelism    The maximum number of uploads, that shall be in progress at the same time.
+     * @param resultListener The {@link Consumer} to notify about each {@link DocumentUploadResult}, or {@code null}.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of all files.
+     */
+    @Override
+    public @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> uploadDocuments(
+            @NotNull Stream<Path> sources, int parallelism,
+            @Nullable Consumer<DocumentUploadResult<T_REST_DOCUMENT>> resultListener) {
+        return startUploadBatch(sources.iterator(), parallelism, 0, resultListener);
+    }
+
+    /**
+     * Starts a {@link DocumentUploadBatch} uploading the files provided by the given {@link Iterator}, within the
+     * limits of the user logged in via the {@link RestSession}. Should the limits of the user not be requestable, the
+     * returned {@link CompletableFuture} is completed exceptionally, instead of uploading the files without limits.
+     *
+     * @param sources          The {@link Iterator} providing the {@link Path}s of the files to upload.
+     * @param parallelism      The maximum number of uploads, that shall be in progress at the same time.
+     * @param archiveThreshold The maximum size of a file in bytes, that shall be uploaded as part of an archive. A
+     *                         value lower than 1 disables the archive upload.
+     * @param resultListener   The {@link Consumer} to notify about each {@link DocumentUploadResult}, or
+     *                         {@code null}.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of all files.
+     */
+    private @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> startUploadBatch(
+            @NotNull Iterator<Path> sources, int parallelism, long archiveThreshold,
+            @Nullable Consumer<DocumentUploadResult<T_REST_DOCUMENT>> resultListener) {
+        AuthLimits limits;
+        try {
+            limits = getSession().requireUser().getUserLimits();
+        } catch (ResultException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        long uploadLimit = getUploadLimit(limits);
+        // the sources are not consumed by the I/O thread completing the request.
+        return requestRemainingFiles(limits).thenComposeAsync(maxFiles ->
+                new DocumentUploadBatch<>(this, sources, maxFiles, uploadLimit, archiveThreshold, resultListener)
+                        .start(parallelism), getSession().getExecutor());
+    }
+
+    /**
+     * Requests the number of files, the user logged in via the {@link RestSession} may still upload, which is the
+     * maximum number of files of the user, reduced by the number of documents stored on the webPDF server. Should
+     * requesting the stored documents fail, the managed {@link RestDocument}s are counted instead.
+     *
+     * @param limits The {@link AuthLimits} of the user, or {@code null}, should the user not be limited.
+     * @return A {@link CompletableFuture} providing the number of files, that may still be uploaded, or -1, should
+     * the number of files not be limited.
+     */
+    private @NotNull CompletableFuture<Integer> requestRemainingFiles(@Nullable AuthLimits limits) {
+        if (limits == null || limits.getMaxFiles() == null || limits.getMaxFiles() <= 0) {
+            return CompletableFuture.completedFuture(-1);
+        }
+        int maxFiles = limits.getMaxFiles();
+
+        CompletableFuture<DocumentFile[]> documentFiles;
+        try {
+            documentFiles = HttpRestRequest.createRequest(getSession())
+                    .buildRequest(HttpMethod.GET, "documents/list")
+                    .executeRequestAsync(DocumentFile[].class);
+        } catch (ResultException ex) {
+            documentFiles = CompletableFuture.failedFuture(ex);
+        }
+        return documentFiles.handle((files, ex) -> Math.max(0, maxFiles -
+                (ex == null && files != null ? files.length : this.documentRegistry.size())));
+    }
+
+    /**
+     * <p>
+     * Asynchronously uploads the given files to the webPDF server and adds them to this {@link DocumentManager}, with
+     * up to the given number of uploads in progress at the same time.
+     * </p>
+     * <p>
+     * Files, that are not larger than the given archiveThreshold, are not uploaded one by one. They are packed into
+     * ZIP archives on the fly instead, which are uploaded and extracted by the webPDF server. The extracted
+     * {@link RestDocument}s are mapped back to the files by their names, the archives themselves are deleted. Larger
+     * files are uploaded one by one. Each archive occupies a single upload and is uploaded, as soon as it is full, while
+     * the remaining files are still being uploaded. An archive, that would contain a single file only, is uploaded as a
+     * separate file instead.
+     * </p>
+     * <p>
+     * The returned {@link CompletableFuture} provides a {@link DocumentUploadResult} for each file, in order of their
+     * completion. A failed upload does not cancel the remaining uploads, but is reported by its
+     * {@link DocumentUploadResult}. Files exceeding the maximum number of files or the upload limit of the user are
+     * not uploaded and are reported as failed.
+     * </p>
+     *
+     * @param sources          The {@link Path}s of the files to upload.
+     * @param parallelism      The maximum number of uploads, that shall be in progress at the same time.
+     * @param archiveThreshold The maximum size of a file in bytes, that shall be uploaded as part of an archive. A
+     *                         value lower than 1 disables the archive upload.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of all files.
+     */
+    @Override
+    public @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> uploadDocuments(
+            @NotNull Collection<Path> sources, int parallelism, long archiveThreshold) {
+        return startUploadBatch(sources.iterator(), parallelism, archiveThreshold, null);
+    }
+
+    /**
+     * Asynchronously uploads the given files as a ZIP archive, extracts the archive on the webPDF server and deletes
+     * it afterwards. The returned {@link CompletableFuture} is never completed exceptionally, but reports a failure
+     * via the provided {@link DocumentUploadResult}s.
+     *
+     * @param entries The {@link Path}s of the files to archive, mapped to the names of their archive entries.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of the archived files.
+     */
+    @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> uploadArchiveAsync(
+            @NotNull Map<String, Path> entries) {
+        CompletableFuture<DocumentFile> archiveUpload;
+        try {
+            List<NameValuePair> parameters = new ArrayList<>();
+            parameters.add(new BasicNameValuePair("history", Boolean.toString(documentHistoryActive.get())));
+
+            archiveUpload = HttpRestRequest.createRequest(getSession())
+                    .buildRequest(HttpMethod.POST, getSession().getURI("documents", parameters),
+                            prepareMultipartEntity(new ZipArchiveBody(entries, "archive.zip")))
+                    .executeRequestAsync(DocumentFile.class);
+        } catch (ResultException ex) {
+            archiveUpload = CompletableFuture.failedFuture(ex);
+        }
+
+        return archiveUpload.thenCompose(archive -> {
+            String archiveId = archive != null ? archive.getDocumentId() : null;
+            if (archiveId == null) {
+                throw new CompletionException(new ClientResultException(Error.INVALID_DOCUMENT));
+            }
+            CompletableFuture<DocumentFile[]> extraction;
+            try {
+                extraction = HttpRestRequest.createRequest(getSession())
+                        .buildRequest(HttpMethod.POST, "documents/" + archiveId + "/extract",
+                                prepareHttpEntity(new DocumentFileExtract()))
+                        .executeRequestAsync(DocumentFile[].class);
+            } catch (ResultException ex) {
+                extraction = CompletableFuture.failedFuture(ex);
+            }
+            // the archive is only a container for the transfer and is no longer needed, once it has been extracted.
+            return extraction.whenComplete((documentFiles, ex) -> deleteOnServerAsync(archiveId));
+        }).thenApplyAsync(documentFiles -> {
+            Map<String, DocumentUploadResult<T_REST_DOCUMENT>> extracted = new LinkedHashMap<>();
+            for (DocumentFile documentFile : documentFiles != null ? documentFiles : new DocumentFile[0]) {
+                String entryName = documentFile.getFileName() + (documentFile.getFileExtension() == null ||
+                        documentFile.getFileExtension().isEmpty() ? "" : "." + documentFile.getFileExtension());
+                Path source = entries.get(entryName);
+                if (source == null) {
+                    continue;
+                }
+                try {
+                    extracted.put(entryName, new DocumentUploadResult<>(source,
+                            synchronizeDocument(documentFile), null));
+                } catch (ResultException ex) {
+                    extracted.put(entryName, new DocumentUploadResult<>(source, null, ex));
+                }
+            }
+
+            List<DocumentUploadResult<T_REST_DOCUMENT>> results = new ArrayList<>();
+            for (Map.Entry<String, Path> entry : entries.entrySet()) {
+                DocumentUploadResult<T_REST_DOCUMENT> result = extracted.get(entry.getKey());
+                results.add(result != null ? result : new DocumentUploadResult<>(entry.getValue(), null,
+                        new ClientResultException(Error.INVALID_RESULT_DOCUMENT)
+                                .appendMessage("Not extracted: " + entry.getKey())));
+            }
+            return results;
+        }, getSession().getExecutor()).exceptionally(ex -> {
+            List<DocumentUploadResult<T_REST_DOCUMENT>> results = new ArrayList<>();
+            for (Path source : entries.values()) {
+                results.add(new DocumentUploadResult<>(source, null, toResultException(ex)));
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Returns the maximum size of a single upload in bytes, or -1, should the webPDF server not limit the upload
+     * size for the user logged in via the {@link RestSession}.
+     *
+     * @param limits The {@link AuthLimits} of the user, or {@code null}, should the user not be limited.
+     * @return The maximum size of a single upload in bytes, or -1.
+     */
+    private static long getUploadLimit(@Nullable AuthLimits limits) {
+        // the limits of the webPDF server are given in megabytes, a value of 0 disables the limit.
+        if (limits == null || limits.getUploadLimit() == null || limits.getUploadLimit() <= 0) {
+            return -1;
+        }
+        return limits.getUploadLimit() * 1024L * 1024L;
+    }
+
+    /**
+     * Deletes the {@link RestDocument} with the given document ID from the webPDF server.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to delete.
+     * @throws ResultException Shall be thrown, should deleting the document have failed.
+     */
+    @Override
+    public void deleteDocument(@NotNull String documentId) throws ResultException {
+        if (!containsDocument(documentId)) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT);
+        }
+
+        HttpRestRequest.createRequest(getSession())
+                .buildRequest(HttpMethod.DELETE, "documents/" + documentId)
+                .executeRequest(Object.class);
+
+        removeDocument(documentId);
+    }
+
+    /**
+     * Removes the {@link RestDocument} with the given document ID and its pending document history and creation time
+     * from this {@link DocumentManager}. The removal is serialized with the synchronization of the
+     * {@link RestDocument}, so that a concurrent synchronization may not resurrect it.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to remove.
+     * @return The removed {@link RestDocument}, or {@code null}, should it not have been managed.
+     */
+    private @Nullable T_REST_DOCUMENT removeDocument(@NotNull String documentId) {
+        this.registryLock.readLock().lock();
+        try {
+            synchronized (getDocumentLock(documentId)) {
+                T_REST_DOCUMENT document = this.documentRegistry.remove(documentId);
+                this.pendingHistory.remove(documentId);
+                this.documentCreationTimes.remove(documentId);
+                return document;
+            }
+        } finally {
+            this.registryLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rename the {@link RestDocument} with the given document ID.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to rename.
+     * @param fileName   The new name for the {@link RestDocument}.
+     * @return The resulting {@link RestDocument} handle.
+     * @throws ResultException Shall be thrown, should renaming the document have failed.
+     */
+    @Override
+    public @NotNull T_REST_DOCUMENT renameDocument(@NotNull String documentId, @NotNull String fileName)
+            throws ResultException {
+        if (!containsDocument(documentId)) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT);
+        }
+
+        T_REST_DOCUMENT restDocument = getDocument(documentId);
+        DocumentFile documentFile = restDocument.getDocumentFile();
+        documentFile.setFileName(fileName);
+
+        documentFile = HttpRestRequest.createRequest(getSession())
+                .buildRequest(HttpMethod.POST, "documents/" + documentId + "/update",
+                        prepareHttpEntity(documentFile))
+                .executeRequest(DocumentFile.class);
+
+        if (documentFile == null) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT);
+        }
+
+        return synchronizeDocument(documentFile);
+    }
+
+    /**
+     * Checks whether a document history is collected for managed {@link RestDocument}s.
+     *
+     * @return {@code true} should collecting the document history be active.
+     */
+    @Override
+    public boolean isDocumentHistoryActive() {
+        return documentHistoryActive.get();
+    }
+
+    /**
+     * <p>
+     * Sets whether a document history shall be collected for managed {@link RestDocument}s.
+     * </p>
+     * <p>
+     * The document history of the currently managed {@link RestDocument}s is requested lazily, when it is read for
+     * the first time.
+     * </p>
+     *
+     * @param documentHistoryActive {@code true} should collecting the document history be activated.
+     */
+    @Override
+    public void setDocumentHistoryActive(boolean documentHistoryActive) throws ResultException {
+        this.documentHistoryActive.set(documentHistoryActive);
+
+        if (documentHistoryActive) {
+            this.pendingHistory.addAll(this.documentRegistry.getDocumentIds());
+        }
+    }
+
+    /**
+     * <p>
+     * Sets whether a document history shall be collected for managed {@link RestDocument}s.
+     * </p>
+     * <p>
+     * Should collecting the document history be activated, the document history of the currently managed
+     * {@link RestDocument}s is requested eagerly, with up to the given number of concurrent requests. The requests
+     * are sent in batches, the next batch is only sent, when the previous batch has been completed. No lock is held,
+     * while the requests are in progress.
+     * </p>
+     *
+     * @param documentHistoryActive {@code true} should collecting the document history be activated.
+     * @param parallelism           The maximum number of document histories, that shall be requested concurrently.
+     * @throws ResultException Shall be thrown, should requesting a document history have failed.
+     */
+    @Override
+    public void setDocumentHistoryActive(boolean documentHistoryActive, int parallelism) throws ResultException {
+        setDocumentHistoryActive(documentHistoryActive);
+        if (!documentHistoryActive) {
+            return;
+        }
+
+        int batchSize = Math.max(1, parallelism);
+        List<String> documentIds = new ArrayList<>(this.pendingHistory);
+        for (int start = 0; start < documentIds.size(); start += batchSize) {
+            Map<String, CompletableFuture<HistoryEntry[]>> batch = new LinkedHashMap<>();
+            try {
+                for (String documentId : documentIds.subList(start,
+                        Math.min(start + batchSize, documentIds.size()))) {
+                    batch.put(documentId, HttpRestRequest.createRequest(getSession())
+                            .buildRequest(HttpMethod.GET, "documents/" + documentId + "/history")
+                            .executeRequestAsync(HistoryEntry[].class));
+                }
+                CompletableFuture.allOf(batch.values().toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException ex) {
+                batch.values().forEach(request -> request.cancel(true));
+                if (ex.getCause() instanceof ResultException) {
+                    throw (ResultException) ex.getCause();
+                }
+                throw new ClientResultException(Error.HTTP_IO_ERROR, ex.getCause());
+            } catch (ResultException ex) {
+                batch.values().forEach(request -> request.cancel(true));
+                throw ex;
+            }
+
+            for (Map.Entry<String, CompletableFuture<HistoryEntry[]>> request : batch.entrySet()) {
+                applyPendingHistory(request.getKey(), request.getValue().join());
+            }
+        }
+    }
+
+    /**
+     * Applies the given, concurrently requested document history to the {@link RestDocument} with the given document
+     * ID, should the {@link RestDocument} still be managed and should its document history not have been synchronized
+     * in the meantime.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to apply the document history to.
+     * @param history    The requested document history.
+     * @throws ResultException Shall be thrown, should updating the document history have failed.
+     */
+    private void applyPendingHistory(@NotNull String documentId, HistoryEntry @Nullable [] history)
+            throws ResultException {
+        this.registryLock.readLock().lock();
+        try {
+            synchronized (getDocumentLock(documentId)) {
+                T_REST_DOCUMENT restDocument = this.documentRegistry.get(documentId);
+                if (restDocument == null || !this.pendingHistory.remove(documentId) || history == null) {
+                    return;
+                }
+                for (HistoryEntry historyEntry : history) {
+                    accessInternalState(restDocument).updateHistoryEntry(historyEntry);
+                }
+            }
+        } finally {
+            this.registryLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the {@link SynchronizationMode} used to synchronize the managed {@link RestDocument}s with the
+     * {@link DocumentFile}s returned by the webPDF server.
+     *
+     * @return The {@link SynchronizationMode} used to synchronize the managed {@link RestDocument}s.
+     */
+    @Override
+    public @NotNull SynchronizationMode getSynchronizationMode() {
+        return this.synchronizationMode;
+    }
+
+    /**
+     * <p>
+     * Sets the {@link SynchronizationMode} used to synchronize the managed {@link RestDocument}s with the
+     * {@link DocumentFile}s returned by the webPDF server.
+     * </p>
+     * <p>
+     * Using {@link SynchronizationMode#TRUST_RESPONSE} saves the additional requests for the document info and the
+     * document history, that are otherwise sent after each upload or operation.
+     * </p>
+     *
+     * @param synchronizationMode The {@link SynchronizationMode} to use.
+     */
+    @Override
+    public void setSynchronizationMode(@NotNull SynchronizationMode synchronizationMode) {
+        this.synchronizationMode = synchronizationMode;
+    }
+
+    /**
+     * Returns the {@link DocumentRegistry} storing the {@link RestDocument}s managed by this {@link DocumentManager}.
+     *
+     * @return The {@link DocumentRegistry} storing the managed {@link RestDocument}s.
+     */
+    @Override
+    public @NotNull DocumentRegistry<T_REST_DOCUMENT> getDocumentRegistry() {
+        return this.documentRegistry;
+    }
+
+    /**
+     * <p>
+     * Sets the {@link DocumentRegistry} storing the {@link RestDocument}s managed by this {@link DocumentManager}. The
+     * currently managed {@link RestDocument}s are transferred to the given {@link DocumentRegistry}.
+     * </p>
+     * <p>
+     * Use a {@link BoundedDocumentRegistry} to limit the number of managed {@link RestDocument}s for long-running
+     * sessions.
+     * </p>
+     *
+     * @param documentRegistry The {@link DocumentRegistry} to store the managed {@link RestDocument}s in.
+     */
+    @Override
+    public void setDocumentRegistry(@NotNull DocumentRegistry<T_REST_DOCUMENT> documentRegistry) {
+        this.registryLock.writeLock().lock();
+        try {
+            DocumentRegistry<T_REST_DOCUMENT> previousRegistry = this.documentRegistry;
+            previousRegistry.setEvictionListener(null);
+            documentRegistry.setEvictionListener(this::documentEvicted);
+            for (T_REST_DOCUMENT document : previousRegistry.getDocuments()) {
+                documentRegistry.put(document.getDocumentId(), document);
+            }
+            this.documentRegistry = documentRegistry;
+        } finally {
+            this.registryLock.writeLock().unlock();
+            processEvictedDocuments();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the current {@link DocumentRegistryStatistics} of the {@link DocumentRegistry} used by
+     * this {@link DocumentManager}.
+     *
+     * @return The current {@link DocumentRegistryStatistics}.
+     */
+    @Override
+    public @NotNull DocumentRegistryStatistics getDocumentRegistryStatistics() {
+        DocumentRegistry<T_REST_DOCUMENT> registry = this.documentRegistry;
+        return new DocumentRegistryStatistics(registry.size(), registry.getMaxSize(), registry.getEvictionCount(),
+                this.serverDeletionCount.get(), this.serverDeletionFailureCount.get());
+    }
+
+    /**
+     * <p>
+     * Registers a {@link RestDocument}, that has been evicted from the {@link DocumentRegistry}, to be handled via
+     * {@link #processEvictedDocuments()}.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The eviction happens, while the lock of the added {@link RestDocument} is held. The evicted
+     * {@link RestDocument} is therefore only handled, after that lock has been released, as acquiring the lock of
+     * another {@link RestDocument} at that point could result in a deadlock.
+     * </p>
+     *
+     * @param document The evicted {@link RestDocument}.
+     */
+    private void documentEvicted(@NotNull T_REST_DOCUMENT document) {
+        this.evictedDocuments.add(document.getDocumentId());
+    }
+
+    /**
+     * Handles the {@link RestDocument}s, that have been evicted from the {@link DocumentRegistry} and applies the
+     * {@link EvictionPolicy} of the {@link DocumentRegistry} to them. An evicted {@link RestDocument}, that has been
+     * added again in the meantime, is left untouched. The deletion on the webPDF server is executed asynchronously, so
+     * that the eviction never blocks the synchronization of other {@link RestDocument}s.
+     */
+    private void processEvictedDocuments() {
+        String evictedId;
+        while ((evictedId = this.evictedDocuments.poll()) != null) {
+            String documentId = evictedId;
+            this.registryLock.readLock().lock();
+            try {
+                synchronized (getDocumentLock(documentId)) {
+                    if (this.documentRegistry.contains(documentId)) {
+                        continue;
+                    }
+                    this.pendingHistory.remove(documentId);
+                    this.documentCreationTimes.remove(documentId);
+                }
+            } finally {
+                this.registryLock.readLock().unlock();
+            }
+            if (this.documentRegistry.getEvictionPolicy() != EvictionPolicy.DELETE_ON_SERVER) {
+                continue;
+            }
+
+            deleteOnServerAsync(documentId).thenAccept(deleted -> {
+                if (deleted) {
+                    this.serverDeletionCount.incrementAndGet();
+                } else {
+                    this.serverDeletionFailureCount.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Asynchronously deletes the document with the given document ID on the webPDF server. The returned
+     * {@link CompletableFuture} is never completed exceptionally, but provides {@code false}, should the deletion
+     * have failed.
+     *
+     * @param documentId The document ID of the document to delete.
+     * @return A {@link CompletableFuture} providing {@code true}, if the document has been deleted.
+     */
+    private @NotNull CompletableFuture<Boolean> deleteOnServerAsync(@NotNull String documentId) {
+        try {
+            return HttpRestRequest.createRequest(getSession())
+                    .buildRequest(HttpMethod.DELETE, "documents/" + documentId)
+                    .executeRequestAsync(Object.class)
+                    .handle((result, ex) -> ex == null);
+        } catch (ResultException ex) {
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    /**
+     * Returns the {@link DocumentLifecyclePolicy} defining, when managed {@link RestDocument}s shall be deleted from
+     * the webPDF server.
+     *
+     * @return The {@link DocumentLifecyclePolicy} of this {@link DocumentManager}.
+     */
+    @Override
+    public @NotNull DocumentLifecyclePolicy getLifecyclePolicy() {
+        return this.lifecyclePolicy;
+    }
+
+    /**
+     * Sets the {@link DocumentLifecyclePolicy} defining, when managed {@link RestDocument}s shall be deleted from the
+     * webPDF server.
+     *
+     * @param lifecyclePolicy The {@link DocumentLifecyclePolicy} to apply.
+     */
+    @Override
+    public void setLifecyclePolicy(@NotNull DocumentLifecyclePolicy lifecyclePolicy) {
+        this.lifecyclePolicy = lifecyclePolicy;
+    }
+
+    /**
+     * <p>
+     * Schedules the {@link RestDocument} with the given document ID for deletion and removes it from this
+     * {@link DocumentManager}. The deletion on the webPDF server is executed asynchronously in batches of the
+     * {@link DocumentLifecyclePolicy#getBatchSize()}.
+     * </p>
+     * <p>
+     * Should the {@link RestDocument} not be managed by this {@link DocumentManager}, it shall not be scheduled.
+     * </p>
+     *
+     * @param documentId The document ID of the {@link RestDocument} to delete.
+     * @return {@code true}, if the {@link RestDocument} has been scheduled for deletion.
+     */
+    @Override
+    public boolean scheduleDeletion(@NotNull String documentId) {
+        if (removeDocument(documentId) == null) {
+            return false;
+        }
+        this.pendingDeletions.add(documentId);
+        executePendingDeletions();
+        return true;
     }
 
     /**
-     * Uploads the given {@link File} to the webPDF server, adds it to this {@link DocumentManager} and returns the
-     * resulting {@link RestDocument} handle.
+     * Schedules all {@link RestDocument}s, that exceed the {@link DocumentLifecyclePolicy#getMaxAge()}, for deletion
+     * and returns a {@link CompletableFuture}, that is completed, when all scheduled deletions have been executed.
+     * This includes deletions, that are scheduled while the cleanup is in progress. Failed deletions are not retried,
+     * but are reported via the {@link DocumentRegistryStatistics#getServerDeletionFailureCount()}.
      *
-     * @param file The {@link File} to upload.
-     * @return The resulting {@link RestDocument} handle.
-     * @throws ResultException Shall be thrown, should the upload have failed.
+     * @return A {@link CompletableFuture}, that is completed, when all scheduled deletions have been executed.
      */
     @Override
-    public @NotNull T_REST_DOCUMENT uploadDocument(@NotNull File file) throws ResultException {
-        try (InputStream data = FileUtils.openInputStream(file)) {
-            return uploadDocument(data, file.getName());
-        } catch (IOException ex) {
-            throw new ClientResultException(Error.INVALID_SOURCE_DOCUMENT, ex);
-        }
+    public @NotNull CompletableFuture<Void> cleanup() {
+        scheduleExpiredDocuments();
+        return awaitPendingDeletions();
     }
 
     /**
-     * Uploads the given {@link InputStream} to the webPDF server as a document resource with the given file name, adds
-     * it to this {@link DocumentManager} and returns the resulting {@link RestDocument} handle.
+     * Returns a {@link CompletableFuture}, that is completed, as soon as no more deletions are pending and no batch of
+     * deletions is in progress.
      *
-     * @param data     The document {@link InputStream} to upload.
-     * @param fileName The name of the uploaded document.
-     * @return The resulting {@link RestDocument} handle.
-     * @throws ResultException Shall be thrown, should the upload have failed.
+     * @return A {@link CompletableFuture}, that is completed, when all scheduled deletions have been executed.
      */
-    @Override
-    public @NotNull T_REST_DOCUMENT uploadDocument(@NotNull InputStream data, @NotNull String fileName)
-            throws ResultException {
-        try {
-            MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-            builder.setMode(HttpMultipartMode.LEGACY);
-            builder.setCharset(StandardCharsets.UTF_8);
-            builder.addBinaryBody("filedata", IOUtils.toByteArray(data),
-                    ContentType.DEFAULT_BINARY, fileName);
-            HttpEntity entity = builder.build();
-
-            List<NameValuePair> parameters = new ArrayList<>();
-            parameters.add(new BasicNameValuePair("history", Boolean.toString(documentHistoryActive.get())));
-
-            URI uri = getSession().getURI("documents", parameters);
-            DocumentFile documentFile = HttpRestRequest.createRequest(getSession())
-                    .buildRequest(HttpMethod.POST, uri, entity)
-                    .executeRequest(DocumentFile.class);
-            if (documentFile == null) {
-                throw new ClientResultException(Error.INVALID_DOCUMENT);
+    private @NotNull CompletableFuture<Void> awaitPendingDeletions() {
+        return executePendingDeletions().thenCompose(result -> {
+            synchronized (this.deletionLock) {
+                if (this.pendingDeletions.isEmpty() && this.deletionBatches.isDone()) {
+                    return CompletableFuture.completedFuture(null);
+                }
             }
-            return synchronizeDocument(documentFile);
-        } catch (IOException ex) {
-            throw new ClientResultException(Error.INVALID_SOURCE_DOCUMENT, ex);
-        }
+            // deletions have been scheduled, while the last batch was completing.
+            return awaitPendingDeletions();
+        });
     }
 
     /**
-     * Deletes the {@link RestDocument} with the given document ID from the webPDF server.
+     * Returns the number of {@link RestDocument}s, that are scheduled for deletion, but have not yet been deleted on
+     * the webPDF server, including the deletions currently in progress.
      *
-     * @param documentId The document ID of the {@link RestDocument} to delete.
-     * @throws ResultException Shall be thrown, should deleting the document have failed.
+     * @return The number of pending deletions.
      */
     @Override
-    public void deleteDocument(@NotNull String documentId) throws ResultException {
-        if (!containsDocument(documentId)) {
-            throw new ClientResultException(Error.INVALID_DOCUMENT);
-        }
-
-        HttpRestRequest.createRequest(getSession())
-                .buildRequest(HttpMethod.DELETE, "documents/" + documentId)
-                .executeRequest(Object.class);
-
-        this.documentMap.remove(documentId);
+    public int getPendingDeletionCount() {
+        return this.pendingDeletions.size() + this.runningDeletions.get();
     }
 
     /**
-     * Rename the {@link RestDocument} with the given document ID.
+     * Schedules the {@link RestDocument} with the given document ID for deletion, should the
+     * {@link DocumentLifecyclePolicy} request the deletion of downloaded {@link RestDocument}s.
      *
-     * @param documentId The document ID of the {@link RestDocument} to rename.
-     * @param fileName   The new name for the {@link RestDocument}.
-     * @return The resulting {@link RestDocument} handle.
-     * @throws ResultException Shall be thrown, should renaming the document have failed.
+     * @param documentId The document ID of the downloaded {@link RestDocument}.
      */
-    @Override
-    public @NotNull T_REST_DOCUMENT renameDocument(@NotNull String documentId, @NotNull String fileName)
-            throws ResultException {
-        if (!containsDocument(documentId)) {
-            throw new ClientResultException(Error.INVALID_DOCUMENT);
+    private void documentDownloaded(@NotNull String documentId) {
+        if (this.lifecyclePolicy.isDeleteAfterDownload()) {
+            scheduleDeletion(documentId);
         }
+    }
 
-        T_REST_DOCUMENT restDocument = getDocument(documentId);
-        DocumentFile documentFile = restDocument.getDocumentFile();
-        documentFile.setFileName(fileName);
+    /**
+     * Schedules all {@link RestDocument}s, that have been added to this {@link DocumentManager} before the
+     * {@link DocumentLifecyclePolicy#getMaxAge()} has elapsed, for deletion.
+     */
+    private void scheduleExpiredDocuments() {
+        long maxAge = this.lifecyclePolicy.getMaxAge();
+        if (maxAge < 1) {
+            return;
+        }
 
-        documentFile = HttpRestRequest.createRequest(getSession())
-                .buildRequest(HttpMethod.POST, "documents/" + documentId + "/update",
-                        prepareHttpEntity(documentFile))
-                .executeRequest(DocumentFile.class);
+        long now = System.currentTimeMillis();
+        this.lastMaxAgeCheck.set(now);
+        for (Map.Entry<String, Long> creationTime : this.documentCreationTimes.entrySet()) {
+            if (now - creationTime.getValue() > maxAge) {
+                scheduleDeletion(creationTime.getKey());
+            }
+        }
+    }
 
-        if (documentFile == null) {
-            throw new ClientResultException(Error.INVALID_DOCUMENT);
+    /**
+     * Schedules the expired {@link RestDocument}s for deletion, should the last check for expired
+     * {@link RestDocument}s have been executed earlier than a second ago. This check is executed, whenever a
+     * {@link RestDocument} has been added to this {@link DocumentManager}.
+     */
+    private void scheduleExpiredDocumentsPeriodically() {
+        if (this.lifecyclePolicy.getMaxAge() < 1) {
+            return;
         }
 
-        return synchronizeDocument(documentFile);
+        long lastCheck = this.lastMaxAgeCheck.get();
+        long now = System.currentTimeMillis();
+        if (now - lastCheck >= MAX_AGE_CHECK_INTERVAL && this.lastMaxAgeCheck.compareAndSet(lastCheck, now)) {
+            scheduleExpiredDocuments();
+        }
     }
 
     /**
-     * Checks whether a document history is collected for managed {@link RestDocument}s.
+     * <p>
+     * Starts the execution of the pending deletions, should it not already be running, and returns a
+     * {@link CompletableFuture}, that is completed, when no more deletions are pending.
+     * </p>
+     * <p>
+     * The pending deletions are sent in batches of the {@link DocumentLifecyclePolicy#getBatchSize()}. The next batch
+     * is only sent, when the previous batch has been completed, so that the deletions never occupy more than the given
+     * number of connections.
+     * </p>
      *
-     * @return {@code true} should collecting the document history be active.
+     * @return A {@link CompletableFuture}, that is completed, when no more deletions are pending.
      */
-    @Override
-    public boolean isDocumentHistoryActive() {
-        return documentHistoryActive.get();
+    private @NotNull CompletableFuture<Void> executePendingDeletions() {
+        synchronized (this.deletionLock) {
+            if (this.deletionBatches.isDone()) {
+                this.deletionBatches = executeDeletionBatch();
+                // deletions scheduled while the last batch was completing must not remain pending.
+                this.deletionBatches.thenRun(() -> {
+                    if (!this.pendingDeletions.isEmpty()) {
+                        executePendingDeletions();
+                    }
+                });
+            }
+            return this.deletionBatches;
+        }
     }
 
     /**
-     * Sets whether a document history shall be collected for managed {@link RestDocument}s.
+     * Sends the next batch of pending deletions to the webPDF server and continues with the following batch, when
+     * all deletions of the batch have been completed. Each executed deletion is counted as either succeeded or failed
+     * in the {@link DocumentRegistryStatistics}.
      *
-     * @param documentHistoryActive {@code true} should collecting the document history be activated.
+     * @return A {@link CompletableFuture}, that is completed, when no more deletions are pending.
      */
-    @Override
-    public synchronized void setDocumentHistoryActive(boolean documentHistoryActive) throws ResultException {
-        this.documentHistoryActive.set(documentHistoryActive);
-
-        if (documentHistoryActive) {
-            for (T_REST_DOCUMENT document : getDocuments()) {
-                synchronizeDocumentHistory(document.getDocumentId());
-            }
+    private @NotNull CompletableFuture<Void> executeDeletionBatch() {
+        int batchSize = this.lifecyclePolicy.getBatchSize();
+        List<CompletableFuture<Void>> batch = new ArrayList<>();
+        String documentId;
+        while (batch.size() < batchSize && (documentId = this.pendingDeletions.poll()) != null) {
+            this.runningDeletions.incrementAndGet();
+            batch.add(deleteOnServerAsync(documentId).thenAccept(deleted -> {
+                if (deleted) {
+                    this.serverDeletionCount.incrementAndGet();
+                } else {
+                    this.serverDeletionFailureCount.incrementAndGet();
+                }
+                this.runningDeletions.decrementAndGet();
+            }));
         }
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(batch.toArray(new CompletableFuture[0]))
+                .thenCompose(result -> executeDeletionBatch());
     }
 
     /**
@@ -374,7 +1720,8 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
             throw new ClientResultException(Error.INVALID_HISTORY_DATA);
         }
 
-        return getDocument(documentId).getHistory();
+        synchronizePendingHistory(documentId);
+        return accessInternalState(getDocument(documentId)).getHistory();
     }
 
     /**
@@ -393,7 +1740,8 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
             throw new ClientResultException(Error.INVALID_HISTORY_DATA);
         }
 
-        return getDocument(documentId).getHistoryEntry(historyId);
+        synchronizePendingHistory(documentId);
+        return accessInternalState(getDocument(documentId)).getHistoryEntry(historyId);
     }
 
     /**
@@ -405,32 +1753,39 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      * @throws ResultException Shall be thrown, should updating the document history have failed.
      */
     @Override
-    public synchronized @Nullable HistoryEntry updateDocumentHistory(
+    public @Nullable HistoryEntry updateDocumentHistory(
             @NotNull String documentId, @NotNull HistoryEntry historyEntry
     ) throws ResultException {
         if (!this.isDocumentHistoryActive()) {
             throw new ClientResultException(Error.INVALID_HISTORY_DATA);
         }
 
-        if (!containsDocument(documentId)) {
-            throw new ClientResultException(Error.INVALID_DOCUMENT);
-        }
+        this.registryLock.readLock().lock();
+        try {
+            synchronized (getDocumentLock(documentId)) {
+                T_REST_DOCUMENT restDocument = this.documentRegistry.get(documentId);
+                if (restDocument == null) {
+                    throw new ClientResultException(Error.INVALID_DOCUMENT);
+                }
 
-        T_REST_DOCUMENT restDocument = this.documentMap.get(documentId);
-        int historyId = historyEntry.getId();
+                int historyId = historyEntry.getId();
 
-        HistoryEntry resultHistoryBean = HttpRestRequest.createRequest(getSession())
-                .buildRequest(HttpMethod.PUT, "documents/" + documentId + "/history/" + historyId,
-                        prepareHttpEntity(historyEntry))
-                .executeRequest(HistoryEntry.class);
+                HistoryEntry resultHistoryBean = HttpRestRequest.createRequest(getSession())
+                        .buildRequest(HttpMethod.PUT, "documents/" + documentId + "/history/" + historyId,
+                                prepareHttpEntity(historyEntry))
+                        .executeRequest(HistoryEntry.class);
 
-        restDocument = synchronizeDocumentInfo(restDocument.getDocumentFile());
+                restDocument = synchronizeDocumentInfo(restDocument.getDocumentFile());
 
-        if (resultHistoryBean != null) {
-            accessInternalState(restDocument).updateHistoryEntry(resultHistoryBean);
-        }
+                if (resultHistoryBean != null) {
+                    accessInternalState(restDocument).updateHistoryEntry(resultHistoryBean);
+                }
 
-        return resultHistoryBean;
+                return resultHistoryBean;
+            }
+        } finally {
+            this.registryLock.readLock().unlock();
+        }
     }
 
     /**
@@ -451,16 +1806,28 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      */
     private @NotNull T_REST_DOCUMENT createDocument(@NotNull DocumentFile documentFile)
             throws ResultException {
-        String documentId;
-        if ((documentId = documentFile.getDocumentId()) == null) {
-            throw new ClientResultException(Error.INVALID_DOCUMENT);
+        T_REST_DOCUMENT restDocument = registerDocument(documentFile);
+        if (this.synchronizationMode == SynchronizationMode.FULL) {
+            synchronizeDocumentInfo(documentFile);
         }
 
+        return restDocument;
+    }
+
+    /**
+     * Creates a new {@link RestDocument} for the given {@link DocumentFile} and adds it to the
+     * {@link DocumentRegistry}, without requesting further information from the webPDF server.
+     *
+     * @param documentFile The {@link DocumentFile} a matching {@link RestDocument} shall be created for.
+     * @return The created {@link RestDocument}.
+     * @throws ResultException Shall be thrown, should creating the document fail.
+     */
+    private @NotNull T_REST_DOCUMENT registerDocument(@NotNull DocumentFile documentFile) throws ResultException {
+        String documentId = getDocumentID(documentFile);
         T_REST_DOCUMENT restDocument = createDocument(documentId);
         accessInternalState(restDocument).setDocumentFile(documentFile);
-        documentMap.put(documentId, restDocument);
-        synchronizeDocumentInfo(documentFile);
-
+        this.documentRegistry.put(documentId, restDocument);
+        this.documentCreationTimes.put(documentId, System.currentTimeMillis());
         return restDocument;
     }
 
@@ -471,49 +1838,138 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      * @return The matching {@link RestDocument}.
      * @throws ResultException Shall be thrown, should the synchronization fail.
      */
-    private synchronized @NotNull T_REST_DOCUMENT synchronizeDocumentInfo(@NotNull DocumentFile DocumentFile)
+    private @NotNull T_REST_DOCUMENT synchronizeDocumentInfo(@NotNull DocumentFile DocumentFile)
             throws ResultException {
         String documentId = getDocumentID(DocumentFile);
 
+        synchronized (getDocumentLock(documentId)) {
+            DocumentFile documentFile = requestDocumentInfo(documentId);
+            documentId = getDocumentID(documentFile);
+
+            T_REST_DOCUMENT restDocument = this.documentRegistry.get(documentId);
+            if (restDocument == null) {
+                throw new ClientResultException(Error.INVALID_DOCUMENT);
+            }
+            accessInternalState(restDocument).setDocumentFile(documentFile);
+
+            if (isDocumentHistoryActive()) {
+                synchronizeDocumentHistory(documentId);
+            }
+
+            return restDocument;
+        }
+    }
+
+    /**
+     * Synchronizes the document history for the {@link RestDocument} with the given document ID of this
+     * {@link DocumentManager} and the webPDF server.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to synchronize the document history for.
+     * @throws ResultException Shall be thrown, should synchronizing the document history have failed.
+     */
+    private void synchronizeDocumentHistory(@NotNull String documentId) throws ResultException {
+        synchronized (getDocumentLock(documentId)) {
+            T_REST_DOCUMENT restDocument = getDocument(documentId);
+            this.pendingHistory.remove(documentId);
+
+            HistoryEntry[] history = requestDocumentHistory(documentId);
+
+            if (history != null) {
+                for (HistoryEntry historyEntry : history) {
+                    accessInternalState(restDocument).updateHistoryEntry(historyEntry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Requests the current {@link DocumentFile} of the document with the given document ID from the webPDF server.
+     *
+     * @param documentId The document ID of the document to request the {@link DocumentFile} for.
+     * @return The requested {@link DocumentFile}.
+     * @throws ResultException Shall be thrown, should requesting the {@link DocumentFile} have failed.
+     */
+    private @NotNull DocumentFile requestDocumentInfo(@NotNull String documentId) throws ResultException {
         DocumentFile documentFile = HttpRestRequest.createRequest(getSession())
                 .buildRequest(HttpMethod.GET, "documents/" + documentId + "/info")
                 .executeRequest(DocumentFile.class);
 
-        if (documentFile == null || (documentId = documentFile.getDocumentId()) == null) {
+        if (documentFile == null || documentFile.getDocumentId() == null) {
             throw new ClientResultException(Error.INVALID_DOCUMENT);
         }
+        return documentFile;
+    }
 
-        T_REST_DOCUMENT restDocument = documentMap.get(documentId);
-        accessInternalState(restDocument).setDocumentFile(documentFile);
+    /**
+     * Requests the document history of the document with the given document ID from the webPDF server.
+     *
+     * @param documentId The document ID of the document to request the document history for.
+     * @return The requested document history.
+     * @throws ResultException Shall be thrown, should requesting the document history have failed.
+     */
+    private HistoryEntry @Nullable [] requestDocumentHistory(@NotNull String documentId) throws ResultException {
+        return HttpRestRequest.createRequest(getSession())
+                .buildRequest(HttpMethod.GET, "documents/" + documentId + "/history")
+                .executeRequest(HistoryEntry[].class);
+    }
 
-        if (isDocumentHistoryActive()) {
-            synchronizeDocumentHistory(documentId);
+    /**
+     * Synchronizes the document history for the {@link RestDocument} with the given document ID, after the
+     * {@link RestDocument} has been synchronized. Should the {@link SynchronizationMode#TRUST_RESPONSE} be selected,
+     * the document history is only marked to be requested, when it is read for the first time.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to synchronize the document history for.
+     * @throws ResultException Shall be thrown, should synchronizing the document history have failed.
+     */
+    private void synchronizeHistoryState(@NotNull String documentId) throws ResultException {
+        if (!this.isDocumentHistoryActive()) {
+            return;
         }
 
-        return restDocument;
+        if (this.synchronizationMode == SynchronizationMode.TRUST_RESPONSE) {
+            this.pendingHistory.add(documentId);
+        } else {
+            synchronizeDocumentHistory(documentId);
+        }
     }
 
     /**
-     * Synchronizes the document history for the {@link RestDocument} with the given document ID of this
-     * {@link DocumentManager} and the webPDF server.
+     * Synchronizes the document history for the {@link RestDocument} with the given document ID, should it not have
+     * been requested since the {@link RestDocument} has last been synchronized using
+     * {@link SynchronizationMode#TRUST_RESPONSE}.
      *
      * @param documentId The document ID of the {@link RestDocument} to synchronize the document history for.
      * @throws ResultException Shall be thrown, should synchronizing the document history have failed.
      */
-    private synchronized void synchronizeDocumentHistory(@NotNull String documentId) throws ResultException {
-        T_REST_DOCUMENT restDocument = getDocument(documentId);
-
-        HistoryEntry[] history = HttpRestRequest.createRequest(getSession())
-                .buildRequest(HttpMethod.GET, "documents/" + documentId + "/history")
-                .executeRequest(HistoryEntry[].class);
+    private void synchronizePendingHistory(@NotNull String documentId) throws ResultException {
+        if (!this.pendingHistory.contains(documentId)) {
+            return;
+        }
 
-        if (history != null) {
-            for (HistoryEntry historyEntry : history) {
-                accessInternalState(restDocument).updateHistoryEntry(historyEntry);
+        this.registryLock.readLock().lock();
+        try {
+            synchronized (getDocumentLock(documentId)) {
+                if (this.pendingHistory.contains(documentId)) {
+                    synchronizeDocumentHistory(documentId);
+                }
             }
+        } finally {
+            this.registryLock.readLock().unlock();
         }
     }
 
+    /**
+     * Returns the lock guarding the synchronization of the {@link RestDocument} with the given document ID. The
+     * document IDs are distributed over a fixed number of lock stripes, so that different {@link RestDocument}s may
+     * be synchronized concurrently.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to return the lock for.
+     * @return The lock guarding the synchronization of the {@link RestDocument}.
+     */
+    private @NotNull Object getDocumentLock(@NotNull String documentId) {
+        return this.documentLocks[Math.floorMod(documentId.hashCode(), this.documentLocks.length)];
+    }
+
     /**
      * Updates the security information of a selected document in the server´s document storage.
      *
@@ -548,12 +2004,7 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      * @throws ResultException Shall be thrown, should the {@link HttpEntity} creation fail.
      */
     private <T> @NotNull HttpEntity prepareHttpEntity(@NotNull T parameter) throws ResultException {
-        try {
-            return new StringEntity(SerializeHelper.toJSON(parameter),
-                    ContentType.create(DataFormat.JSON.getMimeType(), StandardCharsets.UTF_8));
-        } catch (UnsupportedCharsetException ex) {
-            throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
-        }
+        return new JsonHttpEntity(parameter, true);
     }
 
     /**
@@ -597,6 +2048,11 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
      * <li>Each newly created DocumentFile holds as parentDocumentId the documentId of the archive.</li>
      * </ul>
      * </p>
+     * <p>
+     * The extracted {@link RestDocument}s are synchronized concurrently. The calling thread takes part in the
+     * synchronization, so that this may also be called by a task executed via the {@link RestSession#getExecutor()},
+     * without waiting for that executor to become available.
+     * </p>
      *
      * @param documentId  The document ID of the {@link RestDocument} to extract.
      * @param fileExtract {@link DocumentFileExtract} settings for unpacking the archive document.
@@ -606,6 +2062,82 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
     @Override
     public @NotNull List<T_REST_DOCUMENT> extractDocument(
             @NotNull String documentId, @NotNull DocumentFileExtract fileExtract
+    ) throws ResultException {
+        List<DocumentFile> documentFiles = Arrays.asList(requestExtraction(documentId, fileExtract));
+        List<CompletableFuture<T_REST_DOCUMENT>> synchronizations = new ArrayList<>();
+        for (int index = 0; index < documentFiles.size(); index++) {
+            synchronizations.add(new CompletableFuture<>());
+        }
+
+        AtomicInteger nextIndex = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = nextIndex.getAndIncrement()) < documentFiles.size()) {
+                try {
+                    synchronizations.get(index).complete(synchronizeDocument(documentFiles.get(index)));
+                } catch (ResultException | RuntimeException ex) {
+                    synchronizations.get(index).completeExceptionally(ex);
+                }
+            }
+        };
+        // documents claimed by a helper are already in progress, the others are synchronized by the calling thread.
+        int helpers = Math.min(SYNCHRONIZATION_PARALLELISM, documentFiles.size()) - 1;
+        try {
+            for (int helper = 0; helper < helpers; helper++) {
+                getSession().getExecutor().execute(worker);
+            }
+        } catch (RejectedExecutionException ignored) {
+            // the calling thread synchronizes the remaining documents itself.
+        }
+        worker.run();
+
+        List<T_REST_DOCUMENT> resultDocuments = new ArrayList<>();
+        try {
+            for (CompletableFuture<T_REST_DOCUMENT> synchronization : synchronizations) {
+                resultDocuments.add(synchronization.join());
+            }
+        } catch (CompletionException ex) {
+            throw toResultException(ex);
+        }
+
+        return resultDocuments;
+    }
+
+    /**
+     * <p>
+     * Extracts the {@link RestDocument} with the given document ID in the document storage and synchronizes the
+     * extracted {@link RestDocument}s with up to the given number of synchronizations in progress at the same time.
+     * </p>
+     * <p>
+     * The returned {@link Stream} provides a {@link CompletableFuture} for each extracted {@link RestDocument}, that
+     * is completed, as soon as the {@link RestDocument} has been synchronized. See
+     * {@link #synchronizeDocuments(List, int)} for details.
+     * </p>
+     *
+     * @param documentId  The document ID of the {@link RestDocument} to extract.
+     * @param fileExtract {@link DocumentFileExtract} settings for unpacking the archive document.
+     * @param parallelism The maximum number of synchronizations, that shall be in progress at the same time.
+     * @return A {@link Stream} of {@link CompletableFuture}s providing the extracted {@link RestDocument}s.
+     * @throws ResultException Shall be thrown, should the extraction have failed.
+     */
+    @Override
+    public @NotNull Stream<CompletableFuture<T_REST_DOCUMENT>> extractDocument(
+            @NotNull String documentId, @NotNull DocumentFileExtract fileExtract, int parallelism
+    ) throws ResultException {
+        return synchronizeDocuments(Arrays.asList(requestExtraction(documentId, fileExtract)), parallelism);
+    }
+
+    /**
+     * Extracts the {@link RestDocument} with the given document ID in the document storage and returns the
+     * {@link DocumentFile}s of the extracted documents, without synchronizing them.
+     *
+     * @param documentId  The document ID of the {@link RestDocument} to extract.
+     * @param fileExtract {@link DocumentFileExtract} settings for unpacking the archive document.
+     * @return The {@link DocumentFile}s of the extracted documents.
+     * @throws ResultException Shall be thrown, should the extraction have failed.
+     */
+    private @NotNull DocumentFile[] requestExtraction(
+            @NotNull String documentId, @NotNull DocumentFileExtract fileExtract
     ) throws ResultException {
         if (!containsDocument(documentId)) {
             throw new ClientResultException(Error.INVALID_DOCUMENT);
@@ -621,12 +2153,7 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
             throw new ClientResultException(Error.HTTP_IO_ERROR);
         }
 
-        List<T_REST_DOCUMENT> resultDocuments = new ArrayList<>();
-        for (DocumentFile documentFile : documentFileList) {
-            resultDocuments.add(this.synchronizeDocument(documentFile));
-        }
-
-        return resultDocuments;
+        return documentFileList;
     }
 
     /**
@@ -652,6 +2179,77 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
                 .executeRequest(outputStream);
     }
 
+    /**
+     * <p>
+     * Extracts and downloads the given archive path in the {@link RestDocument} with the given document ID to the file
+     * at the given {@link Path}, continuing a previously interrupted download of the same archive file to the same
+     * file.
+     * </p>
+     * <p>
+     * The progress is recorded and the completed file is verified, as described for
+     * {@link #downloadDocumentResumable(String, Path, DigestVerification)}.
+     * </p>
+     *
+     * @param documentId   The document ID of the {@link RestDocument} to extract and download from.
+     * @param archivePath  The path of the file to extract in the given archive.
+     * @param target       The {@link Path} of the file to write the extracted archive file to.
+     * @param verification The {@link DigestVerification} to verify the completed file with, or {@code null}.
+     * @throws ResultException Shall be thrown, should the download or the verification have failed.
+     */
+    @Override
+    public void extractArchiveFileResumable(@NotNull String documentId, @NotNull String archivePath,
+            @NotNull Path target, @Nullable DigestVerification verification) throws ResultException {
+        if (!containsDocument(documentId)) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT);
+        }
+
+        downloadResumable("documents/" + documentId + "/archive/" + archivePath, target, verification);
+    }
+
+    /**
+     * Downloads the given resource to the file at the given {@link Path}, continuing at the offset recorded by a
+     * matching {@link DownloadCheckpoint}, and verifies the completed file using the given
+     * {@link DigestVerification}.
+     *
+     * @param resource     The resource path to download.
+     * @param target       The {@link Path} of the file to write the downloaded resource to.
+     * @param verification The {@link DigestVerification} to verify the completed file with, or {@code null}.
+     * @throws ResultException Shall be thrown, should the download or the verification have failed.
+     */
+    private void downloadResumable(@NotNull String resource, @NotNull Path target,
+            @Nullable DigestVerification verification) throws ResultException {
+        DownloadCheckpoint checkpoint = new DownloadCheckpoint(target, resource);
+        try (FileChannel fileChannel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long offset = checkpoint.load(fileChannel.size());
+            HttpRestRequest request = HttpRestRequest.createRequest(getSession())
+                    .setAcceptHeader(DataFormat.OCTET_STREAM.getMimeType());
+            if (offset > 0) {
+                request.setAdditionalHeader(HttpHeaders.RANGE, "bytes=" + offset + "-");
+            }
+            request.buildRequest(HttpMethod.GET, resource)
+                    .executeRequest(fileChannel, offset, position -> {
+                        fileChannel.force(false);
+                        checkpoint.save(position);
+                    });
+        } catch (IOException ex) {
+            throw new ClientResultException(Error.HTTP_IO_ERROR, ex);
+        }
+
+        try {
+            if (verification != null) {
+                try {
+                    verification.verify(target);
+                } catch (ResultException ex) {
+                    checkpoint.delete();
+                    throw ex;
+                }
+            }
+            checkpoint.delete();
+        } catch (IOException ex) {
+            throw new ClientResultException(Error.HTTP_IO_ERROR, ex);
+        }
+    }
+
     /**
      * <p>
      * Compresses a list of {@link RestDocument}s selected by documentId or file filter into a new archive document
@@ -707,24 +2305,31 @@ public abstract class AbstractDocumentManager<T_REST_DOCUMENT extends RestDocume
         DocumentFile documentFile = restDocument.getDocumentFile();
         String fileName = documentFile.getFileName() + "." + documentFile.getFileExtension();
 
-        try {
-            MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-            builder.setMode(HttpMultipartMode.LEGACY);
-            builder.setCharset(StandardCharsets.UTF_8);
-            builder.addBinaryBody("filedata", IOUtils.toByteArray(data), ContentType.DEFAULT_BINARY, fileName);
-            HttpEntity entity = builder.build();
-
-            documentFile = HttpRestRequest.createRequest(getSession())
-                    .buildRequest(HttpMethod.PUT, "documents/" + documentId, entity)
-                    .executeRequest(DocumentFile.class);
+        HttpEntity entity = prepareMultipartEntity(new InputStreamBody(data, ContentType.DEFAULT_BINARY, fileName));
 
-            if (documentFile == null) {
-                throw new ClientResultException(Error.INVALID_DOCUMENT);
-            }
+        documentFile = HttpRestRequest.createRequest(getSession())
+                .buildRequest(HttpMethod.PUT, "documents/" + documentId, entity)
+                .executeRequest(DocumentFile.class);
 
-            return synchronizeDocument(documentFile);
-        } catch (IOException ex) {
-            throw new ClientResultException(Error.INVALID_SOURCE_DOCUMENT, ex);
+        if (documentFile == null) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT);
         }
+
+        return synchronizeDocument(documentFile);
+    }
+
+    /**
+     * Prepares a multipart {@link HttpEntity} for the upload of the given document {@link ContentBody}. The content
+     * is not buffered, but shall be streamed to the webPDF server, when the request is executed.
+     *
+     * @param contentBody The document {@link ContentBody} to upload.
+     * @return The resulting multipart {@link HttpEntity}.
+     */
+    private @NotNull HttpEntity prepareMultipartEntity(@NotNull ContentBody contentBody) {
+        MultipartEntityBuilder builder = MultipartEntityBuilder.create();
+        builder.setMode(HttpMultipartMode.LEGACY);
+        builder.setCharset(StandardCharsets.UTF_8);
+        builder.addPart("filedata", contentBody);
+        return builder.build();
     }
 }
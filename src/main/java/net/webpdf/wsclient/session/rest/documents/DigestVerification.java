@@ -0,0 +1,99 @@
+package net.webpdf.wsclient.session.rest.documents;
+
+import net.webpdf.wsclient.exception.ClientResultException;
+import net.webpdf.wsclient.exception.Error;
+import net.webpdf.wsclient.exception.ResultException;
+import net.webpdf.wsclient.tools.FileTransferHelper;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+
+/**
+ * An instance of {@link DigestVerification} describes the expected digest of a downloaded {@link RestDocument} and
+ * allows to verify a downloaded file against it.
+ */
+public class DigestVerification {
+
+    private final @NotNull String algorithm;
+    private final byte @NotNull [] expectedDigest;
+
+    /**
+     * Creates a {@link DigestVerification} for the given {@link MessageDigest} algorithm and the expected digest.
+     *
+     * @param algorithm      The name of the {@link MessageDigest} algorithm, e.g. "SHA-256".
+     * @param expectedDigest The expected digest as a hexadecimal string.
+     * @throws IllegalArgumentException Shall be thrown, should the expected digest not be a valid hexadecimal string.
+     */
+    public DigestVerification(@NotNull String algorithm, @NotNull String expectedDigest) {
+        this.algorithm = algorithm;
+        this.expectedDigest = parseHex(expectedDigest.trim());
+    }
+
+    /**
+     * Returns the name of the {@link MessageDigest} algorithm.
+     *
+     * @return The name of the {@link MessageDigest} algorithm.
+     */
+    public @NotNull String getAlgorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * Calculates the digest of the file at the given {@link Path} and compares it to the expected digest.
+     *
+     * @param target The {@link Path} of the file to verify.
+     * @throws ResultException Shall be thrown, should the digest not match, or should calculating it fail.
+     */
+    public void verify(@NotNull Path target) throws ResultException {
+        byte[] digest;
+        try {
+            digest = FileTransferHelper.digest(target, this.algorithm);
+        } catch (IOException ex) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT_DIGEST, ex);
+        }
+        if (!MessageDigest.isEqual(digest, this.expectedDigest)) {
+            throw new ClientResultException(Error.INVALID_DOCUMENT_DIGEST).appendMessage(
+                    this.algorithm + " " + formatHex(digest));
+        }
+    }
+
+    /**
+     * Converts the given hexadecimal string to the represented bytes.
+     *
+     * @param hex The hexadecimal string to convert.
+     * @return The represented bytes.
+     * @throws IllegalArgumentException Shall be thrown, should the given string not be a valid hexadecimal string.
+     */
+    private static byte @NotNull [] parseHex(@NotNull String hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Invalid hexadecimal digest: " + hex);
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int index = 0; index < bytes.length; index++) {
+            int high = Character.digit(hex.charAt(index * 2), 16);
+            int low = Character.digit(hex.charAt(index * 2 + 1), 16);
+            if (high == -1 || low == -1) {
+                throw new IllegalArgumentException("Invalid hexadecimal digest: " + hex);
+            }
+            bytes[index] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+
+    /**
+     * Converts the given bytes to a lower case hexadecimal string.
+     *
+     * @param bytes The bytes to convert.
+     * @return The lower case hexadecimal string.
+     */
+    private static @NotNull String formatHex(byte @NotNull [] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            hex.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+}
@@ -0,0 +1,96 @@
+package net.webpdf.wsclient.session.rest.documents;
+
+import net.webpdf.wsclient.exception.ResultException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+
+/**
+ * An instance of {@link DocumentDownloadResult} reports the outcome of downloading a single {@link RestDocument} as
+ * part of a batch download. It provides the written file and the transfer statistics, or the
+ * {@link ResultException} the download has failed with.
+ */
+public class DocumentDownloadResult {
+
+    private final @NotNull String documentId;
+    private final @Nullable Path target;
+    private final long size;
+    private final long duration;
+    private final @Nullable ResultException exception;
+
+    /**
+     * Creates a {@link DocumentDownloadResult} for the {@link RestDocument} with the given document ID.
+     *
+     * @param documentId The document ID of the downloaded {@link RestDocument}.
+     * @param target     The {@link Path} of the written file, or {@code null}, should no file have been selected.
+     * @param size       The number of bytes written to the file.
+     * @param duration   The duration of the download in milliseconds.
+     * @param exception  The {@link ResultException} the download has failed with, or {@code null}.
+     */
+    DocumentDownloadResult(@NotNull String documentId, @Nullable Path target, long size, long duration,
+            @Nullable ResultException exception) {
+        this.documentId = documentId;
+        this.target = target;
+        this.size = size;
+        this.duration = duration;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the document ID of the downloaded {@link RestDocument}.
+     *
+     * @return The document ID of the downloaded {@link RestDocument}.
+     */
+    public @NotNull String getDocumentId() {
+        return this.documentId;
+    }
+
+    /**
+     * Returns the {@link Path} of the written file, or {@code null}, should no file have been selected for the
+     * {@link RestDocument}.
+     *
+     * @return The {@link Path} of the written file, or {@code null}.
+     */
+    public @Nullable Path getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Returns the number of bytes written to the file.
+     *
+     * @return The number of bytes written to the file.
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the duration of the download in milliseconds.
+     *
+     * @return The duration of the download in milliseconds.
+     */
+    public long getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Returns the {@link ResultException} the download has failed with, or {@code null}, should the download have
+     * succeeded.
+     *
+     * @return The {@link ResultException} the download has failed with, or {@code null}.
+     */
+    public @Nullable ResultException getException() {
+        return this.exception;
+    }
+
+    /**
+     * Returns {@code true}, if the {@link RestDocument} has been downloaded successfully.
+     *
+     * @return {@code true}, if the {@link RestDocument} has been downloaded successfully.
+     */
+    public boolean isSuccessful() {
+        return this.exception == null;
+    }
+
+}
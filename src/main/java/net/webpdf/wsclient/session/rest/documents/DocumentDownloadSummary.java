@@ -0,0 +1,93 @@
+package net.webpdf.wsclient.session.rest.documents;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An instance of {@link DocumentDownloadSummary} aggregates the {@link DocumentDownloadResult}s of a batch download
+ * and provides the overall transfer statistics.
+ */
+public class DocumentDownloadSummary {
+
+    private final @NotNull List<DocumentDownloadResult> results;
+    private final long duration;
+
+    /**
+     * Creates a {@link DocumentDownloadSummary} for the given {@link DocumentDownloadResult}s.
+     *
+     * @param results  The {@link DocumentDownloadResult}s of the batch download.
+     * @param duration The overall duration of the batch download in milliseconds.
+     */
+    DocumentDownloadSummary(@NotNull List<DocumentDownloadResult> results, long duration) {
+        this.results = Collections.unmodifiableList(results);
+        this.duration = duration;
+    }
+
+    /**
+     * Returns the {@link DocumentDownloadResult}s of the batch download, in the order of the requested document IDs.
+     *
+     * @return The {@link DocumentDownloadResult}s of the batch download.
+     */
+    public @NotNull List<DocumentDownloadResult> getResults() {
+        return this.results;
+    }
+
+    /**
+     * Returns the overall duration of the batch download in milliseconds.
+     *
+     * @return The overall duration of the batch download in milliseconds.
+     */
+    public long getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Returns the number of {@link RestDocument}s, that have been downloaded successfully.
+     *
+     * @return The number of {@link RestDocument}s, that have been downloaded successfully.
+     */
+    public int getSuccessCount() {
+        return (int) this.results.stream().filter(DocumentDownloadResult::isSuccessful).count();
+    }
+
+    /**
+     * Returns the number of {@link RestDocument}s, that could not be downloaded.
+     *
+     * @return The number of {@link RestDocument}s, that could not be downloaded.
+     */
+    public int getFailureCount() {
+        return this.results.size() - getSuccessCount();
+    }
+
+    /**
+     * Returns the total number of bytes written by the batch download.
+     *
+     * @return The total number of bytes written by the batch download.
+     */
+    public long getSize() {
+        return this.results.stream().mapToLong(DocumentDownloadResult::getSize).sum();
+    }
+
+    /**
+     * Returns the throughput of the batch download in bytes per second, or 0, should the duration not be measurable.
+     *
+     * @return The throughput of the batch download in bytes per second.
+     */
+    public long getThroughput() {
+        return this.duration > 0 ? getSize() * 1000 / this.duration : 0;
+    }
+
+    /**
+     * Returns a textual representation of this {@link DocumentDownloadSummary}.
+     *
+     * @return A textual representation of this {@link DocumentDownloadSummary}.
+     */
+    @Override
+    public @NotNull String toString() {
+        return "[downloaded: " + getSuccessCount() + "; failed: " + getFailureCount() + "; bytes: " + getSize() +
+                "; duration: " + this.duration + "ms; throughput: " + getThroughput() + " bytes/s]";
+    }
+
+}
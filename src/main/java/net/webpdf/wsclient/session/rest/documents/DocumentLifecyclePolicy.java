@@ -0,0 +1,115 @@
+package net.webpdf.wsclient.session.rest.documents;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * A {@link DocumentLifecyclePolicy} defines, when the {@link RestDocument}s managed by a {@link DocumentManager} shall
+ * be deleted from the webPDF server.
+ * </p>
+ * <p>
+ * Documents selected by the policy are scheduled for deletion and are removed from the {@link DocumentManager}
+ * immediately. The deletion on the webPDF server is executed asynchronously in batches of the configured batch size,
+ * so that the used storage of the session stays flat, without blocking the processing of further documents.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> By default no document is deleted automatically.
+ * </p>
+ */
+public class DocumentLifecyclePolicy {
+
+    private boolean deleteAfterDownload = false;
+    private boolean deleteSourceAfterProcess = false;
+    private long maxAge = -1;
+    private int batchSize = 10;
+
+    /**
+     * Sets whether a {@link RestDocument} shall be deleted, as soon as it has been downloaded successfully.
+     *
+     * @param deleteAfterDownload {@code true}, if downloaded {@link RestDocument}s shall be deleted.
+     * @return This {@link DocumentLifecyclePolicy} itself.
+     */
+    public @NotNull DocumentLifecyclePolicy setDeleteAfterDownload(boolean deleteAfterDownload) {
+        this.deleteAfterDownload = deleteAfterDownload;
+        return this;
+    }
+
+    /**
+     * Returns {@code true}, if a {@link RestDocument} shall be deleted, as soon as it has been downloaded
+     * successfully.
+     *
+     * @return {@code true}, if downloaded {@link RestDocument}s shall be deleted.
+     */
+    public boolean isDeleteAfterDownload() {
+        return deleteAfterDownload;
+    }
+
+    /**
+     * Sets whether the source {@link RestDocument} of a webservice operation shall be deleted, as soon as the
+     * operation has produced a different result {@link RestDocument}.
+     *
+     * @param deleteSourceAfterProcess {@code true}, if processed source {@link RestDocument}s shall be deleted.
+     * @return This {@link DocumentLifecyclePolicy} itself.
+     */
+    public @NotNull DocumentLifecyclePolicy setDeleteSourceAfterProcess(boolean deleteSourceAfterProcess) {
+        this.deleteSourceAfterProcess = deleteSourceAfterProcess;
+        return this;
+    }
+
+    /**
+     * Returns {@code true}, if the source {@link RestDocument} of a webservice operation shall be deleted, as soon as
+     * the operation has produced a different result {@link RestDocument}.
+     *
+     * @return {@code true}, if processed source {@link RestDocument}s shall be deleted.
+     */
+    public boolean isDeleteSourceAfterProcess() {
+        return deleteSourceAfterProcess;
+    }
+
+    /**
+     * Sets the maximum age (in milliseconds) a {@link RestDocument} may reach, after it has been added to the
+     * {@link DocumentManager}, before it shall be deleted.<br>
+     * A value lower than 1 shall not limit the age of {@link RestDocument}s.
+     *
+     * @param maxAge The maximum age of {@link RestDocument}s in milliseconds.
+     * @return This {@link DocumentLifecyclePolicy} itself.
+     */
+    public @NotNull DocumentLifecyclePolicy setMaxAge(long maxAge) {
+        this.maxAge = maxAge;
+        return this;
+    }
+
+    /**
+     * Returns the maximum age (in milliseconds) a {@link RestDocument} may reach, after it has been added to the
+     * {@link DocumentManager}, before it shall be deleted.<br>
+     * A value lower than 1 shall not limit the age of {@link RestDocument}s.
+     *
+     * @return The maximum age of {@link RestDocument}s in milliseconds.
+     */
+    public long getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Sets the maximum number of deletion requests, that shall be sent to the webPDF server concurrently. The next
+     * batch is only sent, when the previous batch has been completed.<br>
+     * The batch size can not be set to a value lower than 1.
+     *
+     * @param batchSize The maximum number of concurrent deletion requests.
+     * @return This {@link DocumentLifecyclePolicy} itself.
+     */
+    public @NotNull DocumentLifecyclePolicy setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of deletion requests, that shall be sent to the webPDF server concurrently.
+     *
+     * @return The maximum number of concurrent deletion requests.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+}
@@ -9,13 +9,21 @@ import net.webpdf.wsclient.openapi.DocumentFile;
 import net.webpdf.wsclient.schema.beans.HistoryEntry;
 import net.webpdf.wsclient.schema.operation.PdfPasswordType;
 import net.webpdf.wsclient.session.rest.RestSession;
+import net.webpdf.wsclient.session.rest.documents.registry.BoundedDocumentRegistry;
+import net.webpdf.wsclient.session.rest.documents.registry.DocumentRegistry;
+import net.webpdf.wsclient.session.rest.documents.registry.DocumentRegistryStatistics;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * A class implementing {@link DocumentManager} allows to monitor and interact with the {@link RestDocument}s uploaded
@@ -62,6 +70,32 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
     @SuppressWarnings("unused")
     @NotNull List<T_REST_DOCUMENT> synchronize() throws ResultException;
 
+    /**
+     * <p>
+     * Synchronizes the {@link RestDocument}s of this {@link DocumentManager} with the given fileList and reports the
+     * applied changes.
+     * </p>
+     * <p>
+     * Only {@link RestDocument}s, that are new or whose {@link DocumentFile} has changed, are synchronized with the
+     * webPDF server. {@link RestDocument}s, that are not contained in the given fileList, are removed.
+     * </p>
+     *
+     * @param fileList A {@link DocumentFile} list to sync this {@link DocumentManager} with
+     * @return The {@link DocumentSynchronization} reporting the added, removed and changed {@link RestDocument}s.
+     * @throws ResultException Shall be thrown upon a synchronization failure.
+     */
+    @NotNull DocumentSynchronization<T_REST_DOCUMENT> synchronizeChanges(@NotNull List<DocumentFile> fileList)
+            throws ResultException;
+
+    /**
+     * Synchronizes the {@link RestDocument}s of this {@link DocumentManager} with the actually uploaded documents of
+     * the webPDF server and reports the applied changes.
+     *
+     * @return The {@link DocumentSynchronization} reporting the added, removed and changed {@link RestDocument}s.
+     * @throws ResultException Shall be thrown upon a synchronization failure.
+     */
+    @NotNull DocumentSynchronization<T_REST_DOCUMENT> synchronizeChanges() throws ResultException;
+
     /**
      * Returns the document ID the given {@link DocumentFile} is known by to this {@link DocumentManager}.
      *
@@ -104,6 +138,92 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
      */
     void downloadDocument(@NotNull String documentId, @NotNull OutputStream outputStream) throws ResultException;
 
+    /**
+     * <p>
+     * Downloads the {@link RestDocument} with the given document ID and writes it to the file at the given
+     * {@link Path}. An existing file shall be overwritten.
+     * </p>
+     * <p>
+     * The document is written via a {@link java.nio.channels.FileChannel}, without passing it through an intermediate
+     * {@link OutputStream}.
+     * </p>
+     *
+     * @param documentId The document ID of the {@link RestDocument} to download.
+     * @param target     The {@link Path} of the file to write the downloaded {@link RestDocument} to.
+     * @throws ResultException Shall be thrown, should the download have failed.
+     */
+    void downloadDocument(@NotNull String documentId, @NotNull Path target) throws ResultException;
+
+    /**
+     * <p>
+     * Downloads the {@link RestDocument} with the given document ID and writes it to the file at the given
+     * {@link Path}. An existing file shall be overwritten.
+     * </p>
+     * <p>
+     * The size of the {@link RestDocument} is requested first. The {@link RestDocument} is then split into up to the
+     * given number of byte ranges, which are downloaded concurrently and written to their positions in the file.
+     * Should requesting the size fail, should the webPDF server not announce the size of the {@link RestDocument} or
+     * its support of byte ranges, or should the {@link RestDocument} be too small to be split, it shall be downloaded
+     * using a single request instead.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The number of concurrent requests is also limited by the connections per route, that are
+     * configured for the connection pool of the {@link RestSession}.
+     * </p>
+     *
+     * @param documentId  The document ID of the {@link RestDocument} to download.
+     * @param target      The {@link Path} of the file to write the downloaded {@link RestDocument} to.
+     * @param parallelism The maximum number of byte ranges, that shall be downloaded concurrently.
+     * @throws ResultException Shall be thrown, should the download have failed.
+     */
+    void downloadDocument(@NotNull String documentId, @NotNull Path target, int parallelism) throws ResultException;
+
+    /**
+     * <p>
+     * Downloads the {@link RestDocument} with the given document ID to the file at the given {@link Path}, continuing
+     * a previously interrupted download of the same {@link RestDocument} to the same file.
+     * </p>
+     * <p>
+     * The progress of the download is recorded in a checkpoint file next to the target file. Should a matching
+     * checkpoint exist, the download shall be continued at the recorded offset via a byte range request. Should the
+     * webPDF server not support byte ranges, the download shall be restarted. The checkpoint is removed, as soon as
+     * the download has been completed.
+     * </p>
+     * <p>
+     * Should a {@link DigestVerification} be given, the digest of the completed file shall be verified. Should the
+     * digest not match, the checkpoint is removed, so that the next attempt restarts the download.
+     * </p>
+     *
+     * @param documentId   The document ID of the {@link RestDocument} to download.
+     * @param target       The {@link Path} of the file to write the downloaded {@link RestDocument} to.
+     * @param verification The {@link DigestVerification} to verify the completed file with, or {@code null}.
+     * @throws ResultException Shall be thrown, should the download or the verification have failed.
+     */
+    void downloadDocumentResumable(@NotNull String documentId, @NotNull Path target,
+            @Nullable DigestVerification verification) throws ResultException;
+
+    /**
+     * <p>
+     * Downloads the {@link RestDocument}s with the given document IDs to the given target directory, with up to the
+     * given number of downloads in progress at the same time.
+     * </p>
+     * <p>
+     * Each {@link RestDocument} is written via a {@link java.nio.channels.FileChannel} to a file, that is named after
+     * the file name and extension of its {@link DocumentFile}, extended by its document ID to keep the names unique.
+     * Existing files shall be overwritten. A failed download does not cancel the remaining downloads, but is reported
+     * by its {@link DocumentDownloadResult}. The partially written file of a failed download is removed. A document ID
+     * given repeatedly is only downloaded once.
+     * </p>
+     *
+     * @param documentIds     The document IDs of the {@link RestDocument}s to download.
+     * @param targetDirectory The {@link Path} of the directory to write the downloaded {@link RestDocument}s to.
+     * @param parallelism     The maximum number of downloads, that shall be in progress at the same time.
+     * @return The {@link DocumentDownloadSummary} reporting the outcome and the timing of each download.
+     * @throws ResultException Shall be thrown, should the target directory not be accessible.
+     */
+    @NotNull DocumentDownloadSummary downloadDocuments(@NotNull Collection<String> documentIds,
+            @NotNull Path targetDirectory, int parallelism) throws ResultException;
+
     /**
      * Downloads the {@link RestDocument} and writes it to the given {@link OutputStream}.
      *
@@ -124,6 +244,22 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
      */
     @NotNull T_REST_DOCUMENT uploadDocument(@NotNull File file) throws ResultException;
 
+    /**
+     * <p>
+     * Uploads the file at the given {@link Path} to the webPDF server, adds it to this {@link DocumentManager} and
+     * returns the resulting {@link RestDocument} handle.
+     * </p>
+     * <p>
+     * The file is streamed to the webPDF server and the size of the request is announced up front via the
+     * Content-Length header, which allows the webPDF server to reject uploads exceeding its limits early.
+     * </p>
+     *
+     * @param path The {@link Path} of the file to upload.
+     * @return The resulting {@link RestDocument} handle.
+     * @throws ResultException Shall be thrown, should the upload have failed.
+     */
+    @NotNull T_REST_DOCUMENT uploadDocument(@NotNull Path path) throws ResultException;
+
     /**
      * Uploads the given {@link InputStream} to the webPDF server as a document resource with the given file name, adds
      * it to this {@link DocumentManager} and returns the resulting {@link RestDocument} handle.
@@ -135,6 +271,115 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
      */
     @NotNull T_REST_DOCUMENT uploadDocument(@NotNull InputStream data, @NotNull String fileName) throws ResultException;
 
+    /**
+     * <p>
+     * Asynchronously downloads the {@link RestDocument} with the given document ID and writes it to the given
+     * {@link OutputStream}.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The given {@link OutputStream} must not be closed, before the returned
+     * {@link CompletableFuture} is completed. Should the download fail, the returned {@link CompletableFuture} shall
+     * be completed exceptionally with a {@link ResultException}.
+     * </p>
+     *
+     * @param documentId   The document ID of the {@link RestDocument} to download.
+     * @param outputStream The {@link OutputStream} to write the downloaded {@link RestDocument} to.
+     * @return A {@link CompletableFuture}, that is completed, when the download has finished.
+     */
+    @NotNull CompletableFuture<Void> downloadDocumentAsync(@NotNull String documentId,
+            @NotNull OutputStream outputStream);
+
+    /**
+     * <p>
+     * Asynchronously uploads the given {@link File} to the webPDF server, adds it to this {@link DocumentManager} and
+     * provides the resulting {@link RestDocument} handle.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Should the upload fail, the returned {@link CompletableFuture} shall be completed
+     * exceptionally with a {@link ResultException}.
+     * </p>
+     *
+     * @param file The {@link File} to upload.
+     * @return A {@link CompletableFuture} providing the resulting {@link RestDocument} handle.
+     */
+    @NotNull CompletableFuture<T_REST_DOCUMENT> uploadDocumentAsync(@NotNull File file);
+
+    /**
+     * <p>
+     * Asynchronously uploads the given files to the webPDF server and adds them to this {@link DocumentManager}, with
+     * up to the given number of uploads in progress at the same time.
+     * </p>
+     * <p>
+     * The returned {@link CompletableFuture} provides a {@link DocumentUploadResult} for each file, in order of their
+     * completion. A failed upload does not cancel the remaining uploads, but is reported by its
+     * {@link DocumentUploadResult}. Files exceeding the maximum number of files or the upload limit of the user are
+     * not uploaded and are reported as failed. Should the limits of the user not be requestable, no file is uploaded
+     * and the returned {@link CompletableFuture} is completed exceptionally.
+     * </p>
+     *
+     * @param sources     The {@link Path}s of the files to upload.
+     * @param parallelism The maximum number of uploads, that shall be in progress at the same time.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of all files.
+     */
+    @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> uploadDocuments(
+            @NotNull Collection<Path> sources, int parallelism);
+
+    /**
+     * <p>
+     * Asynchronously uploads the files provided by the given {@link Stream} to the webPDF server and adds them to this
+     * {@link DocumentManager}, with up to the given number of uploads in progress at the same time.
+     * </p>
+     * <p>
+     * The {@link Stream} is consumed lazily, the next file is only requested, when an upload has been completed. The
+     * given resultListener is notified about the {@link DocumentUploadResult} of each file, as soon as it is
+     * available. A failed upload does not cancel the remaining uploads, but is reported by its
+     * {@link DocumentUploadResult}. Files exceeding the maximum number of files or the upload limit of the user are
+     * not uploaded and are reported as failed. The remaining number of files is determined by the documents stored on
+     * the webPDF server. Should the limits of the user not be requestable, no file is uploaded and the returned
+     * {@link CompletableFuture} is completed exceptionally.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The resultListener is called concurrently by the threads completing the uploads.
+     * </p>
+     *
+     * @param sources        The {@link Stream} providing the {@link Path}s of the files to upload.
+     * @param parallelism    The maximum number of uploads, that shall be in progress at the same time.
+     * @param resultListener The {@link Consumer} to notify about each {@link DocumentUploadResult}, or {@code null}.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of all files.
+     */
+    @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> uploadDocuments(
+            @NotNull Stream<Path> sources, int parallelism,
+            @Nullable Consumer<DocumentUploadResult<T_REST_DOCUMENT>> resultListener);
+
+    /**
+     * <p>
+     * Asynchronously uploads the given files to the webPDF server and adds them to this {@link DocumentManager}, with
+     * up to the given number of uploads in progress at the same time.
+     * </p>
+     * <p>
+     * Files, that are not larger than the given archiveThreshold, are not uploaded one by one. They are packed into
+     * ZIP archives on the fly instead, which are uploaded and extracted by the webPDF server. The extracted
+     * {@link RestDocument}s are mapped back to the files by their names, the archives themselves are deleted. Larger
+     * files are uploaded one by one. Each archive occupies a single upload and is uploaded, as soon as it is full, while
+     * the remaining files are still being uploaded.
+     * </p>
+     * <p>
+     * The returned {@link CompletableFuture} provides a {@link DocumentUploadResult} for each file. A failed upload
+     * does not cancel the remaining uploads, but is reported by its {@link DocumentUploadResult}. Files exceeding the
+     * maximum number of files or the upload limit of the user are not uploaded and are reported as failed. Should the
+     * limits of the user not be requestable, no file is uploaded and the returned {@link CompletableFuture} is
+     * completed exceptionally.
+     * </p>
+     *
+     * @param sources          The {@link Path}s of the files to upload.
+     * @param parallelism      The maximum number of uploads, that shall be in progress at the same time.
+     * @param archiveThreshold The maximum size of a file in bytes, that shall be uploaded as part of an archive. A
+     *                         value lower than 1 disables the archive upload.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of all files.
+     */
+    @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> uploadDocuments(
+            @NotNull Collection<Path> sources, int parallelism, long archiveThreshold);
+
     /**
      * Deletes the {@link RestDocument} with the given document ID from the webPDF server.
      *
@@ -153,6 +398,108 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
      */
     @NotNull T_REST_DOCUMENT renameDocument(@NotNull String documentId, @NotNull String fileName) throws ResultException;
 
+    /**
+     * Returns the {@link SynchronizationMode} used to synchronize the managed {@link RestDocument}s with the
+     * {@link DocumentFile}s returned by the webPDF server.
+     *
+     * @return The {@link SynchronizationMode} used to synchronize the managed {@link RestDocument}s.
+     */
+    @NotNull SynchronizationMode getSynchronizationMode();
+
+    /**
+     * <p>
+     * Sets the {@link SynchronizationMode} used to synchronize the managed {@link RestDocument}s with the
+     * {@link DocumentFile}s returned by the webPDF server.
+     * </p>
+     * <p>
+     * Using {@link SynchronizationMode#TRUST_RESPONSE} saves the additional requests for the document info and the
+     * document history, that are otherwise sent after each upload or operation.
+     * </p>
+     *
+     * @param synchronizationMode The {@link SynchronizationMode} to use.
+     */
+    void setSynchronizationMode(@NotNull SynchronizationMode synchronizationMode);
+
+    /**
+     * Returns the {@link DocumentRegistry} storing the {@link RestDocument}s managed by this {@link DocumentManager}.
+     *
+     * @return The {@link DocumentRegistry} storing the managed {@link RestDocument}s.
+     */
+    @NotNull DocumentRegistry<T_REST_DOCUMENT> getDocumentRegistry();
+
+    /**
+     * <p>
+     * Sets the {@link DocumentRegistry} storing the {@link RestDocument}s managed by this {@link DocumentManager}. The
+     * currently managed {@link RestDocument}s are transferred to the given {@link DocumentRegistry}.
+     * </p>
+     * <p>
+     * Use a {@link BoundedDocumentRegistry} to limit the number of managed {@link RestDocument}s for long-running
+     * sessions.
+     * </p>
+     *
+     * @param documentRegistry The {@link DocumentRegistry} to store the managed {@link RestDocument}s in.
+     */
+    void setDocumentRegistry(@NotNull DocumentRegistry<T_REST_DOCUMENT> documentRegistry);
+
+    /**
+     * Returns a snapshot of the current {@link DocumentRegistryStatistics} of the {@link DocumentRegistry} used by
+     * this {@link DocumentManager}.
+     *
+     * @return The current {@link DocumentRegistryStatistics}.
+     */
+    @SuppressWarnings("unused")
+    @NotNull DocumentRegistryStatistics getDocumentRegistryStatistics();
+
+    /**
+     * Returns the {@link DocumentLifecyclePolicy} defining, when managed {@link RestDocument}s shall be deleted from
+     * the webPDF server.
+     *
+     * @return The {@link DocumentLifecyclePolicy} of this {@link DocumentManager}.
+     */
+    @NotNull DocumentLifecyclePolicy getLifecyclePolicy();
+
+    /**
+     * Sets the {@link DocumentLifecyclePolicy} defining, when managed {@link RestDocument}s shall be deleted from the
+     * webPDF server.
+     *
+     * @param lifecyclePolicy The {@link DocumentLifecyclePolicy} to apply.
+     */
+    void setLifecyclePolicy(@NotNull DocumentLifecyclePolicy lifecyclePolicy);
+
+    /**
+     * <p>
+     * Schedules the {@link RestDocument} with the given document ID for deletion and removes it from this
+     * {@link DocumentManager}. The deletion on the webPDF server is executed asynchronously in batches of the
+     * {@link DocumentLifecyclePolicy#getBatchSize()}.
+     * </p>
+     * <p>
+     * Should the {@link RestDocument} not be managed by this {@link DocumentManager}, it shall not be scheduled.
+     * </p>
+     *
+     * @param documentId The document ID of the {@link RestDocument} to delete.
+     * @return {@code true}, if the {@link RestDocument} has been scheduled for deletion.
+     */
+    boolean scheduleDeletion(@NotNull String documentId);
+
+    /**
+     * Schedules all {@link RestDocument}s, that exceed the {@link DocumentLifecyclePolicy#getMaxAge()}, for deletion
+     * and returns a {@link CompletableFuture}, that is completed, when all scheduled deletions have been executed.
+     * This includes deletions, that are scheduled while the cleanup is in progress. Failed deletions are not retried,
+     * but are reported via the {@link DocumentRegistryStatistics#getServerDeletionFailureCount()}.
+     *
+     * @return A {@link CompletableFuture}, that is completed, when all scheduled deletions have been executed.
+     */
+    @NotNull CompletableFuture<Void> cleanup();
+
+    /**
+     * Returns the number of {@link RestDocument}s, that are scheduled for deletion, but have not yet been deleted on
+     * the webPDF server, including the deletions currently in progress.
+     *
+     * @return The number of pending deletions.
+     */
+    @SuppressWarnings("unused")
+    int getPendingDeletionCount();
+
     /**
      * Checks whether a document history is collected for managed {@link RestDocument}s.
      *
@@ -161,12 +508,34 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
     boolean isDocumentHistoryActive();
 
     /**
+     * <p>
      * Sets whether a document history shall be collected for managed {@link RestDocument}s.
+     * </p>
+     * <p>
+     * The document history of the currently managed {@link RestDocument}s is requested lazily, when it is read for
+     * the first time.
+     * </p>
      *
      * @param documentHistoryActive {@code true} should collecting the document history be activated.
      */
     void setDocumentHistoryActive(boolean documentHistoryActive) throws ResultException;
 
+    /**
+     * <p>
+     * Sets whether a document history shall be collected for managed {@link RestDocument}s.
+     * </p>
+     * <p>
+     * Should collecting the document history be activated, the document history of the currently managed
+     * {@link RestDocument}s is requested eagerly, with up to the given number of concurrent requests.
+     * </p>
+     *
+     * @param documentHistoryActive {@code true} should collecting the document history be activated.
+     * @param parallelism           The maximum number of document histories, that shall be requested concurrently.
+     * @throws ResultException Shall be thrown, should requesting a document history have failed.
+     */
+    @SuppressWarnings("unused")
+    void setDocumentHistoryActive(boolean documentHistoryActive, int parallelism) throws ResultException;
+
     /**
      * Returns the {@link HistoryEntry}s known for the {@link RestDocument} with the given document ID.
      *
@@ -224,6 +593,28 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
             @NotNull String documentId, @NotNull DocumentInfoType infoType
     ) throws ResultException;
 
+    /**
+     * <p>
+     * Synchronizes the given {@link DocumentFile}s with the matching {@link RestDocument}s managed by this
+     * {@link DocumentManager}, with up to the given number of synchronizations in progress at the same time.
+     * </p>
+     * <p>
+     * The synchronizations are executed asynchronously via the {@link RestSession#getExecutor()}, so that they
+     * neither occupy the common pool, nor starve, should the caller wait for them. The returned {@link Stream}
+     * provides a {@link CompletableFuture} for each {@link DocumentFile} in the given order, that is completed, as
+     * soon as the {@link RestDocument} has been synchronized, so that processing the first {@link RestDocument}s may
+     * start, while later {@link RestDocument}s are still being synchronized. A failed synchronization does not
+     * cancel the remaining synchronizations, its {@link CompletableFuture} shall be completed exceptionally with a
+     * {@link ResultException}.
+     * </p>
+     *
+     * @param documentFiles The {@link DocumentFile}s to synchronize.
+     * @param parallelism   The maximum number of synchronizations, that shall be in progress at the same time.
+     * @return A {@link Stream} of {@link CompletableFuture}s providing the synchronized {@link RestDocument}s.
+     */
+    @NotNull Stream<CompletableFuture<T_REST_DOCUMENT>> synchronizeDocuments(
+            @NotNull List<DocumentFile> documentFiles, int parallelism);
+
     /**
      * <p>
      * Extracts the {@link RestDocument} with the given document ID in the document storage.
@@ -233,6 +624,11 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
      * <li>Each newly created DocumentFile holds as parentDocumentId the documentId of the archive.</li>
      * </ul>
      * </p>
+     * <p>
+     * The extracted {@link RestDocument}s are synchronized concurrently. The calling thread takes part in the
+     * synchronization, so that this may also be called by a task executed via the {@link RestSession#getExecutor()},
+     * without waiting for that executor to become available.
+     * </p>
      *
      * @param documentId  The document ID of the {@link RestDocument} to extract.
      * @param fileExtract {@link DocumentFileExtract} settings for unpacking the archive document.
@@ -243,6 +639,27 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
             @NotNull String documentId, @NotNull DocumentFileExtract fileExtract
     ) throws ResultException;
 
+    /**
+     * <p>
+     * Extracts the {@link RestDocument} with the given document ID in the document storage and synchronizes the
+     * extracted {@link RestDocument}s with up to the given number of synchronizations in progress at the same time.
+     * </p>
+     * <p>
+     * The returned {@link Stream} provides a {@link CompletableFuture} for each extracted {@link RestDocument}, that
+     * is completed, as soon as the {@link RestDocument} has been synchronized. See
+     * {@link #synchronizeDocuments(List, int)} for details.
+     * </p>
+     *
+     * @param documentId  The document ID of the {@link RestDocument} to extract.
+     * @param fileExtract {@link DocumentFileExtract} settings for unpacking the archive document.
+     * @param parallelism The maximum number of synchronizations, that shall be in progress at the same time.
+     * @return A {@link Stream} of {@link CompletableFuture}s providing the extracted {@link RestDocument}s.
+     * @throws ResultException Shall be thrown, should the extraction have failed.
+     */
+    @NotNull Stream<CompletableFuture<T_REST_DOCUMENT>> extractDocument(
+            @NotNull String documentId, @NotNull DocumentFileExtract fileExtract, int parallelism
+    ) throws ResultException;
+
     /**
      * Extracts and downloads the given archive path in the {@link RestDocument} with the given document ID and
      * returns it as {@link OutputStream}.
@@ -256,6 +673,26 @@ public interface DocumentManager<T_REST_DOCUMENT extends RestDocument> {
             @NotNull String documentId, @NotNull String archivePath, @NotNull OutputStream outputStream
     ) throws ResultException;
 
+    /**
+     * <p>
+     * Extracts and downloads the given archive path in the {@link RestDocument} with the given document ID to the file
+     * at the given {@link Path}, continuing a previously interrupted download of the same archive file to the same
+     * file.
+     * </p>
+     * <p>
+     * The progress is recorded and the completed file is verified, as described for
+     * {@link #downloadDocumentResumable(String, Path, DigestVerification)}.
+     * </p>
+     *
+     * @param documentId   The document ID of the {@link RestDocument} to extract and download from.
+     * @param archivePath  The path of the file to extract in the given archive.
+     * @param target       The {@link Path} of the file to write the extracted archive file to.
+     * @param verification The {@link DigestVerification} to verify the completed file with, or {@code null}.
+     * @throws ResultException Shall be thrown, should the download or the verification have failed.
+     */
+    void extractArchiveFileResumable(@NotNull String documentId, @NotNull String archivePath, @NotNull Path target,
+            @Nullable DigestVerification verification) throws ResultException;
+
     /**
      * <p>
      * Compresses a list of {@link RestDocument}s selected by documentId or file filter into a new archive document
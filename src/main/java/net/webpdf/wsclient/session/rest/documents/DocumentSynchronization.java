@@ -0,0 +1,84 @@
+package net.webpdf.wsclient.session.rest.documents;
+
+import net.webpdf.wsclient.openapi.DocumentFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An instance of {@link DocumentSynchronization} reports the changes a {@link DocumentManager} has applied to its
+ * managed {@link RestDocument}s, while synchronizing them with a list of {@link DocumentFile}s.
+ *
+ * @param <T_REST_DOCUMENT> The {@link RestDocument} type managed by the {@link DocumentManager}.
+ */
+public class DocumentSynchronization<T_REST_DOCUMENT extends RestDocument> {
+
+    private final @NotNull List<T_REST_DOCUMENT> added;
+    private final @NotNull List<T_REST_DOCUMENT> removed;
+    private final @NotNull List<T_REST_DOCUMENT> changed;
+    private final @NotNull List<T_REST_DOCUMENT> documents;
+
+    /**
+     * Creates a {@link DocumentSynchronization} reporting the given changes.
+     *
+     * @param added     The {@link RestDocument}s, that have been added.
+     * @param removed   The {@link RestDocument}s, that have been removed.
+     * @param changed   The {@link RestDocument}s, whose {@link DocumentFile} has changed.
+     * @param documents All {@link RestDocument}s managed after the synchronization.
+     */
+    DocumentSynchronization(@NotNull List<T_REST_DOCUMENT> added, @NotNull List<T_REST_DOCUMENT> removed,
+            @NotNull List<T_REST_DOCUMENT> changed, @NotNull List<T_REST_DOCUMENT> documents) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changed = Collections.unmodifiableList(changed);
+        this.documents = Collections.unmodifiableList(documents);
+    }
+
+    /**
+     * Returns the {@link RestDocument}s, that have been added to the {@link DocumentManager}.
+     *
+     * @return The {@link RestDocument}s, that have been added to the {@link DocumentManager}.
+     */
+    public @NotNull List<T_REST_DOCUMENT> getAdded() {
+        return this.added;
+    }
+
+    /**
+     * Returns the {@link RestDocument}s, that have been removed from the {@link DocumentManager}, as they are no
+     * longer known to the webPDF server.
+     *
+     * @return The {@link RestDocument}s, that have been removed from the {@link DocumentManager}.
+     */
+    public @NotNull List<T_REST_DOCUMENT> getRemoved() {
+        return this.removed;
+    }
+
+    /**
+     * Returns the {@link RestDocument}s, whose {@link DocumentFile} has changed.
+     *
+     * @return The {@link RestDocument}s, whose {@link DocumentFile} has changed.
+     */
+    public @NotNull List<T_REST_DOCUMENT> getChanged() {
+        return this.changed;
+    }
+
+    /**
+     * Returns all {@link RestDocument}s managed by the {@link DocumentManager} after the synchronization.
+     *
+     * @return All {@link RestDocument}s managed by the {@link DocumentManager} after the synchronization.
+     */
+    public @NotNull List<T_REST_DOCUMENT> getDocuments() {
+        return this.documents;
+    }
+
+    /**
+     * Returns {@code true}, if the synchronization neither added, removed nor changed a {@link RestDocument}.
+     *
+     * @return {@code true}, if the synchronization neither added, removed nor changed a {@link RestDocument}.
+     */
+    public boolean isUnchanged() {
+        return this.added.isEmpty() && this.removed.isEmpty() && this.changed.isEmpty();
+    }
+
+}
@@ -0,0 +1,293 @@
+package net.webpdf.wsclient.session.rest.documents;
+
+import net.webpdf.wsclient.exception.ClientResultException;
+import net.webpdf.wsclient.exception.Error;
+import net.webpdf.wsclient.exception.ResultException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A {@link DocumentUploadBatch} uploads the files provided by an {@link Iterator} via an
+ * {@link AbstractDocumentManager}, while keeping up to a given number of uploads in progress.
+ * </p>
+ * <p>
+ * The next file is only requested from the {@link Iterator}, when an upload has been completed, so that arbitrarily
+ * large batches can be uploaded without collecting them in memory first. Files exceeding the given limits are not
+ * uploaded, but are reported as failed.
+ * </p>
+ * <p>
+ * Files, that are not larger than the archive threshold, are collected in ZIP archives, which occupy a single upload
+ * of the batch each. An archive is uploaded, as soon as it is full, or when no further file is available. An archive
+ * containing a single file only is uploaded as a separate file instead.
+ * </p>
+ *
+ * @param <T_REST_DOCUMENT> The {@link RestDocument} type managed by the {@link AbstractDocumentManager}.
+ */
+class DocumentUploadBatch<T_REST_DOCUMENT extends RestDocument> {
+
+    private static final int MAX_ARCHIVE_ENTRIES = 500;
+    private static final long MAX_ARCHIVE_SIZE = 64L * 1024 * 1024;
+    private final @NotNull AbstractDocumentManager<T_REST_DOCUMENT> documentManager;
+    private final @NotNull Iterator<Path> sources;
+    private final @Nullable Consumer<DocumentUploadResult<T_REST_DOCUMENT>> resultListener;
+    private final @NotNull List<DocumentUploadResult<T_REST_DOCUMENT>> results = new ArrayList<>();
+    private final @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> completion =
+            new CompletableFuture<>();
+    private final long uploadLimit;
+    private final long archiveThreshold;
+    private final long maxArchiveSize;
+    private @NotNull Map<String, Path> archive = new LinkedHashMap<>();
+    private long archiveSize = 0;
+    private int remainingFiles;
+    private int runningUploads = 0;
+
+    /**
+     * Creates a {@link DocumentUploadBatch} uploading the files provided by the given {@link Iterator}.
+     *
+     * @param documentManager  The {@link AbstractDocumentManager} to upload the files with.
+     * @param sources          The {@link Iterator} providing the {@link Path}s of the files to upload.
+     * @param maxFiles         The maximum number of files, that may be uploaded, or a value lower than 0, if the
+     *                         number of files shall not be limited.
+     * @param uploadLimit      The maximum size of a single file in bytes, or a value lower than 1, if the size shall
+     *                         not be limited.
+     * @param archiveThreshold The maximum size of a file in bytes, that shall be uploaded as part of an archive. A
+     *                         value lower than 1 disables the archive upload.
+     * @param resultListener   The {@link Consumer} to notify about each {@link DocumentUploadResult}, or
+     *                         {@code null}.
+     */
+    DocumentUploadBatch(@NotNull AbstractDocumentManager<T_REST_DOCUMENT> documentManager,
+            @NotNull Iterator<Path> sources, int maxFiles, long uploadLimit, long archiveThreshold,
+            @Nullable Consumer<DocumentUploadResult<T_REST_DOCUMENT>> resultListener) {
+        this.documentManager = documentManager;
+        this.sources = sources;
+        this.remainingFiles = maxFiles;
+        this.uploadLimit = uploadLimit;
+        this.archiveThreshold = archiveThreshold;
+        this.maxArchiveSize = uploadLimit > 0 ? Math.min(MAX_ARCHIVE_SIZE, uploadLimit) : MAX_ARCHIVE_SIZE;
+        this.resultListener = resultListener;
+    }
+
+    /**
+     * Starts up to the given number of uploads and returns a {@link CompletableFuture}, that provides the
+     * {@link DocumentUploadResult}s in order of their completion, when all files have been processed.
+     *
+     * @param parallelism The maximum number of uploads, that shall be in progress at the same time.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of all files.
+     */
+    @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> start(int parallelism) {
+        for (int upload = 0; upload < Math.max(1, parallelism); upload++) {
+            uploadNext();
+        }
+        return this.completion;
+    }
+
+    /**
+     * Starts the next upload, which is either a separate file or a full archive. Files exceeding the limits are
+     * reported as failed and are skipped. Should no further file be available and no upload be in progress, the batch
+     * is completed.
+     */
+    private void uploadNext() {
+        while (true) {
+            Map<String, Path> entries;
+            DocumentUploadResult<T_REST_DOCUMENT> rejection = null;
+            synchronized (this) {
+                if (this.completion.isDone()) {
+                    return;
+                }
+                try {
+                    if (!this.sources.hasNext()) {
+                        entries = takeArchive();
+                        if (entries == null) {
+                            if (this.runningUploads == 0) {
+                                this.completion.complete(
+                                        Collections.unmodifiableList(new ArrayList<>(this.results)));
+                            }
+                            return;
+                        }
+                    } else {
+                        Path source = this.sources.next();
+                        long size = getSize(source);
+                        ResultException exception = checkLimits(source, size);
+                        if (exception != null) {
+                            rejection = new DocumentUploadResult<>(source, null, exception);
+                            this.results.add(rejection);
+                        }
+                        entries = exception != null ? null : collect(source, size);
+                    }
+                } catch (RuntimeException ex) {
+                    // the remaining files can not be determined, should iterating the sources fail.
+                    this.completion.completeExceptionally(
+                            new ClientResultException(Error.INVALID_SOURCE_DOCUMENT, ex));
+                    return;
+                }
+                if (entries != null) {
+                    this.runningUploads++;
+                }
+            }
+
+            if (rejection != null) {
+                notifyListener(rejection);
+            }
+            if (entries == null) {
+                continue;
+            }
+
+            // the completion is handled asynchronously, so that neither the I/O threads are blocked by the listener,
+            // nor the stack grows with uploads, that fail immediately.
+            upload(entries).whenCompleteAsync((uploadResults, ex) -> {
+                synchronized (this) {
+                    this.runningUploads--;
+                    this.results.addAll(uploadResults);
+                }
+                try {
+                    uploadResults.forEach(this::notifyListener);
+                } finally {
+                    uploadNext();
+                }
+            }, this.documentManager.getSession().getExecutor());
+            return;
+        }
+    }
+
+    /**
+     * Collects the given file for the next upload. A file, that is larger than the archive threshold, is uploaded
+     * separately. Otherwise, the file is added to the current archive, which is returned for upload, should the file
+     * not fit into it.
+     *
+     * @param source The {@link Path} of the file to collect.
+     * @param size   The size of the file in bytes.
+     * @return The {@link Path}s of the files to upload now, mapped to their archive entry names, or {@code null}, if
+     * the file has been added to the current archive.
+     */
+    private @Nullable Map<String, Path> collect(@NotNull Path source, long size) {
+        Path entryName = source.getFileName();
+        if (this.archiveThreshold < 1 || size > this.archiveThreshold || entryName == null) {
+            return Collections.singletonMap(source.toString(), source);
+        }
+
+        Map<String, Path> upload = null;
+        // the extracted documents are identified by their names, which must therefore be unique per archive.
+        if (this.archive.size() >= MAX_ARCHIVE_ENTRIES || this.archiveSize + size > this.maxArchiveSize ||
+                this.archive.containsKey(entryName.toString())) {
+            upload = takeArchive();
+        }
+        this.archive.put(entryName.toString(), source);
+        this.archiveSize += size;
+        return upload;
+    }
+
+    /**
+     * Removes the current archive, so that it can be uploaded, and starts a new one.
+     *
+     * @return The {@link Path}s of the archived files, mapped to their archive entry names, or {@code null}, if the
+     * current archive is empty.
+     */
+    private @Nullable Map<String, Path> takeArchive() {
+        if (this.archive.isEmpty()) {
+            return null;
+        }
+        Map<String, Path> upload = this.archive;
+        this.archive = new LinkedHashMap<>();
+        this.archiveSize = 0;
+        return upload;
+    }
+
+    /**
+     * Uploads the given files. A single file is uploaded separately, multiple files are uploaded as an archive. The
+     * returned {@link CompletableFuture} is never completed exceptionally, but reports a failure via the provided
+     * {@link DocumentUploadResult}s.
+     *
+     * @param entries The {@link Path}s of the files to upload, mapped to their archive entry names.
+     * @return A {@link CompletableFuture} providing the {@link DocumentUploadResult}s of the uploaded files.
+     */
+    private @NotNull CompletableFuture<List<DocumentUploadResult<T_REST_DOCUMENT>>> upload(
+            @NotNull Map<String, Path> entries) {
+        if (entries.size() > 1) {
+            return this.documentManager.uploadArchiveAsync(entries);
+        }
+        Path source = entries.values().iterator().next();
+        return this.documentManager.uploadDocumentAsync(source.toFile()).handle((document, ex) ->
+                Collections.singletonList(new DocumentUploadResult<>(source,
+                        ex == null ? document : null, ex == null ? null : unwrap(ex))));
+    }
+
+    /**
+     * Checks whether the given file may be uploaded without exceeding the limits of this {@link DocumentUploadBatch}
+     * and reserves its upload.
+     *
+     * @param source The {@link Path} of the file to check.
+     * @param size   The size of the file in bytes, or -1, should it not be readable.
+     * @return The {@link ResultException} rejecting the file, or {@code null}, if the file may be uploaded.
+     */
+    private @Nullable ResultException checkLimits(@NotNull Path source, long size) {
+        if (this.remainingFiles == 0) {
+            return new ClientResultException(Error.UPLOAD_LIMIT_EXCEEDED)
+                    .appendMessage("Maximum number of files reached: " + source);
+        }
+        if (size < 0) {
+            return new ClientResultException(Error.INVALID_SOURCE_DOCUMENT).appendMessage(source.toString());
+        }
+        if (this.uploadLimit > 0 && size > this.uploadLimit) {
+            return new ClientResultException(Error.UPLOAD_LIMIT_EXCEEDED)
+                    .appendMessage("Maximum file size exceeded: " + source);
+        }
+        if (this.remainingFiles > 0) {
+            this.remainingFiles--;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the size of the given file in bytes, or -1, should it not be readable.
+     *
+     * @param source The {@link Path} of the file.
+     * @return The size of the file in bytes, or -1.
+     */
+    private static long getSize(@NotNull Path source) {
+        try {
+            return Files.size(source);
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Notifies the result listener about the given {@link DocumentUploadResult}.
+     *
+     * @param result The {@link DocumentUploadResult} to report.
+     */
+    private void notifyListener(@NotNull DocumentUploadResult<T_REST_DOCUMENT> result) {
+        if (this.resultListener != null) {
+            this.resultListener.accept(result);
+        }
+    }
+
+    /**
+     * Returns the {@link ResultException} the given failure has been caused by.
+     *
+     * @param ex The failure of an upload.
+     * @return The {@link ResultException} the upload has failed with.
+     */
+    private static @NotNull ResultException unwrap(@NotNull Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof ResultException) {
+            return (ResultException) cause;
+        }
+        return new ClientResultException(Error.HTTP_IO_ERROR, cause);
+    }
+
+}
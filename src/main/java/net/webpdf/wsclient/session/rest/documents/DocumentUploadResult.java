@@ -0,0 +1,74 @@
+package net.webpdf.wsclient.session.rest.documents;
+
+import net.webpdf.wsclient.exception.ResultException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+
+/**
+ * An instance of {@link DocumentUploadResult} reports the outcome of uploading a single file as part of a batch
+ * upload. It either provides the resulting {@link RestDocument} or the {@link ResultException} the upload has failed
+ * with.
+ *
+ * @param <T_REST_DOCUMENT> The {@link RestDocument} type managed by the {@link DocumentManager}.
+ */
+public class DocumentUploadResult<T_REST_DOCUMENT extends RestDocument> {
+
+    private final @NotNull Path source;
+    private final @Nullable T_REST_DOCUMENT document;
+    private final @Nullable ResultException exception;
+
+    /**
+     * Creates a {@link DocumentUploadResult} for the given source file, reporting either the resulting
+     * {@link RestDocument} or the {@link ResultException} the upload has failed with.
+     *
+     * @param source    The {@link Path} of the uploaded file.
+     * @param document  The resulting {@link RestDocument}, or {@code null}, should the upload have failed.
+     * @param exception The {@link ResultException} the upload has failed with, or {@code null}.
+     */
+    DocumentUploadResult(@NotNull Path source, @Nullable T_REST_DOCUMENT document,
+            @Nullable ResultException exception) {
+        this.source = source;
+        this.document = document;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the {@link Path} of the uploaded file.
+     *
+     * @return The {@link Path} of the uploaded file.
+     */
+    public @NotNull Path getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the resulting {@link RestDocument}, or {@code null}, should the upload have failed.
+     *
+     * @return The resulting {@link RestDocument}, or {@code null}, should the upload have failed.
+     */
+    public @Nullable T_REST_DOCUMENT getDocument() {
+        return this.document;
+    }
+
+    /**
+     * Returns the {@link ResultException} the upload has failed with, or {@code null}, should the upload have
+     * succeeded.
+     *
+     * @return The {@link ResultException} the upload has failed with, or {@code null}.
+     */
+    public @Nullable ResultException getException() {
+        return this.exception;
+    }
+
+    /**
+     * Returns {@code true}, if the file has been uploaded successfully.
+     *
+     * @return {@code true}, if the file has been uploaded successfully.
+     */
+    public boolean isSuccessful() {
+        return this.document != null;
+    }
+
+}
@@ -0,0 +1,99 @@
+package net.webpdf.wsclient.session.rest.documents;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * <p>
+ * A {@link DownloadCheckpoint} records the progress of a resumable download in a sidecar file next to the download
+ * target. The sidecar file is named after the target, with the suffix {@value #CHECKPOINT_SUFFIX}.
+ * </p>
+ * <p>
+ * The recorded offset is only ever written after the downloaded content up to that offset has been forced to the
+ * storage device. It is therefore safe to continue an interrupted download at the recorded offset.
+ * </p>
+ */
+class DownloadCheckpoint {
+
+    static final @NotNull String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final @NotNull String RESOURCE_KEY = "resource";
+    private static final @NotNull String OFFSET_KEY = "offset";
+    private final @NotNull Path checkpointFile;
+    private final @NotNull String resource;
+
+    /**
+     * Creates a {@link DownloadCheckpoint} for the download of the given resource to the given target.
+     *
+     * @param target   The {@link Path} of the file the resource is downloaded to.
+     * @param resource The resource path of the downloaded resource.
+     */
+    DownloadCheckpoint(@NotNull Path target, @NotNull String resource) {
+        this.checkpointFile = target.resolveSibling(target.getFileName() + CHECKPOINT_SUFFIX);
+        this.resource = resource;
+    }
+
+    /**
+     * Returns the recorded offset, at which the download may be continued. Should no checkpoint exist, or should it
+     * have been recorded for a different resource, 0 shall be returned. The offset never exceeds the given size of the
+     * download target.
+     *
+     * @param targetSize The current size of the download target.
+     * @return The recorded offset, at which the download may be continued.
+     */
+    long load(long targetSize) {
+        if (!Files.isRegularFile(this.checkpointFile)) {
+            return 0;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(this.checkpointFile)) {
+            properties.load(inputStream);
+            if (!this.resource.equals(properties.getProperty(RESOURCE_KEY))) {
+                return 0;
+            }
+            long offset = Long.parseLong(properties.getProperty(OFFSET_KEY, "0"));
+            return Math.max(0, Math.min(offset, targetSize));
+        } catch (IOException | NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * Records the given offset. The sidecar file is replaced atomically, where the file system supports this.
+     *
+     * @param offset The offset, up to which the download has been completed.
+     * @throws IOException Shall be thrown, should writing the sidecar file fail.
+     */
+    void save(long offset) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(RESOURCE_KEY, this.resource);
+        properties.setProperty(OFFSET_KEY, String.valueOf(offset));
+        Path temporaryFile = this.checkpointFile.resolveSibling(this.checkpointFile.getFileName() + ".tmp");
+        try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+            properties.store(outputStream, null);
+        }
+        try {
+            Files.move(temporaryFile, this.checkpointFile,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temporaryFile, this.checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Removes the sidecar file, as the download has been completed or shall be restarted.
+     *
+     * @throws IOException Shall be thrown, should deleting the sidecar file fail.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(this.checkpointFile);
+    }
+
+}
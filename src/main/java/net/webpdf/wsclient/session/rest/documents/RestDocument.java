@@ -37,7 +37,9 @@ public interface RestDocument extends Document {
     @NotNull DocumentFile getDocumentFile();
 
     /**
-     * Returns the {@link HistoryEntry}s of the managed {@link RestDocument}.
+     * Returns the {@link HistoryEntry}s of the managed {@link RestDocument}. In the
+     * {@link SynchronizationMode#TRUST_RESPONSE}, a history, that has not been requested yet, is requested now, but a
+     * failure of that request is not reported - use {@link DocumentManager#getDocumentHistory(String)} to receive it.
      *
      * @return The {@link HistoryEntry}s of the managed {@link RestDocument}.
      */
@@ -1,7 +1,5 @@
 package net.webpdf.wsclient.session.rest.documents;
 
-import net.webpdf.wsclient.exception.ClientResultException;
-import net.webpdf.wsclient.exception.Error;
 import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.openapi.DocumentFileExtract;
 import net.webpdf.wsclient.openapi.DocumentInfo;
@@ -69,17 +67,38 @@ public class RestWebServiceDocument extends AbstractDocument implements RestDocu
     }
 
     /**
+     * <p>
      * Returns the {@link HistoryEntry}s of the managed {@link RestDocument}.
+     * </p>
+     * <p>
+     * Only in the {@link SynchronizationMode#TRUST_RESPONSE}, the document history may not have been requested yet.
+     * In that mode, it is requested now. <b>Be aware:</b> Should that request fail, the failure is not reported, but
+     * the currently known (possibly outdated) {@link HistoryEntry}s are returned - use
+     * {@link DocumentManager#getDocumentHistory(String)} to receive the failure instead.
+     * </p>
+     * <p>
+     * In any other {@link SynchronizationMode}, the known {@link HistoryEntry}s are returned without requesting them.
+     * </p>
      *
      * @return The {@link HistoryEntry}s of the managed {@link RestDocument}.
      */
     @Override
     public @NotNull List<HistoryEntry> getHistory() {
+        DocumentManager<RestWebServiceDocument> documentManager = accessInternalState().getDocumentManager();
+        if (documentManager.isDocumentHistoryActive() &&
+                documentManager.getSynchronizationMode() == SynchronizationMode.TRUST_RESPONSE) {
+            try {
+                return documentManager.getDocumentHistory(getDocumentId());
+            } catch (ResultException ignored) {
+                // getHistory() does not declare a failure - the known history is returned instead.
+            }
+        }
         return accessInternalState().getHistory();
     }
 
     /**
-     * Returns a {@link HistoryEntry} from the internal history map, by given history ID.
+     * Returns a {@link HistoryEntry} from the internal history map, by given history ID. Should the document history
+     * not have been requested yet, due to {@link SynchronizationMode#TRUST_RESPONSE}, it is requested now.
      *
      * @param historyId The history ID of the {@link HistoryEntry} that shall be returned.
      * @return A {@link HistoryEntry} representing a historic state of the uploaded resource.
@@ -87,6 +106,10 @@ public class RestWebServiceDocument extends AbstractDocument implements RestDocu
      */
     @Override
     public @NotNull HistoryEntry getHistoryEntry(int historyId) throws ResultException {
+        DocumentManager<RestWebServiceDocument> documentManager = accessInternalState().getDocumentManager();
+        if (documentManager.isDocumentHistoryActive()) {
+            return documentManager.getDocumentHistoryEntry(getDocumentId(), historyId);
+        }
         return accessInternalState().getHistoryEntry(historyId);
     }
 
@@ -111,11 +134,7 @@ public class RestWebServiceDocument extends AbstractDocument implements RestDocu
      * @throws ResultException Shall be thrown, should writing the result document fail.
      */
     public void downloadDocument(@NotNull File target) throws ResultException {
-        try (OutputStream outputStream = new FileOutputStream(target)) {
-            accessInternalState().getDocumentManager().downloadDocument(this.getDocumentId(), outputStream);
-        } catch (IOException e) {
-            throw new ClientResultException(Error.REST_EXECUTION);
-        }
+        accessInternalState().getDocumentManager().downloadDocument(this.getDocumentId(), target.toPath());
     }
 
     /**
@@ -6,10 +6,10 @@ import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.openapi.DocumentFile;
 import net.webpdf.wsclient.schema.beans.HistoryEntry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -25,10 +25,16 @@ import java.util.concurrent.atomic.AtomicReference;
  * (i.e. The {@link DocumentManager} shall always be the only entity, that is allowed to change the internal state of an
  * uploaded document.)
  * </p>
+ * <p>
+ * The active and the most recent {@link HistoryEntry} are tracked, whenever the document history is updated, so that
+ * accessing them does not require to search the document history.
+ * </p>
  */
 public class RestWebServiceDocumentState implements RestDocumentState<RestWebServiceDocument> {
     private final @NotNull ConcurrentHashMap<Integer, HistoryEntry> historyMap = new ConcurrentHashMap<>();
     private final @NotNull AtomicReference<DocumentFile> documentFile = new AtomicReference<>();
+    private volatile @Nullable HistoryEntry activeHistoryEntry;
+    private volatile int lastHistoryId = -1;
     private final @NotNull String documentId;
     private final @NotNull DocumentManager<RestWebServiceDocument> documentManager;
 
@@ -91,8 +97,10 @@ public class RestWebServiceDocumentState implements RestDocumentState<RestWebSer
      * @throws ResultException Shall be thrown, when updating the document history failed.
      */
     @Override
-    public void setHistory(@NotNull HistoryEntry[] historyEntries) throws ResultException {
+    public synchronized void setHistory(@NotNull HistoryEntry[] historyEntries) throws ResultException {
         this.historyMap.clear();
+        this.activeHistoryEntry = null;
+        this.lastHistoryId = -1;
 
         for (HistoryEntry historyEntry : historyEntries) {
             updateHistoryEntry(historyEntry);
@@ -120,16 +128,21 @@ public class RestWebServiceDocumentState implements RestDocumentState<RestWebSer
      * @param historyEntry The {@link HistoryEntry} containing the values to be set.
      * @throws ResultException Shall be thrown, when updating the document history failed.
      */
-    public void updateHistoryEntry(@NotNull HistoryEntry historyEntry) throws ResultException {
+    public synchronized void updateHistoryEntry(@NotNull HistoryEntry historyEntry) throws ResultException {
         int historyId = historyEntry.getId();
+        HistoryEntry activeEntry = this.activeHistoryEntry;
 
-        // disable active state for all entries, because the new entry is active
+        // only the previously active entry must be disabled, because the new entry is active
         if (historyEntry.isActive()) {
-            for (Map.Entry<Integer, HistoryEntry> entry : this.historyMap.entrySet()) {
-                entry.getValue().setActive(false);
+            if (activeEntry != null && activeEntry != historyEntry) {
+                activeEntry.setActive(false);
             }
+            this.activeHistoryEntry = historyEntry;
+        } else if (activeEntry != null && activeEntry.getId() == historyId) {
+            this.activeHistoryEntry = null;
         }
         this.historyMap.put(historyId, historyEntry);
+        this.lastHistoryId = Math.max(this.lastHistoryId, historyId);
     }
 
     /**
@@ -139,10 +152,11 @@ public class RestWebServiceDocumentState implements RestDocumentState<RestWebSer
      * @throws ResultException Shall be thrown, when updating the document history failed.
      */
     public @NotNull HistoryEntry lastHistory() throws ResultException {
-        if (this.historyMap.isEmpty()) {
+        HistoryEntry historyEntry = this.historyMap.get(this.lastHistoryId);
+        if (historyEntry == null) {
             throw new ClientResultException(Error.INVALID_HISTORY_DATA);
         }
-        return this.historyMap.get(this.historyMap.size());
+        return historyEntry;
     }
 
     /**
@@ -163,19 +177,12 @@ public class RestWebServiceDocumentState implements RestDocumentState<RestWebSer
      */
     @Override
     public @NotNull HistoryEntry activeHistory() throws ResultException {
-        if (this.historyMap.isEmpty()) {
-            throw new ClientResultException(Error.INVALID_HISTORY_DATA);
-        }
-
-        Map.Entry<Integer, HistoryEntry> historyEntry = this.historyMap.entrySet().stream().filter(
-                entry -> entry.getValue().isActive()
-        ).findFirst().orElse(null);
-
+        HistoryEntry historyEntry = this.activeHistoryEntry;
         if (historyEntry == null) {
             throw new ClientResultException(Error.INVALID_HISTORY_DATA);
         }
 
-        return historyEntry.getValue();
+        return historyEntry;
     }
 
     /**
@@ -0,0 +1,25 @@
+package net.webpdf.wsclient.session.rest.documents;
+
+import net.webpdf.wsclient.openapi.DocumentFile;
+
+/**
+ * {@link SynchronizationMode} enumerates the strategies a {@link DocumentManager} may use, to synchronize the state
+ * of its {@link RestDocument}s with the webPDF server, after a {@link DocumentFile} has been returned by an upload or
+ * an operation.
+ *
+ * @see #FULL
+ * @see #TRUST_RESPONSE
+ */
+public enum SynchronizationMode {
+
+    /**
+     * Requests the document info and - if collecting the document history is active - the document history of the
+     * {@link RestDocument} from the webPDF server, whenever a {@link DocumentFile} has been returned.
+     */
+    FULL,
+    /**
+     * Adopts the returned {@link DocumentFile} as is, without requesting the document info from the webPDF server.
+     * The document history is requested lazily, when it is read for the first time.
+     */
+    TRUST_RESPONSE
+}
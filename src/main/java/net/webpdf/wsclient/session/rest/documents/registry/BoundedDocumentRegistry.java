@@ -0,0 +1,200 @@
+package net.webpdf.wsclient.session.rest.documents.registry;
+
+import net.webpdf.wsclient.session.rest.documents.RestDocument;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * An instance of {@link BoundedDocumentRegistry} stores up to a maximum number of {@link RestDocument}s. Should a
+ * {@link RestDocument} be stored, while the maximum number has been reached, the least recently accessed
+ * {@link RestDocument}s are evicted and the given {@link EvictionPolicy} is applied to them.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> An evicted {@link RestDocument} is no longer known to its {@link
+ * net.webpdf.wsclient.session.rest.documents.DocumentManager} and can not be accessed via it anymore.
+ * </p>
+ *
+ * @param <T_REST_DOCUMENT> The {@link RestDocument} type stored in the {@link BoundedDocumentRegistry}.
+ */
+public class BoundedDocumentRegistry<T_REST_DOCUMENT extends RestDocument>
+        implements DocumentRegistry<T_REST_DOCUMENT> {
+
+    private final @NotNull LinkedHashMap<String, T_REST_DOCUMENT> documents =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxSize;
+    private final @NotNull EvictionPolicy evictionPolicy;
+    private long evictionCount;
+    private volatile @Nullable Consumer<T_REST_DOCUMENT> evictionListener;
+
+    /**
+     * Creates a {@link BoundedDocumentRegistry} storing up to the given number of {@link RestDocument}s.
+     *
+     * @param maxSize        The maximum number of {@link RestDocument}s to store.
+     * @param evictionPolicy The {@link EvictionPolicy} to apply to evicted {@link RestDocument}s.
+     * @throws IllegalArgumentException Shall be thrown, should the maximum number be smaller than 1.
+     */
+    public BoundedDocumentRegistry(int maxSize, @NotNull EvictionPolicy evictionPolicy) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be at least 1.");
+        }
+        this.maxSize = maxSize;
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    /**
+     * Returns the {@link RestDocument} with the given document ID, or {@code null}, if it is not contained. The
+     * {@link RestDocument} is marked as most recently accessed.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to return.
+     * @return The {@link RestDocument} with the given document ID, or {@code null}, if it is not contained.
+     */
+    @Override
+    public @Nullable T_REST_DOCUMENT get(@NotNull String documentId) {
+        synchronized (this.documents) {
+            return this.documents.get(documentId);
+        }
+    }
+
+    /**
+     * Stores the given {@link RestDocument} by the given document ID and evicts the least recently accessed
+     * {@link RestDocument}s, should the maximum number of {@link RestDocument}s have been exceeded.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to store.
+     * @param document   The {@link RestDocument} to store.
+     */
+    @Override
+    public void put(@NotNull String documentId, @NotNull T_REST_DOCUMENT document) {
+        List<T_REST_DOCUMENT> evicted = new ArrayList<>();
+        synchronized (this.documents) {
+            this.documents.put(documentId, document);
+            Iterator<Map.Entry<String, T_REST_DOCUMENT>> eldest = this.documents.entrySet().iterator();
+            while (this.documents.size() > this.maxSize && eldest.hasNext()) {
+                evicted.add(eldest.next().getValue());
+                eldest.remove();
+                this.evictionCount++;
+            }
+        }
+
+        // the listener is notified outside the lock, as it may access the registry.
+        Consumer<T_REST_DOCUMENT> listener = this.evictionListener;
+        if (listener != null) {
+            evicted.forEach(listener);
+        }
+    }
+
+    /**
+     * Removes the {@link RestDocument} with the given document ID.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to remove.
+     * @return The removed {@link RestDocument}, or {@code null}, if it was not contained.
+     */
+    @Override
+    public @Nullable T_REST_DOCUMENT remove(@NotNull String documentId) {
+        synchronized (this.documents) {
+            return this.documents.remove(documentId);
+        }
+    }
+
+    /**
+     * Returns {@code true}, if a {@link RestDocument} with the given document ID is contained. The access order is not
+     * changed by this.
+     *
+     * @param documentId The document ID, that shall be checked for existence.
+     * @return {@code true}, if a {@link RestDocument} with the given document ID is contained.
+     */
+    @Override
+    public boolean contains(@NotNull String documentId) {
+        synchronized (this.documents) {
+            return this.documents.containsKey(documentId);
+        }
+    }
+
+    /**
+     * Returns a snapshot of all contained {@link RestDocument}s, ordered from the least to the most recently accessed.
+     *
+     * @return A snapshot of all contained {@link RestDocument}s.
+     */
+    @Override
+    public @NotNull List<T_REST_DOCUMENT> getDocuments() {
+        synchronized (this.documents) {
+            return new ArrayList<>(this.documents.values());
+        }
+    }
+
+    /**
+     * Returns a snapshot of the document IDs of all contained {@link RestDocument}s.
+     *
+     * @return A snapshot of the document IDs of all contained {@link RestDocument}s.
+     */
+    @Override
+    public @NotNull Set<String> getDocumentIds() {
+        synchronized (this.documents) {
+            return new HashSet<>(this.documents.keySet());
+        }
+    }
+
+    /**
+     * Returns the number of contained {@link RestDocument}s.
+     *
+     * @return The number of contained {@link RestDocument}s.
+     */
+    @Override
+    public int size() {
+        synchronized (this.documents) {
+            return this.documents.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of contained {@link RestDocument}s.
+     *
+     * @return The maximum number of contained {@link RestDocument}s.
+     */
+    @Override
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Returns the number of {@link RestDocument}s, that have been evicted so far.
+     *
+     * @return The number of {@link RestDocument}s, that have been evicted so far.
+     */
+    @Override
+    public long getEvictionCount() {
+        synchronized (this.documents) {
+            return this.evictionCount;
+        }
+    }
+
+    /**
+     * Returns the {@link EvictionPolicy}, that shall be applied to evicted {@link RestDocument}s.
+     *
+     * @return The {@link EvictionPolicy}, that shall be applied to evicted {@link RestDocument}s.
+     */
+    @Override
+    public @NotNull EvictionPolicy getEvictionPolicy() {
+        return this.evictionPolicy;
+    }
+
+    /**
+     * Sets the listener, that shall be notified about each evicted {@link RestDocument}.
+     *
+     * @param evictionListener The listener to notify about evicted {@link RestDocument}s, or {@code null}.
+     */
+    @Override
+    public void setEvictionListener(@Nullable Consumer<T_REST_DOCUMENT> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+}
@@ -0,0 +1,140 @@
+package net.webpdf.wsclient.session.rest.documents.registry;
+
+import net.webpdf.wsclient.session.rest.documents.RestDocument;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * An instance of {@link ConcurrentDocumentRegistry} stores an unlimited number of {@link RestDocument}s and never
+ * evicts them. {@link RestDocument}s are only removed, when they are deleted or no longer found on the webPDF server.
+ *
+ * @param <T_REST_DOCUMENT> The {@link RestDocument} type stored in the {@link ConcurrentDocumentRegistry}.
+ */
+public class ConcurrentDocumentRegistry<T_REST_DOCUMENT extends RestDocument>
+        implements DocumentRegistry<T_REST_DOCUMENT> {
+
+    private final @NotNull Map<String, T_REST_DOCUMENT> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the {@link RestDocument} with the given document ID, or {@code null}, if it is not contained.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to return.
+     * @return The {@link RestDocument} with the given document ID, or {@code null}, if it is not contained.
+     */
+    @Override
+    public @Nullable T_REST_DOCUMENT get(@NotNull String documentId) {
+        return this.documents.get(documentId);
+    }
+
+    /**
+     * Stores the given {@link RestDocument} by the given document ID.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to store.
+     * @param document   The {@link RestDocument} to store.
+     */
+    @Override
+    public void put(@NotNull String documentId, @NotNull T_REST_DOCUMENT document) {
+        this.documents.put(documentId, document);
+    }
+
+    /**
+     * Removes the {@link RestDocument} with the given document ID.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to remove.
+     * @return The removed {@link RestDocument}, or {@code null}, if it was not contained.
+     */
+    @Override
+    public @Nullable T_REST_DOCUMENT remove(@NotNull String documentId) {
+        return this.documents.remove(documentId);
+    }
+
+    /**
+     * Returns {@code true}, if a {@link RestDocument} with the given document ID is contained.
+     *
+     * @param documentId The document ID, that shall be checked for existence.
+     * @return {@code true}, if a {@link RestDocument} with the given document ID is contained.
+     */
+    @Override
+    public boolean contains(@NotNull String documentId) {
+        return this.documents.containsKey(documentId);
+    }
+
+    /**
+     * Returns a snapshot of all contained {@link RestDocument}s.
+     *
+     * @return A snapshot of all contained {@link RestDocument}s.
+     */
+    @Override
+    public @NotNull List<T_REST_DOCUMENT> getDocuments() {
+        return new ArrayList<>(this.documents.values());
+    }
+
+    /**
+     * Returns a snapshot of the document IDs of all contained {@link RestDocument}s.
+     *
+     * @return A snapshot of the document IDs of all contained {@link RestDocument}s.
+     */
+    @Override
+    public @NotNull Set<String> getDocumentIds() {
+        return new HashSet<>(this.documents.keySet());
+    }
+
+    /**
+     * Returns the number of contained {@link RestDocument}s.
+     *
+     * @return The number of contained {@link RestDocument}s.
+     */
+    @Override
+    public int size() {
+        return this.documents.size();
+    }
+
+    /**
+     * Returns -1, as the size of the {@link ConcurrentDocumentRegistry} is not limited.
+     *
+     * @return -1, as the size of the {@link ConcurrentDocumentRegistry} is not limited.
+     */
+    @Override
+    public int getMaxSize() {
+        return -1;
+    }
+
+    /**
+     * Returns 0, as the {@link ConcurrentDocumentRegistry} never evicts {@link RestDocument}s.
+     *
+     * @return 0, as the {@link ConcurrentDocumentRegistry} never evicts {@link RestDocument}s.
+     */
+    @Override
+    public long getEvictionCount() {
+        return 0;
+    }
+
+    /**
+     * Returns {@link EvictionPolicy#KEEP_ON_SERVER}, as the {@link ConcurrentDocumentRegistry} never evicts
+     * {@link RestDocument}s.
+     *
+     * @return {@link EvictionPolicy#KEEP_ON_SERVER}.
+     */
+    @Override
+    public @NotNull EvictionPolicy getEvictionPolicy() {
+        return EvictionPolicy.KEEP_ON_SERVER;
+    }
+
+    /**
+     * Ignores the given listener, as the {@link ConcurrentDocumentRegistry} never evicts {@link RestDocument}s.
+     *
+     * @param evictionListener The listener to notify about evicted {@link RestDocument}s, or {@code null}.
+     */
+    @Override
+    public void setEvictionListener(@Nullable Consumer<T_REST_DOCUMENT> evictionListener) {
+    }
+
+}
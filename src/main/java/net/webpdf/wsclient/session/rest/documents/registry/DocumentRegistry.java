@@ -0,0 +1,108 @@
+package net.webpdf.wsclient.session.rest.documents.registry;
+
+import net.webpdf.wsclient.session.rest.documents.DocumentManager;
+import net.webpdf.wsclient.session.rest.documents.RestDocument;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A class implementing {@link DocumentRegistry} stores the {@link RestDocument}s managed by a {@link DocumentManager}
+ * by their document IDs.
+ * </p>
+ * <p>
+ * <b>Be aware:</b> An implementation must be thread safe, as a {@link DocumentManager} accesses it concurrently. A
+ * {@link DocumentRegistry} may evict {@link RestDocument}s at any time, in which case the registered eviction listener
+ * must be notified, after the {@link RestDocument} has been removed.
+ * </p>
+ *
+ * @param <T_REST_DOCUMENT> The {@link RestDocument} type stored in the {@link DocumentRegistry}.
+ */
+public interface DocumentRegistry<T_REST_DOCUMENT extends RestDocument> {
+
+    /**
+     * Returns the {@link RestDocument} with the given document ID, or {@code null}, if it is not contained.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to return.
+     * @return The {@link RestDocument} with the given document ID, or {@code null}, if it is not contained.
+     */
+    @Nullable T_REST_DOCUMENT get(@NotNull String documentId);
+
+    /**
+     * Stores the given {@link RestDocument} by the given document ID.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to store.
+     * @param document   The {@link RestDocument} to store.
+     */
+    void put(@NotNull String documentId, @NotNull T_REST_DOCUMENT document);
+
+    /**
+     * Removes the {@link RestDocument} with the given document ID. The eviction listener shall not be notified.
+     *
+     * @param documentId The document ID of the {@link RestDocument} to remove.
+     * @return The removed {@link RestDocument}, or {@code null}, if it was not contained.
+     */
+    @Nullable T_REST_DOCUMENT remove(@NotNull String documentId);
+
+    /**
+     * Returns {@code true}, if a {@link RestDocument} with the given document ID is contained.
+     *
+     * @param documentId The document ID, that shall be checked for existence.
+     * @return {@code true}, if a {@link RestDocument} with the given document ID is contained.
+     */
+    boolean contains(@NotNull String documentId);
+
+    /**
+     * Returns a snapshot of all contained {@link RestDocument}s.
+     *
+     * @return A snapshot of all contained {@link RestDocument}s.
+     */
+    @NotNull List<T_REST_DOCUMENT> getDocuments();
+
+    /**
+     * Returns a snapshot of the document IDs of all contained {@link RestDocument}s.
+     *
+     * @return A snapshot of the document IDs of all contained {@link RestDocument}s.
+     */
+    @NotNull Set<String> getDocumentIds();
+
+    /**
+     * Returns the number of contained {@link RestDocument}s.
+     *
+     * @return The number of contained {@link RestDocument}s.
+     */
+    int size();
+
+    /**
+     * Returns the maximum number of contained {@link RestDocument}s, or -1, if the size is not limited.
+     *
+     * @return The maximum number of contained {@link RestDocument}s, or -1, if the size is not limited.
+     */
+    int getMaxSize();
+
+    /**
+     * Returns the number of {@link RestDocument}s, that have been evicted so far.
+     *
+     * @return The number of {@link RestDocument}s, that have been evicted so far.
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the {@link EvictionPolicy}, that shall be applied to evicted {@link RestDocument}s.
+     *
+     * @return The {@link EvictionPolicy}, that shall be applied to evicted {@link RestDocument}s.
+     */
+    @NotNull EvictionPolicy getEvictionPolicy();
+
+    /**
+     * Sets the listener, that shall be notified about each evicted {@link RestDocument}.
+     *
+     * @param evictionListener The listener to notify about evicted {@link RestDocument}s, or {@code null}.
+     */
+    void setEvictionListener(@Nullable Consumer<T_REST_DOCUMENT> evictionListener);
+
+}
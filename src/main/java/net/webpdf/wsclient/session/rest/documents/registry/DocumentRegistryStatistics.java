@@ -0,0 +1,97 @@
+package net.webpdf.wsclient.session.rest.documents.registry;
+
+import net.webpdf.wsclient.session.rest.documents.DocumentManager;
+import net.webpdf.wsclient.session.rest.documents.RestDocument;
+
+/**
+ * An instance of {@link DocumentRegistryStatistics} is a snapshot of the state of the {@link DocumentRegistry} used
+ * by a {@link DocumentManager}.
+ */
+public class DocumentRegistryStatistics {
+
+    private final int size;
+    private final int maxSize;
+    private final long evictionCount;
+    private final long serverDeletionCount;
+    private final long serverDeletionFailureCount;
+
+    /**
+     * Creates a {@link DocumentRegistryStatistics} snapshot.
+     *
+     * @param size                       The number of contained {@link RestDocument}s.
+     * @param maxSize                    The maximum number of contained {@link RestDocument}s, or -1.
+     * @param evictionCount              The number of evicted {@link RestDocument}s.
+     * @param serverDeletionCount        The number of evicted or scheduled {@link RestDocument}s deleted on the
+     *                                   webPDF server.
+     * @param serverDeletionFailureCount The number of evicted or scheduled {@link RestDocument}s, that could not be
+     *                                   deleted on the webPDF server.
+     */
+    public DocumentRegistryStatistics(int size, int maxSize, long evictionCount, long serverDeletionCount,
+            long serverDeletionFailureCount) {
+        this.size = size;
+        this.maxSize = maxSize;
+        this.evictionCount = evictionCount;
+        this.serverDeletionCount = serverDeletionCount;
+        this.serverDeletionFailureCount = serverDeletionFailureCount;
+    }
+
+    /**
+     * Returns the number of contained {@link RestDocument}s.
+     *
+     * @return The number of contained {@link RestDocument}s.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the maximum number of contained {@link RestDocument}s, or -1, if the size is not limited.
+     *
+     * @return The maximum number of contained {@link RestDocument}s, or -1, if the size is not limited.
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Returns the number of evicted {@link RestDocument}s.
+     *
+     * @return The number of evicted {@link RestDocument}s.
+     */
+    public long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Returns the number of evicted or scheduled {@link RestDocument}s, that have been deleted on the webPDF server.
+     *
+     * @return The number of evicted or scheduled {@link RestDocument}s, that have been deleted on the webPDF server.
+     */
+    public long getServerDeletionCount() {
+        return this.serverDeletionCount;
+    }
+
+    /**
+     * Returns the number of evicted or scheduled {@link RestDocument}s, that could not be deleted on the webPDF
+     * server.
+     *
+     * @return The number of evicted or scheduled {@link RestDocument}s, that could not be deleted on the webPDF
+     * server.
+     */
+    public long getServerDeletionFailureCount() {
+        return this.serverDeletionFailureCount;
+    }
+
+    /**
+     * Returns a readable representation of this {@link DocumentRegistryStatistics}.
+     *
+     * @return A readable representation of this {@link DocumentRegistryStatistics}.
+     */
+    @Override
+    public String toString() {
+        return "[size: " + this.size + "; max: " + this.maxSize + "; evicted: " + this.evictionCount +
+                "; deleted: " + this.serverDeletionCount + "; deletion failures: " +
+                this.serverDeletionFailureCount + "]";
+    }
+
+}
@@ -0,0 +1,25 @@
+package net.webpdf.wsclient.session.rest.documents.registry;
+
+import net.webpdf.wsclient.session.rest.documents.DocumentManager;
+import net.webpdf.wsclient.session.rest.documents.RestDocument;
+
+/**
+ * {@link EvictionPolicy} enumerates the actions a {@link DocumentManager} shall perform for a {@link RestDocument},
+ * that has been evicted from its {@link DocumentRegistry}.
+ *
+ * @see #KEEP_ON_SERVER
+ * @see #DELETE_ON_SERVER
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Only removes the {@link RestDocument} from the {@link DocumentRegistry}. The document remains in the document
+     * storage of the webPDF server, until the session is closed.
+     */
+    KEEP_ON_SERVER,
+    /**
+     * Removes the {@link RestDocument} from the {@link DocumentRegistry} and deletes it from the document storage of
+     * the webPDF server asynchronously.
+     */
+    DELETE_ON_SERVER
+}
@@ -6,19 +6,14 @@ import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.openapi.AuthUserCertificates;
 import net.webpdf.wsclient.openapi.AuthUserCredentials;
 import net.webpdf.wsclient.openapi.KeyStorePassword;
-import net.webpdf.wsclient.session.DataFormat;
 import net.webpdf.wsclient.session.connection.http.HttpMethod;
 import net.webpdf.wsclient.session.connection.http.HttpRestRequest;
+import net.webpdf.wsclient.session.connection.http.JsonHttpEntity;
 import net.webpdf.wsclient.session.rest.RestSession;
 import net.webpdf.wsclient.session.rest.documents.RestDocument;
-import net.webpdf.wsclient.tools.SerializeHelper;
-import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
-import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.charset.StandardCharsets;
-import java.nio.charset.UnsupportedCharsetException;
 
 /**
  * Implements {@link UserManager} by delegating all operations to the webPDF server
@@ -57,7 +52,7 @@ public class AbstractUserManager<T_REST_DOCUMENT extends RestDocument>
     /**
      * Fetches the current user information live from the server.
      * <p>
-     * Unlike {@link RestSession#getUser()}, which returns a snapshot from session creation time,
+     * Unlike {@link RestSession#getUser()}, which returns a snapshot fetched on first access,
      * this method always performs a server request and reflects the current server state.
      * </p>
      *
@@ -79,8 +74,8 @@ public class AbstractUserManager<T_REST_DOCUMENT extends RestDocument>
     /**
      * Reads the current certificate state of the logged-in user live from the server.
      * <p>
-     * Unlike {@link RestSession#getCertificates()}, which returns a snapshot from session
-     * creation time, this method always performs a server request.
+     * Unlike {@link RestSession#getCertificates()}, which returns a snapshot fetched
+     * on first access, this method always performs a server request.
      * </p>
      *
      * @return The current {@link AuthUserCertificates} of the logged-in user.
@@ -128,12 +123,7 @@ public class AbstractUserManager<T_REST_DOCUMENT extends RestDocument>
     }
 
     private <T> @NotNull HttpEntity prepareHttpEntity(@NotNull T parameter) throws ResultException {
-        try {
-            return new StringEntity(SerializeHelper.toJSON(parameter),
-                    ContentType.create(DataFormat.JSON.getMimeType(), StandardCharsets.UTF_8));
-        } catch (UnsupportedCharsetException ex) {
-            throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
-        }
+        return new JsonHttpEntity(parameter, true);
     }
 
 }
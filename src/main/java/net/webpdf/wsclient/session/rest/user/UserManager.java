@@ -28,7 +28,7 @@ public interface UserManager<T_REST_DOCUMENT extends RestDocument> {
     /**
      * Fetches the current user information live from the server.
      * <p>
-     * Unlike {@link RestSession#getUser()}, which returns a snapshot from session creation time,
+     * Unlike {@link RestSession#getUser()}, which returns a snapshot fetched on first access,
      * this method always performs a server request and reflects the current server state —
      * for example after permission changes that occurred during the active session.
      * </p>
@@ -42,8 +42,8 @@ public interface UserManager<T_REST_DOCUMENT extends RestDocument> {
     /**
      * Reads the current certificate state of the logged-in user live from the server.
      * <p>
-     * Unlike {@link RestSession#getCertificates()}, which returns a snapshot from session
-     * creation time, this method always performs a server request and reflects the current
+     * Unlike {@link RestSession#getCertificates()}, which returns a snapshot fetched
+     * on first access, this method always performs a server request and reflects the current
      * certificate state without modifying any passwords.
      * </p>
      *
@@ -7,6 +7,7 @@ import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.session.documents.AbstractDocument;
 import net.webpdf.wsclient.session.soap.documents.datasource.BinaryDataSource;
 import net.webpdf.wsclient.session.soap.documents.datasource.PathDataSource;
+import net.webpdf.wsclient.tools.FileTransferHelper;
 import net.webpdf.wsclient.webservice.WebService;
 import net.webpdf.wsclient.webservice.WebServiceProtocol;
 import net.webpdf.wsclient.webservice.soap.SoapWebService;
@@ -189,8 +190,12 @@ public class SoapWebServiceDocument extends AbstractDocument implements SoapDocu
      */
     @Override
     public void writeResult(@NotNull File target) throws ResultException {
-        try (OutputStream outputStream = new FileOutputStream(target)) {
-            writeResult(outputStream);
+        if (this.result == null) {
+            throw new ClientResultException(Error.SOAP_EXECUTION, new IOException("No document content available"));
+        }
+
+        try (InputStream inputStream = this.result.getInputStream()) {
+            FileTransferHelper.transferFrom(inputStream, target.toPath());
         } catch (IOException ex) {
             throw new ClientResultException(Error.SOAP_EXECUTION, ex);
         }
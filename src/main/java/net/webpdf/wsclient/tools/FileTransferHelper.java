@@ -0,0 +1,192 @@
+package net.webpdf.wsclient.tools;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * <p>
+ * The {@link FileTransferHelper} provides a set of tools, to transfer document content between local files and
+ * streams via {@link FileChannel}s.
+ * </p>
+ * <p>
+ * Should both ends of a transfer be local files, the content is transferred by the operating system, without copying
+ * it to the Java heap. Otherwise, the {@link FileChannel} transfers the content via the temporary direct buffers of
+ * the JVM in large chunks.
+ * </p>
+ */
+public class FileTransferHelper {
+
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * This class is not intended to be instantiated, use the static methods instead.
+     */
+    private FileTransferHelper() {
+    }
+
+    /**
+     * Transfers the content of the given {@link InputStream} to the file at the given {@link Path}. An existing file
+     * shall be overwritten.
+     *
+     * @param source The {@link InputStream} to read the content from.
+     * @param target The {@link Path} of the file to write the content to.
+     * @return The number of transferred bytes.
+     * @throws IOException Shall be thrown, should reading the content or writing the file fail.
+     */
+    public static long transferFrom(@NotNull InputStream source, @NotNull Path target) throws IOException {
+        try (FileChannel targetChannel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            if (source instanceof FileInputStream) {
+                return transfer(((FileInputStream) source).getChannel(), targetChannel);
+            }
+            return transferFrom(Channels.newChannel(source), targetChannel, 0);
+        }
+    }
+
+    /**
+     * Transfers the content of the given {@link ReadableByteChannel} to the given {@link FileChannel}, starting at the
+     * given position of the {@link FileChannel}, until the end of the {@link ReadableByteChannel} has been reached.
+     *
+     * @param source   The {@link ReadableByteChannel} to read the content from.
+     * @param target   The {@link FileChannel} to write the content to.
+     * @param position The position of the {@link FileChannel} to start writing at.
+     * @return The number of transferred bytes.
+     * @throws IOException Shall be thrown, should reading the content or writing the file fail.
+     */
+    public static long transferFrom(@NotNull ReadableByteChannel source, @NotNull FileChannel target, long position)
+            throws IOException {
+        return transferFrom(source, target, position, null);
+    }
+
+    /**
+     * Transfers the content of the given {@link ReadableByteChannel} to the given {@link FileChannel}, starting at the
+     * given position of the {@link FileChannel}, until the end of the {@link ReadableByteChannel} has been reached.
+     * The given {@link TransferListener} shall be notified about the reached position of the {@link FileChannel}
+     * after each transferred chunk.
+     *
+     * @param source           The {@link ReadableByteChannel} to read the content from.
+     * @param target           The {@link FileChannel} to write the content to.
+     * @param position         The position of the {@link FileChannel} to start writing at.
+     * @param transferListener The {@link TransferListener} to notify about the progress, or {@code null}.
+     * @return The number of transferred bytes.
+     * @throws IOException Shall be thrown, should reading the content, writing the file or notifying the
+     *                     {@link TransferListener} fail.
+     */
+    public static long transferFrom(@NotNull ReadableByteChannel source, @NotNull FileChannel target, long position,
+            @Nullable TransferListener transferListener) throws IOException {
+        long transferred = 0;
+        long count;
+        while ((count = target.transferFrom(source, position + transferred, TRANSFER_CHUNK_SIZE)) > 0) {
+            transferred += count;
+            if (transferListener != null) {
+                transferListener.transferred(position + transferred);
+            }
+        }
+        return transferred;
+    }
+
+    /**
+     * Transfers the content of the file at the given {@link Path} to the given {@link OutputStream}. The
+     * {@link OutputStream} shall not be closed.
+     *
+     * @param source The {@link Path} of the file to read the content from.
+     * @param target The {@link OutputStream} to write the content to.
+     * @return The number of transferred bytes.
+     * @throws IOException Shall be thrown, should reading the file or writing the content fail.
+     */
+    public static long transferTo(@NotNull Path source, @NotNull OutputStream target) throws IOException {
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            if (target instanceof FileOutputStream) {
+                return transfer(sourceChannel, ((FileOutputStream) target).getChannel());
+            }
+            long transferred = transfer(sourceChannel, Channels.newChannel(target));
+            target.flush();
+            return transferred;
+        }
+    }
+
+    /**
+     * Reads the content of the file at the given {@link Path} and returns its digest, calculated via the given
+     * {@link MessageDigest} algorithm.
+     *
+     * @param source    The {@link Path} of the file to calculate the digest for.
+     * @param algorithm The name of the {@link MessageDigest} algorithm to use.
+     * @return The calculated digest.
+     * @throws IOException Shall be thrown, should reading the file fail, or should the algorithm not be available.
+     */
+    public static byte @NotNull [] digest(@NotNull Path source, @NotNull String algorithm) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+            while (sourceChannel.read(buffer) != -1) {
+                buffer.flip();
+                messageDigest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return messageDigest.digest();
+    }
+
+    /**
+     * Transfers the remaining content of the given {@link FileChannel} to the given {@link WritableByteChannel}.
+     *
+     * @param source The {@link FileChannel} to read the content from.
+     * @param target The {@link WritableByteChannel} to write the content to.
+     * @return The number of transferred bytes.
+     * @throws IOException Shall be thrown, should reading or writing the content fail.
+     */
+    private static long transfer(@NotNull FileChannel source, @NotNull WritableByteChannel target)
+            throws IOException {
+        long position = source.position();
+        long size = source.size();
+        long transferred = 0;
+        while (position + transferred < size) {
+            long count = source.transferTo(position + transferred,
+                    Math.min(TRANSFER_CHUNK_SIZE, size - position - transferred), target);
+            if (count <= 0) {
+                break;
+            }
+            transferred += count;
+        }
+        source.position(position + transferred);
+        return transferred;
+    }
+
+    /**
+     * A {@link TransferListener} is notified about the progress of a transfer to a {@link FileChannel}.
+     */
+    @FunctionalInterface
+    public interface TransferListener {
+
+        /**
+         * Shall be called, whenever a chunk of content has been written to the {@link FileChannel}.
+         *
+         * @param position The position of the {@link FileChannel}, up to which the content has been written.
+         * @throws IOException Shall be thrown, should processing the progress fail.
+         */
+        void transferred(long position) throws IOException;
+
+    }
+
+}
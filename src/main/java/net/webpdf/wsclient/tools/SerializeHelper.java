@@ -1,14 +1,18 @@
 package net.webpdf.wsclient.tools;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationModule;
 import net.webpdf.wsclient.exception.ClientResultException;
 import net.webpdf.wsclient.exception.Error;
 import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.session.DataFormat;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
@@ -25,6 +29,13 @@ import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import java.io.*;
 import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * The {@link SerializeHelper} provides a set of tools, to translate the server´s responses and data transfer objects,
@@ -33,6 +44,13 @@ import java.net.URL;
 public class SerializeHelper {
 
     private final static String OPERATION_SCHEMA = "/schemas/operation/operation.xsd";
+    private static final @NotNull Object JSON_MAPPING_LOCK = new Object();
+    private static volatile @Nullable Consumer<ObjectMapper> objectMapperCustomizer;
+    private static volatile @Nullable JsonMapping jsonMapping;
+    private static final int MAX_POOLED_XML_PROCESSORS = 16;
+    private static final @NotNull Object OPERATION_SCHEMA_LOCK = new Object();
+    private static volatile @Nullable Schema operationSchema;
+    private static final @NotNull Map<Class<?>, XMLBinding> XML_BINDINGS = new ConcurrentHashMap<>();
 
     /**
      * This class is not intended to be instantiated, use the static methods instead.
@@ -40,29 +58,6 @@ public class SerializeHelper {
     private SerializeHelper() {
     }
 
-    /**
-     * Returns the response content from the given {@link HttpEntity} as a String for further processing.
-     *
-     * @param httpEntity The {@link HttpEntity}, that shall be searched for processable content.
-     * @return The extracted response String.
-     * @throws ResultException Shall be thrown, when extracting the response content failed.
-     */
-    private static @NotNull String getResponseContent(@NotNull HttpEntity httpEntity) throws ResultException {
-        try (InputStreamReader inputStreamReader = new InputStreamReader(httpEntity.getContent());
-             BufferedReader bufferedReader = new BufferedReader(inputStreamReader)) {
-
-            String tempToken;
-            StringBuilder response = new StringBuilder();
-
-            while ((tempToken = bufferedReader.readLine()) != null) {
-                response.append(tempToken);
-            }
-            return response.toString();
-        } catch (IOException ex) {
-            throw new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT, ex);
-        }
-    }
-
     /**
      * Deserialize the data transfer object to the given type from the given {@link DataFormat#XML} {@link HttpEntity}.
      *
@@ -101,35 +96,100 @@ public class SerializeHelper {
      */
     public static <T> @NotNull T fromXML(@Nullable StreamSource streamSource, @NotNull Class<T> type)
             throws ResultException {
+        return fromXML(streamSource, type, true);
+    }
+
+    /**
+     * <p>
+     * Deserialize the data transfer object to the given type from the given {@link DataFormat#XML}
+     * {@link StreamSource}.
+     * </p>
+     * <p>
+     * Should validate be set to {@code true}, the {@link StreamSource} shall be validated against the operation
+     * schema. For trusted sources the validation may be skipped, by setting validate to {@code false}.
+     * </p>
+     *
+     * @param <T>          The expected type of the deserialized data transfer object.
+     * @param streamSource The deserializable {@link DataFormat#XML} {@link StreamSource}
+     * @param type         The expected type of the deserialized data transfer object.
+     * @param validate     {@code true}, if the {@link StreamSource} shall be validated against the operation schema.
+     * @return The deserialized {@link DataFormat#XML} data transfer object.
+     * @throws ResultException Shall be thrown upon a deserialization failure.
+     */
+    public static <T> @NotNull T fromXML(@Nullable StreamSource streamSource, @NotNull Class<T> type,
+            boolean validate) throws ResultException {
         if (streamSource == null) {
             throw new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT);
         }
         XMLValidationEventHandler xmlValidationEventHandler = new XMLValidationEventHandler();
 
         try {
-            // create a new instance with a list of allowed classes for this context
-            JAXBContext jaxbContext = JAXBContext.newInstance(type);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-
-            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            URL url = SerializeHelper.class.getResource(OPERATION_SCHEMA);
-            Schema schema = schemaFactory.newSchema(url);
+            XMLBinding xmlBinding = getXMLBinding(type);
+            Unmarshaller unmarshaller = xmlBinding.acquireUnmarshaller();
+            try {
+                if (validate) {
+                    unmarshaller.setSchema(getOperationSchema());
+                    unmarshaller.setEventHandler(xmlValidationEventHandler);
+                } else {
+                    unmarshaller.setSchema(null);
+                    unmarshaller.setEventHandler(null);
+                }
 
-            if (schema != null) {
-                unmarshaller.setSchema(schema);
-                unmarshaller.setEventHandler(xmlValidationEventHandler);
+                // unmarshall the given stream with a specific class (ignores @XmlRootElement annotated class name)
+                JAXBElement<T> jaxbElement = unmarshaller.unmarshal(streamSource, type);
+                return type.cast(jaxbElement.getValue());
+            } finally {
+                xmlBinding.releaseUnmarshaller(unmarshaller);
             }
-
-            // unmarshall the given stream with a specific class (ignores @XmlRootElement annotated class name)
-            JAXBElement<T> jaxbElement = unmarshaller.unmarshal(streamSource, type);
-            return type.cast(jaxbElement.getValue());
-
         } catch (SAXException | JAXBException ex) {
             throw new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT, ex)
                     .appendMessage(xmlValidationEventHandler.getMessages());
         }
     }
 
+    /**
+     * Returns the operation {@link Schema}, which is compiled once on first access and shared by all threads
+     * afterwards.
+     *
+     * @return The compiled operation {@link Schema}.
+     * @throws SAXException Shall be thrown, should compiling the operation {@link Schema} fail.
+     */
+    private static @NotNull Schema getOperationSchema() throws SAXException {
+        Schema schema = SerializeHelper.operationSchema;
+        if (schema == null) {
+            synchronized (OPERATION_SCHEMA_LOCK) {
+                schema = SerializeHelper.operationSchema;
+                if (schema == null) {
+                    SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+                    URL url = SerializeHelper.class.getResource(OPERATION_SCHEMA);
+                    schema = schemaFactory.newSchema(url);
+                    SerializeHelper.operationSchema = schema;
+                }
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Returns the cached {@link XMLBinding} for the given type. The {@link XMLBinding} and its {@link JAXBContext}
+     * are created on first access.
+     *
+     * @param type The type to return the {@link XMLBinding} for.
+     * @return The cached {@link XMLBinding} for the given type.
+     * @throws JAXBException Shall be thrown, should creating the {@link JAXBContext} fail.
+     */
+    private static @NotNull XMLBinding getXMLBinding(@NotNull Class<?> type) throws JAXBException {
+        XMLBinding xmlBinding = XML_BINDINGS.get(type);
+        if (xmlBinding == null) {
+            xmlBinding = new XMLBinding(JAXBContext.newInstance(type));
+            XMLBinding existing = XML_BINDINGS.putIfAbsent(type, xmlBinding);
+            if (existing != null) {
+                xmlBinding = existing;
+            }
+        }
+        return xmlBinding;
+    }
+
     /**
      * Deserialize the data transfer object to the given type from the given {@link DataFormat#JSON} {@link HttpEntity}.
      *
@@ -144,10 +204,46 @@ public class SerializeHelper {
         if (httpEntity == null) {
             throw new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT);
         }
-        String response = SerializeHelper.getResponseContent(httpEntity);
-        try (StringReader stringReader = new StringReader(response)) {
-            StreamSource streamSource = new StreamSource(stringReader);
-            return fromJSON(streamSource, type);
+        String contentType = httpEntity.getContentType();
+        Charset charset = contentType != null ? ContentType.parseLenient(contentType).getCharset() : null;
+        try (InputStream inputStream = httpEntity.getContent()) {
+            return fromJSON(inputStream, charset, type);
+        } catch (IOException ex) {
+            throw new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT, ex);
+        }
+    }
+
+    /**
+     * <p>
+     * Deserialize the data transfer object to the given type from the given {@link DataFormat#JSON}
+     * {@link InputStream}, which is using the given {@link Charset}.
+     * </p>
+     * <p>
+     * The data transfer object is parsed directly from the {@link InputStream}, without buffering the content as a
+     * whole. Should no {@link Charset} be given, {@link StandardCharsets#UTF_8} shall be assumed.
+     * </p>
+     *
+     * @param <T>         The expected type of the deserialized data transfer object.
+     * @param inputStream The deserializable {@link DataFormat#JSON} {@link InputStream}
+     * @param charset     The {@link Charset} of the {@link InputStream}.
+     * @param type        The expected type of the deserialized data transfer object.
+     * @return The deserialized {@link DataFormat#JSON} data transfer object.
+     * @throws ResultException Shall be thrown upon a deserialization failure.
+     */
+    public static <T> @NotNull T fromJSON(@Nullable InputStream inputStream, @Nullable Charset charset,
+            @NotNull Class<T> type) throws ResultException {
+        if (inputStream == null) {
+            throw new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT);
+        }
+        ObjectReader objectReader = getJsonMapping().getReader(type);
+        try {
+            // Jackson´s byte based parser is used for UTF-8 content, any other charset is decoded by a reader.
+            if (charset == null || StandardCharsets.UTF_8.equals(charset)) {
+                return objectReader.readValue(inputStream);
+            }
+            return objectReader.readValue(new InputStreamReader(inputStream, charset));
+        } catch (IOException ex) {
+            throw new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT, ex);
         }
     }
 
@@ -166,17 +262,64 @@ public class SerializeHelper {
         if (streamSource == null) {
             throw new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT);
         }
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JakartaXmlBindAnnotationModule());
-        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        ObjectReader objectReader = getJsonMapping().getReader(type);
         try (Reader reader = streamSource.getReader()) {
-            return objectMapper.readValue(reader, type);
+            return objectReader.readValue(reader);
         } catch (IOException ex) {
             throw new ClientResultException(Error.INVALID_HTTP_MESSAGE_CONTENT, ex);
         }
     }
 
+    /**
+     * <p>
+     * Sets a customizer, that shall be applied to the shared {@link ObjectMapper} used for all {@link DataFormat#JSON}
+     * (de)serializations, after the default configuration has been applied.
+     * </p>
+     * <p>
+     * The shared {@link ObjectMapper} and all cached {@link ObjectReader}s and {@link ObjectWriter}s are discarded
+     * and shall be recreated lazily using the given customizer.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The customizer is applied once per created {@link ObjectMapper}. The {@link ObjectMapper} must
+     * not be modified after the customizer returned, as it is shared by all threads.
+     * </p>
+     *
+     * @param objectMapperCustomizer The customizer, that shall be applied or {@code null}, to restore the default
+     *                               configuration.
+     */
+    public static void setObjectMapperCustomizer(@Nullable Consumer<ObjectMapper> objectMapperCustomizer) {
+        synchronized (JSON_MAPPING_LOCK) {
+            SerializeHelper.objectMapperCustomizer = objectMapperCustomizer;
+            SerializeHelper.jsonMapping = null;
+        }
+    }
+
+    /**
+     * Returns the shared {@link JsonMapping}, which is created lazily on first access.
+     *
+     * @return The shared {@link JsonMapping}.
+     */
+    private static @NotNull JsonMapping getJsonMapping() {
+        JsonMapping mapping = SerializeHelper.jsonMapping;
+        if (mapping == null) {
+            synchronized (JSON_MAPPING_LOCK) {
+                mapping = SerializeHelper.jsonMapping;
+                if (mapping == null) {
+                    ObjectMapper objectMapper = new ObjectMapper();
+                    objectMapper.registerModule(new JakartaXmlBindAnnotationModule());
+                    objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+                    objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+                    if (SerializeHelper.objectMapperCustomizer != null) {
+                        SerializeHelper.objectMapperCustomizer.accept(objectMapper);
+                    }
+                    mapping = new JsonMapping(objectMapper);
+                    SerializeHelper.jsonMapping = mapping;
+                }
+            }
+        }
+        return mapping;
+    }
+
     /**
      * Serialize a data transfer object to {@link DataFormat#JSON}
      *
@@ -186,11 +329,44 @@ public class SerializeHelper {
      */
     @NotNull
     public static String toJSON(@Nullable Object object) throws ResultException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JakartaXmlBindAnnotationModule());
-        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         try {
-            return objectMapper.writeValueAsString(object);
+            return getJsonMapping().getWriter(object).writeValueAsString(object);
+        } catch (JsonProcessingException ex) {
+            throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
+        }
+    }
+
+    /**
+     * <p>
+     * Serialize a data transfer object to {@link DataFormat#JSON} and write it directly to the given
+     * {@link OutputStream}, using {@link StandardCharsets#UTF_8}.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> The given {@link OutputStream} is flushed, but shall not be closed.
+     * </p>
+     *
+     * @param object       The object to serialize.
+     * @param outputStream The {@link OutputStream} to write the serialized object to.
+     * @throws ResultException Shall be thrown upon a serialization failure.
+     */
+    public static void toJSON(@Nullable Object object, @NotNull OutputStream outputStream) throws ResultException {
+        try {
+            getJsonMapping().getWriter(object).writeValue(outputStream, object);
+        } catch (IOException ex) {
+            throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
+        }
+    }
+
+    /**
+     * Serialize a data transfer object to {@link DataFormat#JSON} bytes, using {@link StandardCharsets#UTF_8}.
+     *
+     * @param object The object to serialize.
+     * @return The resulting {@link DataFormat#JSON} bytes.
+     * @throws ResultException Shall be thrown upon a serialization failure.
+     */
+    public static byte @NotNull [] toJSONBytes(@Nullable Object object) throws ResultException {
+        try {
+            return getJsonMapping().getWriter(object).writeValueAsBytes(object);
         } catch (JsonProcessingException ex) {
             throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
         }
@@ -209,19 +385,147 @@ public class SerializeHelper {
             throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE);
         }
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(type);
-
-            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-            jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            jaxbMarshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
-
-            StringWriter stringWriter = new StringWriter();
-            jaxbMarshaller.marshal(object, stringWriter);
+            XMLBinding xmlBinding = getXMLBinding(type);
+            Marshaller jaxbMarshaller = xmlBinding.acquireMarshaller();
+            try {
+                StringWriter stringWriter = new StringWriter();
+                jaxbMarshaller.marshal(object, stringWriter);
 
-            return stringWriter.toString();
+                return stringWriter.toString();
+            } finally {
+                xmlBinding.releaseMarshaller(jaxbMarshaller);
+            }
         } catch (JAXBException ex) {
             throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
         }
     }
 
+    /**
+     * <p>
+     * A {@link JsonMapping} holds the shared {@link ObjectMapper} and caches the {@link ObjectReader}s and
+     * {@link ObjectWriter}s created for it per type.
+     * </p>
+     * <p>
+     * {@link ObjectReader}s and {@link ObjectWriter}s are immutable and thread-safe, reusing them avoids resolving
+     * the (de)serializers of a type again for every call.
+     * </p>
+     */
+    private static final class JsonMapping {
+
+        private final @NotNull ObjectMapper objectMapper;
+        private final @NotNull ObjectWriter defaultWriter;
+        private final @NotNull Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final @NotNull Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        /**
+         * Creates a {@link JsonMapping} for the given {@link ObjectMapper}.
+         *
+         * @param objectMapper The {@link ObjectMapper} to create {@link ObjectReader}s and {@link ObjectWriter}s
+         *                     with.
+         */
+        private JsonMapping(@NotNull ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            this.defaultWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        /**
+         * Returns the cached {@link ObjectReader} for the given type.
+         *
+         * @param type The type to read.
+         * @return The cached {@link ObjectReader} for the given type.
+         */
+        private @NotNull ObjectReader getReader(@NotNull Class<?> type) {
+            return this.readers.computeIfAbsent(type, this.objectMapper::readerFor);
+        }
+
+        /**
+         * Returns the cached {@link ObjectWriter} for the type of the given object.
+         *
+         * @param object The object to write.
+         * @return The cached {@link ObjectWriter} for the type of the given object.
+         */
+        private @NotNull ObjectWriter getWriter(@Nullable Object object) {
+            if (object == null) {
+                return this.defaultWriter;
+            }
+            return this.writers.computeIfAbsent(object.getClass(), type -> this.objectMapper.writerFor(type)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+        }
+
+    }
+
+    /**
+     * <p>
+     * A {@link XMLBinding} holds the {@link JAXBContext} of a type and pools the {@link Unmarshaller}s and
+     * {@link Marshaller}s created for it.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> {@link Unmarshaller}s and {@link Marshaller}s are not thread-safe. An instance must be acquired
+     * exclusively and must be released after use.
+     * </p>
+     */
+    private static final class XMLBinding {
+
+        private final @NotNull JAXBContext jaxbContext;
+        private final @NotNull BlockingQueue<Unmarshaller> unmarshallers =
+                new ArrayBlockingQueue<>(MAX_POOLED_XML_PROCESSORS);
+        private final @NotNull BlockingQueue<Marshaller> marshallers =
+                new ArrayBlockingQueue<>(MAX_POOLED_XML_PROCESSORS);
+
+        /**
+         * Creates a {@link XMLBinding} for the given {@link JAXBContext}.
+         *
+         * @param jaxbContext The {@link JAXBContext} to create {@link Unmarshaller}s and {@link Marshaller}s with.
+         */
+        private XMLBinding(@NotNull JAXBContext jaxbContext) {
+            this.jaxbContext = jaxbContext;
+        }
+
+        /**
+         * Acquires a pooled {@link Unmarshaller} or creates a new one, should the pool be empty.
+         *
+         * @return An {@link Unmarshaller} for exclusive use.
+         * @throws JAXBException Shall be thrown, should creating the {@link Unmarshaller} fail.
+         */
+        private @NotNull Unmarshaller acquireUnmarshaller() throws JAXBException {
+            Unmarshaller unmarshaller = this.unmarshallers.poll();
+            return unmarshaller != null ? unmarshaller : this.jaxbContext.createUnmarshaller();
+        }
+
+        /**
+         * Returns the given {@link Unmarshaller} to the pool, should the pool not be full yet.
+         *
+         * @param unmarshaller The {@link Unmarshaller} to release.
+         */
+        private void releaseUnmarshaller(@NotNull Unmarshaller unmarshaller) {
+            this.unmarshallers.offer(unmarshaller);
+        }
+
+        /**
+         * Acquires a pooled {@link Marshaller} or creates a new one, should the pool be empty.
+         *
+         * @return A {@link Marshaller} for exclusive use.
+         * @throws JAXBException Shall be thrown, should creating the {@link Marshaller} fail.
+         */
+        private @NotNull Marshaller acquireMarshaller() throws JAXBException {
+            Marshaller marshaller = this.marshallers.poll();
+            if (marshaller == null) {
+                marshaller = this.jaxbContext.createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                marshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+            }
+            return marshaller;
+        }
+
+        /**
+         * Returns the given {@link Marshaller} to the pool, should the pool not be full yet.
+         *
+         * @param marshaller The {@link Marshaller} to release.
+         */
+        private void releaseMarshaller(@NotNull Marshaller marshaller) {
+            this.marshallers.offer(marshaller);
+        }
+
+    }
+
 }
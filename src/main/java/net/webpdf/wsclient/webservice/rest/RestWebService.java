@@ -7,30 +7,28 @@ import net.webpdf.wsclient.openapi.DocumentFile;
 import net.webpdf.wsclient.openapi.OperationBilling;
 import net.webpdf.wsclient.openapi.OperationPdfPassword;
 import net.webpdf.wsclient.openapi.OperationSettings;
-import net.webpdf.wsclient.session.DataFormat;
 import net.webpdf.wsclient.session.connection.http.HttpMethod;
 import net.webpdf.wsclient.session.connection.http.HttpRestRequest;
+import net.webpdf.wsclient.session.connection.http.JsonHttpEntity;
 import net.webpdf.wsclient.session.rest.RestSession;
+import net.webpdf.wsclient.session.rest.documents.DocumentLifecyclePolicy;
 import net.webpdf.wsclient.session.rest.documents.DocumentManager;
 import net.webpdf.wsclient.session.rest.documents.RestDocument;
-import net.webpdf.wsclient.tools.SerializeHelper;
 import net.webpdf.wsclient.webservice.AbstractWebService;
 import net.webpdf.wsclient.webservice.WebService;
 import net.webpdf.wsclient.webservice.WebServiceProtocol;
 import net.webpdf.wsclient.webservice.WebServiceType;
-import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.NameValuePair;
-import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicNameValuePair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
-import java.nio.charset.UnsupportedCharsetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * An instance of {@link RestWebService} wraps a wsclient connection to a specific webPDF webservice endpoint
@@ -100,6 +98,7 @@ public abstract class RestWebService<T_OPERATION_DATA, T_OPERATION_PARAMETER, T_
             throw new ClientResultException(Error.INVALID_RESULT_DOCUMENT);
         }
 
+        sourceProcessed(sourceDocument, document);
         return document;
     }
 
@@ -132,6 +131,107 @@ public abstract class RestWebService<T_OPERATION_DATA, T_OPERATION_PARAMETER, T_
         return restDocument;
     }
 
+    /**
+     * <p>
+     * Asynchronously execute the webservice operation and provide the resulting {@link T_REST_DOCUMENT}.
+     * </p>
+     * <p>
+     * The calling thread is not blocked while the operation is executed by the webPDF server. This allows to keep
+     * many long-running operations in flight, without occupying a thread per operation.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Most webservices require a source {@link T_REST_DOCUMENT}, with few exceptions, such as the
+     * URL-converter webservice. Should the execution fail, the returned {@link CompletableFuture} shall be completed
+     * exceptionally with a {@link ResultException}.
+     * </p>
+     *
+     * @return A {@link CompletableFuture} providing the resulting {@link T_REST_DOCUMENT}.
+     */
+    public @NotNull CompletableFuture<T_REST_DOCUMENT> processAsync() {
+        return processAsync(getWebServiceType().equals(WebServiceType.URLCONVERTER) ?
+                getWebServiceType().getRestEndpoint() : getWebServiceType().getRestEndpoint().replace(
+                WebServiceType.ID_PLACEHOLDER, "new"));
+    }
+
+    /**
+     * <p>
+     * Asynchronously execute the webservice operation for the given source {@link T_REST_DOCUMENT} and provide the
+     * resulting {@link T_REST_DOCUMENT}.
+     * </p>
+     * <p>
+     * <b>Be aware:</b> Should the execution fail, the returned {@link CompletableFuture} shall be completed
+     * exceptionally with a {@link ResultException}.
+     * </p>
+     *
+     * @param sourceDocument The source {@link T_REST_DOCUMENT}, that shall be processed.
+     * @return A {@link CompletableFuture} providing the resulting {@link T_REST_DOCUMENT}.
+     */
+    public @NotNull CompletableFuture<T_REST_DOCUMENT> processAsync(@NotNull T_REST_DOCUMENT sourceDocument) {
+        return processAsync(getWebServiceType().equals(WebServiceType.URLCONVERTER) ?
+                getWebServiceType().getRestEndpoint() : getWebServiceType().getRestEndpoint().replace(
+                WebServiceType.ID_PLACEHOLDER, sourceDocument.getDocumentId()))
+                .thenApply(document -> {
+                    sourceProcessed(sourceDocument, document);
+                    return document;
+                });
+    }
+
+    /**
+     * Schedules the given source {@link T_REST_DOCUMENT} for deletion, should the {@link DocumentLifecyclePolicy} of
+     * the {@link DocumentManager} request the deletion of processed source documents and should the webservice
+     * operation have produced a different result {@link T_REST_DOCUMENT}.
+     *
+     * @param sourceDocument The processed source {@link T_REST_DOCUMENT}.
+     * @param resultDocument The resulting {@link T_REST_DOCUMENT}.
+     */
+    private void sourceProcessed(@NotNull T_REST_DOCUMENT sourceDocument, @NotNull T_REST_DOCUMENT resultDocument) {
+        DocumentManager<T_REST_DOCUMENT> documentManager = getSession().getDocumentManager();
+        if (documentManager.getLifecyclePolicy().isDeleteSourceAfterProcess() &&
+                !sourceDocument.getDocumentId().equals(resultDocument.getDocumentId())) {
+            documentManager.scheduleDeletion(sourceDocument.getDocumentId());
+        }
+    }
+
+    /**
+     * <p>
+     * Asynchronously execute the webservice operation for the given urlPath and provide the resulting
+     * {@link T_REST_DOCUMENT}.
+     * </p>
+     * <p>
+     * The resulting {@link DocumentFile} is synchronized with the {@link DocumentManager} of the {@link RestSession}
+     * via the {@link RestSession#getExecutor()}, so that the I/O threads of the asynchronous HTTP client are not
+     * blocked.
+     * </p>
+     *
+     * @param urlPath The resource path ({@link URI}) to execute the request on.
+     * @return A {@link CompletableFuture} providing the resulting {@link T_REST_DOCUMENT}.
+     */
+    protected @NotNull CompletableFuture<T_REST_DOCUMENT> processAsync(@NotNull String urlPath) {
+        DocumentManager<T_REST_DOCUMENT> documentManager = getSession().getDocumentManager();
+
+        List<NameValuePair> parameters = new ArrayList<>();
+        parameters.add(new BasicNameValuePair("history", Boolean.toString(documentManager.isDocumentHistoryActive())));
+        parameters.addAll(this.getAdditionalParameter());
+
+        try {
+            return HttpRestRequest.createRequest(getSession())
+                    .buildRequest(HttpMethod.POST, getSession().getURI(urlPath, parameters), getWebServiceOptions())
+                    .executeRequestAsync(DocumentFile.class)
+                    .thenApplyAsync(documentFile -> {
+                        try {
+                            if (documentFile == null) {
+                                throw new ClientResultException(Error.INVALID_RESULT_DOCUMENT);
+                            }
+                            return documentManager.synchronizeDocument(documentFile);
+                        } catch (ResultException ex) {
+                            throw new CompletionException(ex);
+                        }
+                    }, getSession().getExecutor());
+        } catch (ResultException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
     /**
      * Creates a {@link HttpEntity} reflecting the webservice parameters.
      *
@@ -139,14 +239,7 @@ public abstract class RestWebService<T_OPERATION_DATA, T_OPERATION_PARAMETER, T_
      * @throws ResultException Shall be thrown, should the {@link HttpEntity} creation fail.
      */
     private @NotNull HttpEntity getWebServiceOptions() throws ResultException {
-        try {
-            return new StringEntity(
-                    SerializeHelper.toJSON(getOperationData()),
-                    ContentType.create(DataFormat.JSON.getMimeType(), StandardCharsets.UTF_8)
-            );
-        } catch (UnsupportedCharsetException ex) {
-            throw new ClientResultException(Error.XML_OR_JSON_CONVERSION_FAILURE, ex);
-        }
+        return new JsonHttpEntity(getOperationData());
     }
 
 }
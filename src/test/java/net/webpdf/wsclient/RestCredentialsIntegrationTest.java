@@ -4,7 +4,14 @@ import net.webpdf.wsclient.openapi.OperationConvertPdfa;
 import net.webpdf.wsclient.openapi.OperationPdfa;
 import net.webpdf.wsclient.session.SessionFactory;
 import net.webpdf.wsclient.session.auth.UserAuthProvider;
+import net.webpdf.wsclient.session.auth.material.AuthMaterial;
+import net.webpdf.wsclient.session.auth.material.token.SessionToken;
+import net.webpdf.wsclient.session.auth.store.FileSessionTokenStore;
+import net.webpdf.wsclient.session.auth.store.SessionTokenStore;
 import net.webpdf.wsclient.session.connection.SessionContext;
+import net.webpdf.wsclient.session.connection.http.AuthorizationRecoveryStatistics;
+import net.webpdf.wsclient.session.connection.http.HttpMethod;
+import net.webpdf.wsclient.session.connection.http.HttpRestRequest;
 import net.webpdf.wsclient.session.rest.RestSession;
 import net.webpdf.wsclient.session.rest.documents.RestDocument;
 import net.webpdf.wsclient.testsuite.integration.annotations.IntegrationTest;
@@ -23,6 +30,13 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -67,6 +81,102 @@ public class RestCredentialsIntegrationTest {
         });
     }
 
+    @Test
+    @IntegrationTest
+    public void testConcurrentRefresh() {
+        assertDoesNotThrow(() -> {
+            UserAuthProvider authProvider =
+                    new UserAuthProvider(testServer.getLocalAdminName(), testServer.getLocalAdminPassword());
+            authProvider.setBackgroundRefresh(true);
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)), authProvider)) {
+                assertTrue(authProvider.isBackgroundRefresh(),
+                        "The background refresh should have been activated.");
+                int threadCount = 8;
+                ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+                try {
+                    CountDownLatch startSignal = new CountDownLatch(1);
+                    List<Future<AuthMaterial>> refreshes = new ArrayList<>();
+                    for (int thread = 0; thread < threadCount; thread++) {
+                        refreshes.add(executor.submit(() -> {
+                            startSignal.await();
+                            return authProvider.refresh(session);
+                        }));
+                    }
+                    startSignal.countDown();
+                    for (Future<AuthMaterial> refresh : refreshes) {
+                        AuthMaterial authMaterial = refresh.get(1, TimeUnit.MINUTES);
+                        assertInstanceOf(SessionToken.class, authMaterial,
+                                "A session token should have been provided.");
+                        assertFalse(((SessionToken) authMaterial).isExpired(0),
+                                "The provided session token should be valid.");
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+                executeConverter(session);
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testUnauthorizedRecovery() {
+        assertDoesNotThrow(() -> {
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)),
+                    new UserAuthProvider(testServer.getLocalAdminName(), testServer.getLocalAdminPassword()))) {
+                // invalidates the session token on the server, while the client still considers it valid.
+                HttpRestRequest.createRequest(session)
+                        .buildRequest(HttpMethod.GET, "authentication/user/logout/")
+                        .executeRequest(Object.class);
+
+                executeConverter(session);
+
+                AuthorizationRecoveryStatistics statistics = session.getAuthorizationRecoveryStatistics();
+                assertTrue(statistics.getUnauthorizedCount() > 0,
+                        "The rejected request should have been counted.");
+                assertTrue(statistics.getReplayCount() > 0,
+                        "The rejected request should have been replayed.");
+                assertEquals(0, statistics.getFailureCount(),
+                        "The authorization should have been renewed.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testSessionTokenStore() {
+        assertDoesNotThrow(() -> {
+            SessionTokenStore tokenStore =
+                    new FileSessionTokenStore(testResources.getTempFolder().newFolder().toPath());
+            UserAuthProvider firstProvider =
+                    new UserAuthProvider(testServer.getLocalAdminName(), testServer.getLocalAdminPassword());
+            firstProvider.setSessionTokenStore(tokenStore);
+            AuthMaterial storedToken;
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)), firstProvider)) {
+                storedToken = firstProvider.provide(session);
+                assertInstanceOf(SessionToken.class, storedToken,
+                        "A session token should have been provided.");
+            }
+
+            UserAuthProvider secondProvider =
+                    new UserAuthProvider(testServer.getLocalAdminName(), testServer.getLocalAdminPassword());
+            secondProvider.setSessionTokenStore(tokenStore);
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)), secondProvider)) {
+                assertEquals(storedToken.getToken(), secondProvider.provide(session).getToken(),
+                        "The stored session token should have been resumed.");
+                executeConverter(session);
+            }
+        });
+    }
+
     @Test
     @IntegrationTest
     public void testWithSetOptions() {
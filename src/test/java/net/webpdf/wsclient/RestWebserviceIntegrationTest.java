@@ -4,6 +4,10 @@ import net.webpdf.wsclient.openapi.*;
 import net.webpdf.wsclient.session.SessionFactory;
 import net.webpdf.wsclient.session.auth.UserAuthProvider;
 import net.webpdf.wsclient.session.connection.SessionContext;
+import net.webpdf.wsclient.session.pool.SessionLease;
+import net.webpdf.wsclient.session.pool.SessionPool;
+import net.webpdf.wsclient.session.pool.SessionPoolConfiguration;
+import net.webpdf.wsclient.session.pool.SessionPoolStatistics;
 import net.webpdf.wsclient.session.rest.RestSession;
 import net.webpdf.wsclient.session.rest.RestWebServiceSession;
 import net.webpdf.wsclient.session.rest.documents.RestDocument;
@@ -34,6 +38,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -514,6 +520,69 @@ public class RestWebserviceIntegrationTest {
         });
     }
 
+    @Test
+    @IntegrationTest
+    public void testLazyUserInfo() {
+        assertDoesNotThrow(() -> {
+            try (RestSession<RestDocument> restSession = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(restSession,
+                        "Valid session should have been created.");
+                List<CompletableFuture<AuthUserCredentials>> users = new ArrayList<>();
+                for (int access = 0; access < 4; access++) {
+                    users.add(CompletableFuture.supplyAsync(restSession::getUser));
+                }
+                AuthUserCredentials user = restSession.getUser();
+                assertNotNull(user,
+                        "UserCredentials should have been fetched on first access.");
+                for (CompletableFuture<AuthUserCredentials> concurrentUser : users) {
+                    assertSame(user, concurrentUser.get(1, TimeUnit.MINUTES),
+                            "UserCredentials should have been fetched only once.");
+                }
+                assertSame(restSession.getCertificates(), restSession.getCertificates(),
+                        "Certificates should have been fetched only once.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testSessionPool() {
+        assertDoesNotThrow(() -> {
+            try (SessionPool<RestSession<RestDocument>> sessionPool = SessionFactory.createPool(
+                    () -> new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)),
+                    () -> new UserAuthProvider(testServer.getLocalAdminName(),
+                            testServer.getLocalAdminPassword()),
+                    new SessionPoolConfiguration().setMinIdle(1).setMaxTotal(1).setLeaseTimeout(60000))) {
+                assertEquals(1, sessionPool.getStatistics().getIdle(),
+                        "A warm session should have been established.");
+                RestSession<RestDocument> pooledSession;
+                try (SessionLease<RestSession<RestDocument>> lease = sessionPool.lease()) {
+                    pooledSession = lease.getSession();
+                    pooledSession.getDocumentManager().uploadDocument(
+                            testResources.getResource("integration/files/lorem-ipsum.pdf"));
+                    assertEquals(1, sessionPool.getStatistics().getLeased(),
+                            "The session should have been leased.");
+                }
+                try (SessionLease<RestSession<RestDocument>> lease = sessionPool.lease()) {
+                    assertSame(pooledSession, lease.getSession(),
+                            "The warm session should have been reused.");
+                    assertTrue(lease.getSession().getDocumentManager().synchronize().isEmpty(),
+                            "The documents of the previous lease should have been deleted.");
+                }
+                SessionPoolStatistics statistics = sessionPool.getStatistics();
+                assertEquals(2, statistics.getLeaseCount(),
+                        "Two leases should have been granted.");
+                assertEquals(1, statistics.getCreatedCount(),
+                        "Only one session should have been established.");
+                assertEquals(0, statistics.getDiscardedCount(),
+                        "No session should have been discarded.");
+            }
+        });
+    }
+
     @Test
     @IntegrationTest
     public void testHandleRestSession() {
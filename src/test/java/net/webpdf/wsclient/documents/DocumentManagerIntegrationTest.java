@@ -1,5 +1,7 @@
 package net.webpdf.wsclient.documents;
 
+import net.webpdf.wsclient.exception.Error;
+import net.webpdf.wsclient.exception.ResultException;
 import net.webpdf.wsclient.exception.ServerResultException;
 import net.webpdf.wsclient.openapi.*;
 import net.webpdf.wsclient.schema.beans.HistoryEntry;
@@ -9,8 +11,18 @@ import net.webpdf.wsclient.session.auth.UserAuthProvider;
 import net.webpdf.wsclient.session.connection.SessionContext;
 import net.webpdf.wsclient.session.rest.RestSession;
 import net.webpdf.wsclient.session.rest.RestWebServiceSession;
+import net.webpdf.wsclient.session.rest.documents.DigestVerification;
+import net.webpdf.wsclient.session.rest.documents.DocumentDownloadResult;
+import net.webpdf.wsclient.session.rest.documents.DocumentDownloadSummary;
+import net.webpdf.wsclient.session.rest.documents.DocumentLifecyclePolicy;
+import net.webpdf.wsclient.session.rest.documents.DocumentSynchronization;
+import net.webpdf.wsclient.session.rest.documents.DocumentUploadResult;
 import net.webpdf.wsclient.session.rest.documents.RestDocument;
 import net.webpdf.wsclient.session.rest.documents.RestWebServiceDocument;
+import net.webpdf.wsclient.session.rest.documents.SynchronizationMode;
+import net.webpdf.wsclient.session.rest.documents.registry.BoundedDocumentRegistry;
+import net.webpdf.wsclient.session.rest.documents.registry.DocumentRegistryStatistics;
+import net.webpdf.wsclient.session.rest.documents.registry.EvictionPolicy;
 import net.webpdf.wsclient.testsuite.integration.annotations.IntegrationTest;
 import net.webpdf.wsclient.testsuite.io.TestResources;
 import net.webpdf.wsclient.testsuite.server.ServerType;
@@ -29,11 +41,27 @@ import org.junit.jupiter.params.provider.CsvSource;
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -78,6 +106,561 @@ public class DocumentManagerIntegrationTest {
         });
     }
 
+    @Test
+    @IntegrationTest
+    public void testHandleDocumentAsync() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("logo.png");
+            File targetFile = testResources.getTempFolder().newFile();
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)));
+                 OutputStream outputStream = Files.newOutputStream(targetFile.toPath())
+            ) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                RestDocument document = session.getDocumentManager().uploadDocumentAsync(sourceFile)
+                        .get(60, TimeUnit.SECONDS);
+                assertNotNull(document,
+                        "Valid document should have been returned.");
+                assertTrue(session.getDocumentManager().containsDocument(document.getDocumentId()),
+                        "The uploaded document should have been managed.");
+                ConverterRestWebService<RestDocument> webService =
+                        WebServiceFactory.createInstance(session, WebServiceType.CONVERTER);
+                RestDocument result = webService.processAsync(document).get(60, TimeUnit.SECONDS);
+                assertNotNull(result,
+                        "Valid result document should have been returned.");
+                assertEquals("application/pdf", result.getDocumentFile().getMimeType(),
+                        "Filetype should be application/pdf");
+                session.getDocumentManager().downloadDocumentAsync(result.getDocumentId(), outputStream)
+                        .get(60, TimeUnit.SECONDS);
+                assertTrue(targetFile.length() > 0,
+                        "The downloaded document should not have been empty.");
+                ExecutionException exception = assertThrows(ExecutionException.class,
+                        () -> session.getDocumentManager().downloadDocumentAsync("unknown", outputStream).get(),
+                        "Downloading an unknown document should have failed.");
+                assertInstanceOf(ResultException.class, exception.getCause(),
+                        "The failure should have been reported as a ResultException.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testStreamingUpload() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            File pathTargetFile = testResources.getTempFolder().newFile();
+            File streamTargetFile = testResources.getTempFolder().newFile();
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)));
+                 InputStream inputStream = Files.newInputStream(sourceFile.toPath());
+                 OutputStream pathOutputStream = Files.newOutputStream(pathTargetFile.toPath());
+                 OutputStream streamOutputStream = Files.newOutputStream(streamTargetFile.toPath())
+            ) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                RestDocument pathDocument = session.getDocumentManager().uploadDocument(sourceFile.toPath());
+                assertNotNull(pathDocument,
+                        "Valid document should have been returned.");
+                pathDocument.downloadDocument(pathOutputStream);
+                assertTrue(FileUtils.contentEquals(sourceFile, pathTargetFile),
+                        "The content of the uploaded and the downloaded document should have been equal.");
+                RestDocument streamDocument = session.getDocumentManager().uploadDocument(inputStream, "test.pdf");
+                assertNotNull(streamDocument,
+                        "Valid document should have been returned.");
+                streamDocument.downloadDocument(streamOutputStream);
+                assertTrue(FileUtils.contentEquals(sourceFile, streamTargetFile),
+                        "The content of the uploaded and the downloaded document should have been equal.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testFileChannelTransfer() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            File pathTargetFile = testResources.getTempFolder().newFile();
+            File fileTargetFile = testResources.getTempFolder().newFile();
+            File rangedTargetFile = testResources.getTempFolder().newFile();
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                RestDocument document = session.getDocumentManager().uploadDocument(sourceFile);
+                assertNotNull(document,
+                        "Valid document should have been returned.");
+                session.getDocumentManager().downloadDocument(document.getDocumentId(), pathTargetFile.toPath());
+                assertTrue(FileUtils.contentEquals(sourceFile, pathTargetFile),
+                        "The content of the uploaded and the downloaded document should have been equal.");
+                document.downloadDocument(fileTargetFile);
+                assertTrue(FileUtils.contentEquals(sourceFile, fileTargetFile),
+                        "The content of the uploaded and the downloaded document should have been equal.");
+                session.getDocumentManager().downloadDocument(document.getDocumentId(), rangedTargetFile.toPath(), 4);
+                assertTrue(FileUtils.contentEquals(sourceFile, rangedTargetFile),
+                        "The content of the uploaded and the downloaded document should have been equal.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testRangedDownload() {
+        assertDoesNotThrow(() -> {
+            // the document must exceed two minimal byte ranges of 4 MB to actually be split.
+            File sourceFile = testResources.getTempFolder().newFile();
+            byte[] content = new byte[9 * 1024 * 1024];
+            new Random(42).nextBytes(content);
+            Files.write(sourceFile.toPath(), content);
+            File targetFile = testResources.getTempFolder().newFile();
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                RestDocument document = session.getDocumentManager().uploadDocument(sourceFile);
+                assertNotNull(document,
+                        "Valid document should have been returned.");
+                session.getDocumentManager().downloadDocument(document.getDocumentId(), targetFile.toPath(), 4);
+                assertTrue(FileUtils.contentEquals(sourceFile, targetFile),
+                        "The content of the uploaded and the downloaded document should have been equal.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testResumableDownload() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            File targetFile = testResources.getTempFolder().newFile();
+            File checkpointFile = new File(targetFile.getParentFile(), targetFile.getName() + ".checkpoint");
+            String digest = String.format("%064x",
+                    new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(
+                            Files.readAllBytes(sourceFile.toPath()))));
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                RestDocument document = session.getDocumentManager().uploadDocument(sourceFile);
+                assertNotNull(document,
+                        "Valid document should have been returned.");
+
+                // simulate an interrupted download, that has been checkpointed halfway.
+                byte[] content = Files.readAllBytes(sourceFile.toPath());
+                int offset = content.length / 2;
+                Files.write(targetFile.toPath(), Arrays.copyOf(content, offset));
+                Files.writeString(checkpointFile.toPath(),
+                        "resource=documents/" + document.getDocumentId() + "\noffset=" + offset + "\n");
+
+                session.getDocumentManager().downloadDocumentResumable(document.getDocumentId(),
+                        targetFile.toPath(), new DigestVerification("SHA-256", digest));
+                assertTrue(FileUtils.contentEquals(sourceFile, targetFile),
+                        "The content of the uploaded and the downloaded document should have been equal.");
+                assertFalse(checkpointFile.exists(),
+                        "The checkpoint should have been removed.");
+
+                ResultException exception = assertThrows(ResultException.class,
+                        () -> session.getDocumentManager().downloadDocumentResumable(document.getDocumentId(),
+                                targetFile.toPath(), new DigestVerification("SHA-256", "00" + digest.substring(2))),
+                        "The digest verification should have failed.");
+                assertEquals(Error.INVALID_DOCUMENT_DIGEST.getCode(), exception.getErrorCode(),
+                        "The digest verification should have failed.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testConcurrentSynchronization() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            int threadCount = 8;
+            int uploadsPerThread = 5;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                session.getDocumentManager().setDocumentHistoryActive(true);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<List<String>>> uploads = new ArrayList<>();
+                for (int thread = 0; thread < threadCount; thread++) {
+                    uploads.add(executor.submit(() -> {
+                        start.await();
+                        List<String> documentIds = new ArrayList<>();
+                        for (int upload = 0; upload < uploadsPerThread; upload++) {
+                            RestDocument document = session.getDocumentManager().uploadDocument(sourceFile);
+                            documentIds.add(document.getDocumentId());
+                            // interleave single document synchronizations with the uploads of other threads.
+                            session.getDocumentManager().synchronizeDocument(document.getDocumentFile());
+                        }
+                        return documentIds;
+                    }));
+                }
+                start.countDown();
+
+                Set<String> documentIds = new HashSet<>();
+                for (Future<List<String>> upload : uploads) {
+                    documentIds.addAll(upload.get(2, TimeUnit.MINUTES));
+                }
+                assertEquals(threadCount * uploadsPerThread, documentIds.size(),
+                        "Each upload should have resulted in a separate document.");
+                assertEquals(documentIds.size(), session.getDocumentManager().getDocuments().size(),
+                        "No document should have been lost.");
+                for (String documentId : documentIds) {
+                    assertTrue(session.getDocumentManager().containsDocument(documentId),
+                            "The uploaded document should have been contained.");
+                    assertEquals(1, session.getDocumentManager().getDocumentHistory(documentId).size(),
+                            "The document history should have contained exactly one entry.");
+                }
+                assertEquals(documentIds.size(), session.getDocumentManager().synchronize().size(),
+                        "The synchronization should have found all documents.");
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testBatchUpload() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            File missingFile = new File(testResources.getTempFolder().getRoot(), "missing.pdf");
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                List<Path> sources = new ArrayList<>();
+                for (int upload = 0; upload < 6; upload++) {
+                    sources.add(sourceFile.toPath());
+                }
+                sources.add(missingFile.toPath());
+
+                List<DocumentUploadResult<RestDocument>> notified = Collections.synchronizedList(new ArrayList<>());
+                List<DocumentUploadResult<RestDocument>> results = session.getDocumentManager()
+                        .uploadDocuments(sources.stream(), 3, notified::add)
+                        .get(2, TimeUnit.MINUTES);
+                assertEquals(sources.size(), results.size(),
+                        "A result should have been reported for each file.");
+                assertEquals(sources.size(), notified.size(),
+                        "The listener should have been notified about each result.");
+
+                Set<String> documentIds = new HashSet<>();
+                for (DocumentUploadResult<RestDocument> result : results) {
+                    if (result.getSource().equals(missingFile.toPath())) {
+                        assertFalse(result.isSuccessful(),
+                                "The missing file should not have been uploaded.");
+                        assertNotNull(result.getException(),
+                                "The failure of the missing file should have been reported.");
+                        continue;
+                    }
+                    assertTrue(result.isSuccessful(),
+                            "The existing file should have been uploaded.");
+                    assertNotNull(result.getDocument(),
+                            "The uploaded document should have been reported.");
+                    documentIds.add(result.getDocument().getDocumentId());
+                }
+                assertEquals(6, documentIds.size(),
+                        "Each upload should have resulted in a separate document.");
+                assertEquals(6, session.getDocumentManager().getDocuments().size(),
+                        "The uploaded documents should have been managed.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testArchiveBatchUpload() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            File sourceFolder = testResources.getTempFolder().newFolder();
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                List<Path> sources = new ArrayList<>();
+                for (int index = 0; index < 4; index++) {
+                    File smallFile = new File(sourceFolder, "small_" + index + ".pdf");
+                    FileUtils.copyFile(sourceFile, smallFile);
+                    sources.add(smallFile.toPath());
+                }
+
+                List<DocumentUploadResult<RestDocument>> results = session.getDocumentManager()
+                        .uploadDocuments(sources, 2, sourceFile.length())
+                        .get(2, TimeUnit.MINUTES);
+                assertEquals(sources.size(), results.size(),
+                        "A result should have been reported for each file.");
+                for (DocumentUploadResult<RestDocument> result : results) {
+                    assertTrue(result.isSuccessful(),
+                            "The archived file should have been extracted.");
+                    assertNotNull(result.getDocument(),
+                            "The extracted document should have been reported.");
+                    assertEquals(result.getSource().getFileName().toString(),
+                            result.getDocument().getDocumentFile().getFileName() + ".pdf",
+                            "The extracted document should have been mapped to its source file.");
+                }
+                assertEquals(sources.size(), session.getDocumentManager().getDocuments().size(),
+                        "Only the extracted documents should have been managed.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testBatchDownload() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            File targetFolder = testResources.getTempFolder().newFolder();
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                List<String> documentIds = new ArrayList<>();
+                for (int upload = 0; upload < 4; upload++) {
+                    documentIds.add(session.getDocumentManager().uploadDocument(sourceFile).getDocumentId());
+                }
+                documentIds.add("unknown");
+                List<String> requestedIds = new ArrayList<>(documentIds);
+                requestedIds.add(documentIds.get(0));
+
+                DocumentDownloadSummary summary = session.getDocumentManager()
+                        .downloadDocuments(requestedIds, targetFolder.toPath(), 2);
+                assertEquals(documentIds.size(), summary.getResults().size(),
+                        "A result should have been reported for each distinct document.");
+                assertEquals(4, summary.getSuccessCount(),
+                        "The known documents should have been downloaded.");
+                assertEquals(1, summary.getFailureCount(),
+                        "The unknown document should have failed.");
+                assertEquals(4 * sourceFile.length(), summary.getSize(),
+                        "The complete documents should have been written.");
+
+                for (int index = 0; index < 4; index++) {
+                    DocumentDownloadResult result = summary.getResults().get(index);
+                    assertEquals(documentIds.get(index), result.getDocumentId(),
+                            "The results should have been reported in the requested order.");
+                    assertNotNull(result.getTarget(),
+                            "The written file should have been reported.");
+                    assertTrue(result.getTarget().getFileName().toString().startsWith("test_"),
+                            "The file should have been named after the document.");
+                    assertTrue(FileUtils.contentEquals(sourceFile, result.getTarget().toFile()),
+                            "The downloaded file should have matched the uploaded file.");
+                }
+                assertFalse(summary.getResults().get(4).isSuccessful(),
+                        "The unknown document should not have been downloaded.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testTrustResponseSynchronization() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                session.getDocumentManager().setSynchronizationMode(SynchronizationMode.TRUST_RESPONSE);
+                session.getDocumentManager().setDocumentHistoryActive(true);
+                RestDocument document = session.getDocumentManager().uploadDocument(sourceFile);
+                assertNotNull(document,
+                        "Valid document should have been returned.");
+                assertEquals("test", document.getDocumentFile().getFileName(),
+                        "The returned document file should have been adopted.");
+                assertEquals(1, document.getHistory().size(),
+                        "The document history should have been requested lazily.");
+                assertTrue(document.getHistoryEntry(1).isActive(),
+                        "The first history entry should have been active.");
+
+                ConverterRestWebService<RestDocument> webService =
+                        WebServiceFactory.createInstance(session, WebServiceType.CONVERTER);
+                RestDocument result = webService.process(document);
+                assertNotNull(result,
+                        "Valid result document should have been returned.");
+                assertEquals(2, session.getDocumentManager().getDocumentHistory(result.getDocumentId()).size(),
+                        "The document history should have been requested lazily.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testParallelHistoryActivation() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                List<RestDocument> documents = new ArrayList<>();
+                for (int upload = 0; upload < 5; upload++) {
+                    documents.add(session.getDocumentManager().uploadDocument(sourceFile));
+                }
+                session.getDocumentManager().setDocumentHistoryActive(true, 2);
+                for (RestDocument document : documents) {
+                    assertEquals(1, document.getHistory().size(),
+                            "The document history should have been requested.");
+                    assertTrue(document.getHistoryEntry(1).isActive(),
+                            "The first history entry should have been active.");
+                }
+
+                ConverterRestWebService<RestDocument> webService =
+                        WebServiceFactory.createInstance(session, WebServiceType.CONVERTER);
+                RestDocument result = webService.process(documents.get(0));
+                assertNotNull(result,
+                        "Valid result document should have been returned.");
+                assertEquals(2, result.getHistory().size(),
+                        "The document history should have been extended.");
+                assertFalse(result.getHistoryEntry(1).isActive(),
+                        "The previous history entry should have been deactivated.");
+                assertTrue(result.getHistoryEntry(2).isActive(),
+                        "The new history entry should have been active.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testSynchronizeChanges() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                RestDocument first = session.getDocumentManager().uploadDocument(sourceFile);
+                RestDocument second = session.getDocumentManager().uploadDocument(sourceFile);
+
+                DocumentSynchronization<RestDocument> synchronization =
+                        session.getDocumentManager().synchronizeChanges();
+                assertTrue(synchronization.isUnchanged(),
+                        "The synchronization should not have changed any document.");
+                assertEquals(2, synchronization.getDocuments().size(),
+                        "The synchronization should have found both documents.");
+
+                synchronization = session.getDocumentManager().synchronizeChanges(
+                        List.of(first.getDocumentFile()));
+                assertEquals(1, synchronization.getRemoved().size(),
+                        "The missing document should have been removed.");
+                assertEquals(second.getDocumentId(), synchronization.getRemoved().get(0).getDocumentId(),
+                        "The missing document should have been removed.");
+                assertFalse(session.getDocumentManager().containsDocument(second.getDocumentId()),
+                        "The missing document should no longer have been managed.");
+
+                synchronization = session.getDocumentManager().synchronizeChanges();
+                assertEquals(1, synchronization.getAdded().size(),
+                        "The server side document should have been added again.");
+                assertEquals(second.getDocumentId(), synchronization.getAdded().get(0).getDocumentId(),
+                        "The server side document should have been added again.");
+                assertTrue(synchronization.getRemoved().isEmpty(),
+                        "No document should have been removed.");
+                assertEquals(2, session.getDocumentManager().getDocuments().size(),
+                        "Both documents should have been managed.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testBoundedDocumentRegistry() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                session.getDocumentManager().setDocumentRegistry(
+                        new BoundedDocumentRegistry<>(2, EvictionPolicy.DELETE_ON_SERVER));
+                RestDocument first = session.getDocumentManager().uploadDocument(sourceFile);
+                RestDocument second = session.getDocumentManager().uploadDocument(sourceFile);
+                // accessing the first document makes the second one the least recently accessed.
+                session.getDocumentManager().getDocument(first.getDocumentId());
+                RestDocument third = session.getDocumentManager().uploadDocument(sourceFile);
+
+                assertEquals(2, session.getDocumentManager().getDocuments().size(),
+                        "The registry should not have exceeded its maximum size.");
+                assertTrue(session.getDocumentManager().containsDocument(first.getDocumentId()),
+                        "The recently accessed document should have been kept.");
+                assertFalse(session.getDocumentManager().containsDocument(second.getDocumentId()),
+                        "The least recently accessed document should have been evicted.");
+                assertTrue(session.getDocumentManager().containsDocument(third.getDocumentId()),
+                        "The new document should have been kept.");
+
+                DocumentRegistryStatistics statistics = session.getDocumentManager().getDocumentRegistryStatistics();
+                assertEquals(2, statistics.getSize(),
+                        "The statistics should have reported the current size.");
+                assertEquals(2, statistics.getMaxSize(),
+                        "The statistics should have reported the maximum size.");
+                assertEquals(1, statistics.getEvictionCount(),
+                        "The statistics should have reported the eviction.");
+
+                long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+                while (session.getDocumentManager().getDocumentRegistryStatistics().getServerDeletionCount() < 1 &&
+                        System.currentTimeMillis() < timeout) {
+                    Thread.sleep(100);
+                }
+                assertEquals(1, session.getDocumentManager().getDocumentRegistryStatistics()
+                                .getServerDeletionCount(),
+                        "The evicted document should have been deleted on the server.");
+                assertTrue(session.getDocumentManager().synchronizeChanges().getAdded().isEmpty(),
+                        "The evicted document should no longer have been found on the server.");
+            }
+        });
+    }
+
+    @Test
+    @IntegrationTest
+    public void testDocumentLifecyclePolicy() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("test.pdf");
+            File targetFile = testResources.getTempFolder().newFile();
+            try (RestSession<RestDocument> session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST,
+                            testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session,
+                        "Valid session should have been created.");
+                session.getDocumentManager().setLifecyclePolicy(new DocumentLifecyclePolicy()
+                        .setDeleteAfterDownload(true)
+                        .setBatchSize(2));
+                RestDocument downloaded = session.getDocumentManager().uploadDocument(sourceFile);
+                RestDocument first = session.getDocumentManager().uploadDocument(sourceFile);
+                RestDocument second = session.getDocumentManager().uploadDocument(sourceFile);
+
+                session.getDocumentManager().downloadDocument(downloaded.getDocumentId(), targetFile.toPath());
+                assertTrue(targetFile.length() > 0,
+                        "The document should have been downloaded.");
+                assertFalse(session.getDocumentManager().containsDocument(downloaded.getDocumentId()),
+                        "The downloaded document should have been scheduled for deletion.");
+
+                session.getDocumentManager().getLifecyclePolicy().setMaxAge(1);
+                Thread.sleep(10);
+                session.getDocumentManager().cleanup().get(30, TimeUnit.SECONDS);
+                assertFalse(session.getDocumentManager().containsDocument(first.getDocumentId()),
+                        "The expired document should have been scheduled for deletion.");
+                assertFalse(session.getDocumentManager().containsDocument(second.getDocumentId()),
+                        "The expired document should have been scheduled for deletion.");
+                assertEquals(0, session.getDocumentManager().getPendingDeletionCount(),
+                        "All scheduled deletions should have been executed.");
+                assertTrue(session.getDocumentManager().synchronizeChanges().getAdded().isEmpty(),
+                        "The deleted documents should no longer have been found on the server.");
+            }
+        });
+    }
+
     @Test
     @IntegrationTest
     public void testDocumentRename() {
@@ -406,6 +989,36 @@ public class DocumentManagerIntegrationTest {
         });
     }
 
+    @Test
+    @IntegrationTest
+    public void testParallelDocumentExtract() {
+        assertDoesNotThrow(() -> {
+            File sourceFile = testResources.getResource("files.zip");
+            try (RestWebServiceSession session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST, testServer.getServer(ServerType.LOCAL)))) {
+                assertNotNull(session, "Valid session should have been created.");
+                RestWebServiceDocument document = session.getDocumentManager().uploadDocument(sourceFile);
+                assertNotNull(document, "Valid document should have been returned.");
+                List<CompletableFuture<RestWebServiceDocument>> synchronizations = session.getDocumentManager()
+                        .extractDocument(document.getDocumentId(), new DocumentFileExtract(), 2)
+                        .collect(Collectors.toList());
+                assertEquals(3, synchronizations.size(),
+                        "There should be 3 result documents.");
+                Set<String> documentIds = new HashSet<>();
+                for (CompletableFuture<RestWebServiceDocument> synchronization : synchronizations) {
+                    RestWebServiceDocument extractedDocument = synchronization.get(1, TimeUnit.MINUTES);
+                    assertTrue(session.getDocumentManager().containsDocument(extractedDocument.getDocumentId()),
+                            "The extracted document should have been managed.");
+                    documentIds.add(extractedDocument.getDocumentId());
+                }
+                assertEquals(3, documentIds.size(),
+                        "Each extracted document should have been synchronized separately.");
+                assertEquals(4, session.getDocumentManager().getDocuments().size(),
+                        "The archive and the extracted documents should have been managed.");
+            }
+        });
+    }
+
     @Test
     @IntegrationTest
     public void testDocumentExtractAll() {
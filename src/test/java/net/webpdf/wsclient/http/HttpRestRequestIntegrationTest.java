@@ -4,6 +4,7 @@ import net.webpdf.wsclient.session.auth.UserAuthProvider;
 import net.webpdf.wsclient.session.connection.SessionContext;
 import net.webpdf.wsclient.session.connection.http.HttpMethod;
 import net.webpdf.wsclient.session.connection.http.HttpRestRequest;
+import net.webpdf.wsclient.session.connection.pool.ConnectionPoolConfiguration;
 import net.webpdf.wsclient.testsuite.server.ServerType;
 import net.webpdf.wsclient.testsuite.integration.annotations.IntegrationTest;
 import net.webpdf.wsclient.webservice.WebServiceProtocol;
@@ -18,6 +19,7 @@ import org.apache.hc.client5.http.entity.mime.HttpMultipartMode;
 import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.pool.PoolStats;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
@@ -104,4 +106,35 @@ public class HttpRestRequestIntegrationTest {
                     }
                 });
     }
+
+    @Test
+    @IntegrationTest
+    public void testConnectionPoolConfiguration() {
+        assertDoesNotThrow(() -> {
+            try (RestWebServiceSession session = SessionFactory.createInstance(
+                    new SessionContext(WebServiceProtocol.REST, testServer.getServer(ServerType.LOCAL))
+                            .setConnectionPool(new ConnectionPoolConfiguration()
+                                    .setMaxTotal(16)
+                                    .setMaxPerRoute(8)
+                                    .setConnectionTimeToLive(60000)
+                                    .setIdleEvictionInterval(30000)))) {
+                assertEquals(16, session.getSessionContext().getConnectionPool().getMaxTotal(),
+                        "The pool size should have been taken from the session context.");
+                PoolStats poolStats = session.getConnectionPoolStatistics();
+                assertNotNull(poolStats,
+                        "Pool statistics should have been available.");
+                assertEquals(16, poolStats.getMax(),
+                        "The pool should have been limited to 16 connections.");
+                assertEquals(0, poolStats.getLeased(),
+                        "No connection should have been leased after the session initialization.");
+                assertTrue(poolStats.getAvailable() >= 1,
+                        "The connection used during the session initialization should have been pooled.");
+                PoolStats asyncPoolStats = session.getAsyncConnectionPoolStatistics();
+                assertEquals(16, asyncPoolStats.getMax(),
+                        "The asynchronous pool should have been limited to 16 connections.");
+                assertEquals(0, asyncPoolStats.getLeased(),
+                        "No asynchronous connection should have been leased after the session initialization.");
+            }
+        });
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package net.webpdf.wsclient.tools;
 
+import com.fasterxml.jackson.databind.SerializationFeature;
 import net.webpdf.wsclient.exception.ClientResultException;
 import net.webpdf.wsclient.testsuite.io.TestResources;
 import net.webpdf.wsclient.exception.Error;
@@ -14,6 +15,10 @@ import org.junit.jupiter.api.Test;
 import javax.xml.transform.stream.StreamSource;
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -129,6 +134,48 @@ public class SerializeHelperTest {
         });
     }
 
+    @Test
+    public void testFromXMLWithoutValidation() {
+        assertDoesNotThrow(() -> {
+            String source = FileUtils.readFileToString(testResources.getResource("convert.xml"),
+                    Charset.defaultCharset());
+            for (boolean validate : new boolean[]{true, false, true}) {
+                try (StringReader reader = new StringReader(source)) {
+                    OperationData operationData = SerializeHelper.fromXML(new StreamSource(reader),
+                            OperationData.class, validate);
+                    assertNotNull(operationData.getConverter(),
+                            "Converter parameters should have been initialized.");
+                    assertEquals("1-5", operationData.getConverter().getPages(),
+                            "Pages attribute should have been 1-5");
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testFromJSONInputStream() {
+        assertDoesNotThrow(() -> {
+            String source = FileUtils.readFileToString(testResources.getResource("convert.json"),
+                    StandardCharsets.UTF_8);
+            try (InputStream inputStream = new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8))) {
+                OperationData operationData = SerializeHelper.fromJSON(inputStream, StandardCharsets.UTF_8,
+                        OperationData.class);
+                assertNotNull(operationData.getConverter(),
+                        "Converter parameters should have been initialized.");
+                assertEquals("1-5", operationData.getConverter().getPages(),
+                        "Pages attribute should have been 1-5");
+            }
+            try (InputStream inputStream = new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_16LE))) {
+                OperationData operationData = SerializeHelper.fromJSON(inputStream, StandardCharsets.UTF_16LE,
+                        OperationData.class);
+                assertNotNull(operationData.getConverter(),
+                        "Converter parameters should have been initialized.");
+                assertEquals("1-5", operationData.getConverter().getPages(),
+                        "Pages attribute should have been 1-5");
+            }
+        });
+    }
+
     @Test
     public void testInvalidEntities() {
         try {
@@ -195,6 +242,16 @@ public class SerializeHelperTest {
         } catch (ResultException ex) {
             fail("A ClientResultException had been expected.");
         }
+
+        try {
+            SerializeHelper.fromJSON((InputStream) null, null, OperationData.class);
+            fail("ResultException expected");
+        } catch (ClientResultException ex) {
+            assertEquals(Error.INVALID_HTTP_MESSAGE_CONTENT, ex.getClientError(),
+                    String.format("Error-code %s expected.", Error.INVALID_HTTP_MESSAGE_CONTENT.getCode()));
+        } catch (ResultException ex) {
+            fail("A ClientResultException had been expected.");
+        }
     }
 
     @Test
@@ -222,6 +279,51 @@ public class SerializeHelperTest {
         });
     }
 
+    @Test
+    public void testObjectMapperCustomizer() {
+        assertDoesNotThrow(() -> {
+            ConverterType converterType = new ConverterType();
+            converterType.setPages("1-5");
+            OperationData operationData = new OperationData();
+            operationData.setConverter(converterType);
+            try {
+                SerializeHelper.setObjectMapperCustomizer(
+                        objectMapper -> objectMapper.enable(SerializationFeature.INDENT_OUTPUT));
+                assertTrue(SerializeHelper.toJSON(operationData).contains("\n"),
+                        "The customized object mapper should have indented the output.");
+            } finally {
+                SerializeHelper.setObjectMapperCustomizer(null);
+            }
+            assertEquals("{\"converter\":{\"pages\":\"1-5\"}}", SerializeHelper.toJSON(operationData),
+                    "The default object mapper should have been restored.");
+            List<String> results = IntStream.range(0, 100).parallel()
+                    .mapToObj(index -> assertDoesNotThrow(() -> SerializeHelper.toJSON(operationData)))
+                    .collect(Collectors.toList());
+            assertTrue(results.stream().allMatch("{\"converter\":{\"pages\":\"1-5\"}}"::equals),
+                    "The shared object mapper should have produced the same result on all threads.");
+        });
+    }
+
+    @Test
+    public void toJSONOutputStream() {
+        assertDoesNotThrow(() -> {
+            ConverterType converterType = new ConverterType();
+            converterType.setPages("1-5");
+            OperationData operationData = new OperationData();
+            operationData.setConverter(converterType);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            SerializeHelper.toJSON(operationData, outputStream);
+            outputStream.write('\n');
+            SerializeHelper.toJSON(operationData, outputStream);
+            assertEquals("{\"converter\":{\"pages\":\"1-5\"}}\n{\"converter\":{\"pages\":\"1-5\"}}",
+                    outputStream.toString(StandardCharsets.UTF_8),
+                    "Serialization should have been written to the open stream.");
+            assertArrayEquals(SerializeHelper.toJSON(operationData).getBytes(StandardCharsets.UTF_8),
+                    SerializeHelper.toJSONBytes(operationData),
+                    "Serialized bytes should have matched the serialized string.");
+        });
+    }
+
     @Test
     public void toJSONNullContent() {
         assertDoesNotThrow(() -> assertEquals("null", SerializeHelper.toJSON(null),